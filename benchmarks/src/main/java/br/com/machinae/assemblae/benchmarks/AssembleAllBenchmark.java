@@ -0,0 +1,63 @@
+package br.com.machinae.assemblae.benchmarks;
+
+import br.com.machinae.assemblae.Assemblae;
+import br.com.machinae.assemblae.Parallelism;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * assembleAll of 1, 1k and 1M models, sequential and parallel, against a hand-written loop.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AssembleAllBenchmark {
+
+    @Param({"1", "1000", "1000000"})
+    private int size;
+
+    private Collection<Object> models;
+
+    private Parallelism parallelism;
+
+    @Setup
+    public void setUp() {
+        models = Fixtures.smallModels(size);
+        parallelism = Parallelism.defaults().withThreshold(0);
+    }
+
+    @Benchmark
+    public Collection<SmallDTO> sequential() {
+        return Assemblae.assembleAll(models, SmallDTO.class);
+    }
+
+    @Benchmark
+    public Collection<SmallDTO> parallel() {
+        return Assemblae.assembleAll(models, SmallDTO.class, parallelism);
+    }
+
+    @Benchmark
+    public Collection<SmallDTO> handWritten() {
+        List<SmallDTO> dtos = new ArrayList<SmallDTO>(models.size());
+        for (Object model : models)
+            dtos.add(Fixtures.toSmallDTO((SmallModel) model));
+        return dtos;
+    }
+}
@@ -0,0 +1,80 @@
+package br.com.machinae.assemblae.benchmarks;
+
+import br.com.machinae.assemblae.Assemblae;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single model assemble of small, wide, renamed and transformed DTOs, each one next to its hand-written baseline.
+ *
+ * Run with {@code java -jar benchmarks/target/benchmarks.jar AssembleBenchmark -prof gc} to also report the
+ * allocation rate.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AssembleBenchmark {
+
+    private SmallModel small;
+
+    private WideModel wide;
+
+    @Setup
+    public void setUp() {
+        small = Fixtures.smallModel(1);
+        wide = Fixtures.wideModel(1);
+    }
+
+    @Benchmark
+    public SmallDTO small() {
+        return Assemblae.assemble(small, SmallDTO.class);
+    }
+
+    @Benchmark
+    public SmallDTO smallHandWritten() {
+        return Fixtures.toSmallDTO(small);
+    }
+
+    @Benchmark
+    public WideDTO wide() {
+        return Assemblae.assemble(wide, WideDTO.class);
+    }
+
+    @Benchmark
+    public WideDTO wideHandWritten() {
+        return Fixtures.toWideDTO(wide);
+    }
+
+    @Benchmark
+    public RenamedDTO renamed() {
+        return Assemblae.assemble(small, RenamedDTO.class);
+    }
+
+    @Benchmark
+    public RenamedDTO renamedHandWritten() {
+        return Fixtures.toRenamedDTO(small);
+    }
+
+    @Benchmark
+    public TransformedDTO transformed() {
+        return Assemblae.assemble(small, TransformedDTO.class);
+    }
+
+    @Benchmark
+    public TransformedDTO transformedHandWritten() {
+        return Fixtures.toTransformedDTO(small);
+    }
+}
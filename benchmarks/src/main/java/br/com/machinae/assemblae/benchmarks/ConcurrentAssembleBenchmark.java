@@ -0,0 +1,52 @@
+package br.com.machinae.assemblae.benchmarks;
+
+import br.com.machinae.assemblae.Assemblae;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single model assemble from all available threads at once, exposing contention on shared plans and caches.
+ * Compare with the same methods of {@link AssembleBenchmark}, which run on a single thread.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Thread)
+public class ConcurrentAssembleBenchmark {
+
+    private SmallModel small;
+
+    @Setup
+    public void setUp() {
+        small = Fixtures.smallModel(1);
+    }
+
+    @Benchmark
+    public SmallDTO small() {
+        return Assemblae.assemble(small, SmallDTO.class);
+    }
+
+    @Benchmark
+    public TransformedDTO transformed() {
+        return Assemblae.assemble(small, TransformedDTO.class);
+    }
+
+    @Benchmark
+    public SmallDTO smallHandWritten() {
+        return Fixtures.toSmallDTO(small);
+    }
+}
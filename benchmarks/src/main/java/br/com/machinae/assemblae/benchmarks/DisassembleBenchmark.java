@@ -0,0 +1,62 @@
+package br.com.machinae.assemblae.benchmarks;
+
+import br.com.machinae.assemblae.Assemblae;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DTO to model copy, by name and renamed, against hand-written baselines.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DisassembleBenchmark {
+
+    private SmallDTO small;
+
+    private RenamedDTO renamed;
+
+    private SmallModel model;
+
+    @Setup
+    public void setUp() {
+        small = Fixtures.toSmallDTO(Fixtures.smallModel(1));
+        renamed = Fixtures.toRenamedDTO(Fixtures.smallModel(2));
+        model = new SmallModel();
+    }
+
+    @Benchmark
+    public SmallModel small() {
+        return Assemblae.disassemble(small, model);
+    }
+
+    @Benchmark
+    public SmallModel smallHandWritten() {
+        Fixtures.fromSmallDTO(small, model);
+        return model;
+    }
+
+    @Benchmark
+    public SmallModel renamed() {
+        return Assemblae.disassemble(renamed, model);
+    }
+
+    @Benchmark
+    public SmallModel renamedHandWritten() {
+        Fixtures.fromRenamedDTO(renamed, model);
+        return model;
+    }
+}
@@ -0,0 +1,113 @@
+package br.com.machinae.assemblae.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * Benchmark models and the hand-written mappings used as baseline.
+ */
+final class Fixtures {
+
+    private Fixtures() {}
+
+    static SmallModel smallModel(int i) {
+        SmallModel model = new SmallModel();
+        model.setId((long) i);
+        model.setName("name" + i);
+        model.setQuantity(i);
+        return model;
+    }
+
+    static WideModel wideModel(int i) {
+        WideModel model = new WideModel();
+        model.setProperty00((long) i);
+        model.setProperty01("value" + i);
+        model.setProperty02(i);
+        model.setProperty03(i / 2.0);
+        model.setProperty04(i % 2 == 0);
+        model.setProperty05((long) i);
+        model.setProperty06("value" + i);
+        model.setProperty07(i);
+        model.setProperty08(i / 2.0);
+        model.setProperty09(i % 2 == 0);
+        model.setProperty10((long) i);
+        model.setProperty11("value" + i);
+        model.setProperty12(i);
+        model.setProperty13(i / 2.0);
+        model.setProperty14(i % 2 == 0);
+        model.setProperty15((long) i);
+        model.setProperty16("value" + i);
+        model.setProperty17(i);
+        model.setProperty18(i / 2.0);
+        model.setProperty19(i % 2 == 0);
+        return model;
+    }
+
+    static Collection<Object> smallModels(int size) {
+        Collection<Object> models = new ArrayList<Object>(size);
+        for (int i = 0; i < size; i++)
+            models.add(smallModel(i));
+        return models;
+    }
+
+    static SmallDTO toSmallDTO(SmallModel model) {
+        SmallDTO dto = new SmallDTO();
+        dto.setId(model.getId());
+        dto.setName(model.getName());
+        dto.setQuantity(model.getQuantity());
+        return dto;
+    }
+
+    static WideDTO toWideDTO(WideModel model) {
+        WideDTO dto = new WideDTO();
+        dto.setProperty00(model.getProperty00());
+        dto.setProperty01(model.getProperty01());
+        dto.setProperty02(model.getProperty02());
+        dto.setProperty03(model.getProperty03());
+        dto.setProperty04(model.getProperty04());
+        dto.setProperty05(model.getProperty05());
+        dto.setProperty06(model.getProperty06());
+        dto.setProperty07(model.getProperty07());
+        dto.setProperty08(model.getProperty08());
+        dto.setProperty09(model.getProperty09());
+        dto.setProperty10(model.getProperty10());
+        dto.setProperty11(model.getProperty11());
+        dto.setProperty12(model.getProperty12());
+        dto.setProperty13(model.getProperty13());
+        dto.setProperty14(model.getProperty14());
+        dto.setProperty15(model.getProperty15());
+        dto.setProperty16(model.getProperty16());
+        dto.setProperty17(model.getProperty17());
+        dto.setProperty18(model.getProperty18());
+        dto.setProperty19(model.getProperty19());
+        return dto;
+    }
+
+    static RenamedDTO toRenamedDTO(SmallModel model) {
+        RenamedDTO dto = new RenamedDTO();
+        dto.setCode(model.getId());
+        dto.setLabel(model.getName());
+        dto.setAmount(model.getQuantity());
+        return dto;
+    }
+
+    static TransformedDTO toTransformedDTO(SmallModel model) {
+        TransformedDTO dto = new TransformedDTO();
+        dto.setId(model.getId() == null ? null : model.getId().toString());
+        dto.setName(model.getName() == null ? null : model.getName().toUpperCase());
+        dto.setQuantity(model.getQuantity() == null ? null : model.getQuantity().toString());
+        return dto;
+    }
+
+    static void fromSmallDTO(SmallDTO dto, SmallModel model) {
+        model.setId(dto.getId());
+        model.setName(dto.getName());
+        model.setQuantity(dto.getQuantity());
+    }
+
+    static void fromRenamedDTO(RenamedDTO dto, SmallModel model) {
+        model.setId(dto.getCode());
+        model.setName(dto.getLabel());
+        model.setQuantity(dto.getAmount());
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.machinae.assemblae.benchmarks;
+
+import br.com.machinae.assemblae.annotation.DataTransferObject;
+import br.com.machinae.assemblae.annotation.MappedProperty;
+
+/**
+ * DTO copying SmallModel properties under other names.
+ */
+@DataTransferObject
+public class RenamedDTO {
+
+    @MappedProperty(to = "id")
+    private Long code;
+
+    @MappedProperty(to = "name")
+    private String label;
+
+    @MappedProperty(to = "quantity")
+    private Integer amount;
+
+    public Long getCode() {
+        return code;
+    }
+
+    public void setCode(Long code) {
+        this.code = code;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+
+    public Integer getAmount() {
+        return amount;
+    }
+
+    public void setAmount(Integer amount) {
+        this.amount = amount;
+    }
+}
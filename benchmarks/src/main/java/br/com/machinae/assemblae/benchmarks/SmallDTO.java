@@ -0,0 +1,40 @@
+package br.com.machinae.assemblae.benchmarks;
+
+import br.com.machinae.assemblae.annotation.DataTransferObject;
+
+/**
+ * DTO copying all properties of SmallModel by name.
+ */
+@DataTransferObject
+public class SmallDTO {
+
+    private Long id;
+
+    private String name;
+
+    private Integer quantity;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.machinae.assemblae.benchmarks;
+
+/**
+ * Model with a few properties.
+ */
+public class SmallModel {
+
+    private Long id;
+
+    private String name;
+
+    private Integer quantity;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+}
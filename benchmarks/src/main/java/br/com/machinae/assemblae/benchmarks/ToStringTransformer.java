@@ -0,0 +1,19 @@
+package br.com.machinae.assemblae.benchmarks;
+
+import br.com.machinae.assemblae.Transformer;
+
+/**
+ * Transforms numbers in their decimal representation.
+ */
+public class ToStringTransformer implements Transformer<Object, Object> {
+
+    @Override
+    public Object transform(Object data) {
+        return data == null ? null : data.toString();
+    }
+
+    @Override
+    public Object reverse(Object data) {
+        return data == null ? null : Long.valueOf(data.toString());
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.machinae.assemblae.benchmarks;
+
+import br.com.machinae.assemblae.annotation.DataTransferObject;
+import br.com.machinae.assemblae.annotation.MappedProperty;
+
+/**
+ * DTO transforming every SmallModel property.
+ */
+@DataTransferObject
+public class TransformedDTO {
+
+    @MappedProperty(transformer = ToStringTransformer.class)
+    private String id;
+
+    @MappedProperty(transformer = UpperCaseTransformer.class)
+    private String name;
+
+    @MappedProperty(transformer = ToStringTransformer.class)
+    private String quantity;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(String quantity) {
+        this.quantity = quantity;
+    }
+}
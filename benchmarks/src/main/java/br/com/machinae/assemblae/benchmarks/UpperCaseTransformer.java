@@ -0,0 +1,19 @@
+package br.com.machinae.assemblae.benchmarks;
+
+import br.com.machinae.assemblae.Transformer;
+
+/**
+ * Transforms texts to upper case, reversing to lower case.
+ */
+public class UpperCaseTransformer implements Transformer<Object, Object> {
+
+    @Override
+    public Object transform(Object data) {
+        return data == null ? null : data.toString().toUpperCase();
+    }
+
+    @Override
+    public Object reverse(Object data) {
+        return data == null ? null : data.toString().toLowerCase();
+    }
+}
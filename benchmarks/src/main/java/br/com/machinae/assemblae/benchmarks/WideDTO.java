@@ -0,0 +1,210 @@
+package br.com.machinae.assemblae.benchmarks;
+
+import br.com.machinae.assemblae.annotation.DataTransferObject;
+
+/**
+ * DTO copying all twenty properties of WideModel by name.
+ */
+@DataTransferObject
+public class WideDTO {
+
+    private Long property00;
+
+    private String property01;
+
+    private Integer property02;
+
+    private Double property03;
+
+    private Boolean property04;
+
+    private Long property05;
+
+    private String property06;
+
+    private Integer property07;
+
+    private Double property08;
+
+    private Boolean property09;
+
+    private Long property10;
+
+    private String property11;
+
+    private Integer property12;
+
+    private Double property13;
+
+    private Boolean property14;
+
+    private Long property15;
+
+    private String property16;
+
+    private Integer property17;
+
+    private Double property18;
+
+    private Boolean property19;
+
+    public Long getProperty00() {
+        return property00;
+    }
+
+    public void setProperty00(Long property00) {
+        this.property00 = property00;
+    }
+
+    public String getProperty01() {
+        return property01;
+    }
+
+    public void setProperty01(String property01) {
+        this.property01 = property01;
+    }
+
+    public Integer getProperty02() {
+        return property02;
+    }
+
+    public void setProperty02(Integer property02) {
+        this.property02 = property02;
+    }
+
+    public Double getProperty03() {
+        return property03;
+    }
+
+    public void setProperty03(Double property03) {
+        this.property03 = property03;
+    }
+
+    public Boolean getProperty04() {
+        return property04;
+    }
+
+    public void setProperty04(Boolean property04) {
+        this.property04 = property04;
+    }
+
+    public Long getProperty05() {
+        return property05;
+    }
+
+    public void setProperty05(Long property05) {
+        this.property05 = property05;
+    }
+
+    public String getProperty06() {
+        return property06;
+    }
+
+    public void setProperty06(String property06) {
+        this.property06 = property06;
+    }
+
+    public Integer getProperty07() {
+        return property07;
+    }
+
+    public void setProperty07(Integer property07) {
+        this.property07 = property07;
+    }
+
+    public Double getProperty08() {
+        return property08;
+    }
+
+    public void setProperty08(Double property08) {
+        this.property08 = property08;
+    }
+
+    public Boolean getProperty09() {
+        return property09;
+    }
+
+    public void setProperty09(Boolean property09) {
+        this.property09 = property09;
+    }
+
+    public Long getProperty10() {
+        return property10;
+    }
+
+    public void setProperty10(Long property10) {
+        this.property10 = property10;
+    }
+
+    public String getProperty11() {
+        return property11;
+    }
+
+    public void setProperty11(String property11) {
+        this.property11 = property11;
+    }
+
+    public Integer getProperty12() {
+        return property12;
+    }
+
+    public void setProperty12(Integer property12) {
+        this.property12 = property12;
+    }
+
+    public Double getProperty13() {
+        return property13;
+    }
+
+    public void setProperty13(Double property13) {
+        this.property13 = property13;
+    }
+
+    public Boolean getProperty14() {
+        return property14;
+    }
+
+    public void setProperty14(Boolean property14) {
+        this.property14 = property14;
+    }
+
+    public Long getProperty15() {
+        return property15;
+    }
+
+    public void setProperty15(Long property15) {
+        this.property15 = property15;
+    }
+
+    public String getProperty16() {
+        return property16;
+    }
+
+    public void setProperty16(String property16) {
+        this.property16 = property16;
+    }
+
+    public Integer getProperty17() {
+        return property17;
+    }
+
+    public void setProperty17(Integer property17) {
+        this.property17 = property17;
+    }
+
+    public Double getProperty18() {
+        return property18;
+    }
+
+    public void setProperty18(Double property18) {
+        this.property18 = property18;
+    }
+
+    public Boolean getProperty19() {
+        return property19;
+    }
+
+    public void setProperty19(Boolean property19) {
+        this.property19 = property19;
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.machinae.assemblae;
+
+/**
+ * How Assemblae reads and writes the properties of a DTO and of its models.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ * @see br.com.machinae.assemblae.annotation.DataTransferObject#access()
+ */
+public enum AccessType {
+
+    /**
+     * The access type set by {@link Assemblae#setDefaultAccessType}, PROPERTY unless changed.
+     */
+    DEFAULT,
+
+    /**
+     * JavaBean getters and setters, or commons-beanutils expressions for nested, indexed and mapped properties.
+     */
+    PROPERTY,
+
+    /**
+     * Fields, whatever their visibility, read and written through cached method handles, so DTOs and models
+     * need no accessors. Final fields can not be written.
+     */
+    FIELD
+}
@@ -0,0 +1,380 @@
+package br.com.machinae.assemblae;
+
+import com.google.common.cache.CacheStats;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Utility to transform a model in a transfer object (DTO), and to update the model from a DTO.
+ * Every call is delegated to the default {@link AssemblaeEngine}.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ * @see <a href="http://msdn.microsoft.com/en-us/library/ms978717.aspx">referência</a>
+ * @see <a href="http://java.sun.com/blueprints/corej2eepatterns/Patterns/TransferObjectAssembler.html">referência</a>
+ * @see <a href="http://www.inspire-software.com/en/index/view/open-source-GeDA-generic-DTO-assembler.html> Inspiração </a>
+ * @since 21/10/2012
+ */
+public class Assemblae {
+
+    private static volatile AssemblaeEngine engine = AssemblaeEngine.builder().build();
+
+    private Assemblae(){}
+
+    public static <T> T assemble(Object model, Class<T> dtoClass) {
+        return engine.assemble(model, dtoClass);
+    }
+
+    /**
+     * Assemble only the selected properties of a DTO, the others are left unset and their model properties are
+     * neither read nor transformed. The selection is compiled once, in a plan reused by equal selections.
+     *
+     * @param model model
+     * @param dtoClass dto class
+     * @param selection properties to assemble, dotted paths for properties of nested DTOs
+     * @return dto instance
+     * @throws IllegalArgumentException when a selected property does not exist
+     */
+    public static <T> T assemble(Object model, Class<T> dtoClass, FieldSelection selection) {
+        return engine.assemble(model, dtoClass, selection);
+    }
+
+    public static <T> Collection<T> assembleAll(Collection<Object> models, Class<T> dtoClass){
+        return engine.assembleAll(models, dtoClass);
+    }
+
+    /**
+     * Assemble a model in an existing DTO, overwriting its mapped properties, so DTOs can be reused instead of
+     * allocated per model.
+     *
+     * @param model model
+     * @param dto dto to populate
+     * @return dto
+     * @see AssemblaeEngine#assembleInto(Object, Object)
+     */
+    public static <T> T assembleInto(Object model, T dto) {
+        return engine.assembleInto(model, dto);
+    }
+
+    /**
+     * Assemble each model in the DTO at the same position of dtos, refilling them instead of allocating new ones.
+     *
+     * @param models collection of model
+     * @param dtos dtos to populate, at least as many as models
+     * @return dtos
+     * @see AssemblaeEngine#assembleAll(Collection, List)
+     */
+    public static <T> List<T> assembleAll(Collection<Object> models, List<T> dtos) {
+        return engine.assembleAll(models, dtos);
+    }
+
+    /**
+     * Assemble each model in the DTO at the same position of dtos.
+     *
+     * @param models collection of model
+     * @param dtos dtos to populate, at least as many as models
+     * @return dtos
+     * @see AssemblaeEngine#assembleAll(Collection, Object[])
+     */
+    public static <T> T[] assembleAll(Collection<Object> models, T[] dtos) {
+        return engine.assembleAll(models, dtos);
+    }
+
+    /**
+     * Creates a pool of DTO instances assembled by the default engine.
+     *
+     * @param dtoClass dto class, with a no-arg constructor
+     * @param capacity maximum number of idle DTOs kept
+     * @return empty pool
+     * @see AssemblaeEngine#pool(Class, int)
+     */
+    public static <T> DtoPool<T> pool(Class<T> dtoClass, int capacity) {
+        return engine.pool(dtoClass, capacity);
+    }
+
+    /**
+     * Assemble only the selected properties of each model.
+     *
+     * @param models collection of model
+     * @param dtoClass dto class
+     * @param selection properties to assemble, dotted paths for properties of nested DTOs
+     * @return dtos collection
+     * @see #assemble(Object, Class, FieldSelection)
+     */
+    public static <T> Collection<T> assembleAll(Collection<Object> models, Class<T> dtoClass, FieldSelection selection) {
+        return engine.assembleAll(models, dtoClass, selection);
+    }
+
+    /**
+     * Assemble a row of a projection, reading each model property from the column of the same name.
+     *
+     * @param row row
+     * @param dtoClass dto class
+     * @param layout column names of row
+     * @return dto instance
+     * @see AssemblaeEngine#assemble(Object[], Class, TupleLayout)
+     */
+    public static <T> T assemble(Object[] row, Class<T> dtoClass, TupleLayout layout) {
+        return engine.assemble(row, dtoClass, layout);
+    }
+
+    /**
+     * Assemble all rows of a layout.
+     *
+     * @param rows rows
+     * @param dtoClass dto class
+     * @param layout column names of the rows
+     * @return dtos collection
+     * @see AssemblaeEngine#assembleAll(Collection, Class, TupleLayout)
+     */
+    public static <T> Collection<T> assembleAll(Collection<Object[]> rows, Class<T> dtoClass, TupleLayout layout) {
+        return engine.assembleAll(rows, dtoClass, layout);
+    }
+
+    /**
+     * Update a model from a DTO: each mapped property of the DTO is copied back to its model property, through
+     * the reverse transformation of its transformer. Ignored properties are left untouched.
+     *
+     * @param dto dto, an instance of a {@link br.com.machinae.assemblae.annotation.DataTransferObject} class
+     * @param model model to update
+     * @return the updated model
+     */
+    public static <M> M disassemble(Object dto, M model) {
+        return engine.disassemble(dto, model);
+    }
+
+    /**
+     * Gets the properties that disassembling a DTO would write: the ones changed since it was assembled or last
+     * disassembled, when its class tracks changes, all of them otherwise.
+     *
+     * @param dto dto, an instance of a {@link br.com.machinae.assemblae.annotation.DataTransferObject} class
+     * @return names of the changed DTO properties
+     * @see br.com.machinae.assemblae.annotation.DataTransferObject#trackChanges()
+     */
+    public static Set<String> getChangedProperties(Object dto) {
+        return engine.getChangedProperties(dto);
+    }
+
+    /**
+     * Update each model from the DTO at the same position.
+     *
+     * @param dtos dtos
+     * @param models models to update, as many as dtos
+     * @return the updated models
+     */
+    public static <M> Collection<M> disassembleAll(Collection<?> dtos, Collection<M> models) {
+        return engine.disassembleAll(dtos, models);
+    }
+
+    /**
+     * Assemble all models in parallel, each one with the assembler of its own class. Batch properties are
+     * transformed for the whole collection on the calling thread, before the models are split among the workers.
+     *
+     * @param models collection of model
+     * @param dtoClass dto class
+     * @param parallelism executor, chunking and ordering configuration
+     * @return dtos collection
+     */
+    public static <T> Collection<T> assembleAll(Collection<Object> models, final Class<T> dtoClass, Parallelism parallelism) {
+        return engine.assembleAll(models, dtoClass, parallelism);
+    }
+
+    /**
+     * Assemble a model without blocking the caller, transforming the properties with an {@link AsyncTransformer}
+     * concurrently.
+     *
+     * @param model model
+     * @param dtoClass dto class
+     * @return future of the dto
+     * @see AssemblaeEngine#assembleAsync(Object, Class)
+     */
+    public static <T> CompletableFuture<T> assembleAsync(Object model, Class<T> dtoClass) {
+        return engine.assembleAsync(model, dtoClass);
+    }
+
+    /**
+     * Assemble models asynchronously, with at most maxConcurrency of them in flight.
+     *
+     * @param models collection of model
+     * @param dtoClass dto class
+     * @param maxConcurrency maximum number of models assembled at once
+     * @return future of the dtos, in models order
+     * @see AssemblaeEngine#assembleAllAsync(Collection, Class, int)
+     */
+    public static <T> CompletableFuture<Collection<T>> assembleAllAsync(Collection<Object> models, Class<T> dtoClass, int maxConcurrency) {
+        return engine.assembleAllAsync(models, dtoClass, maxConcurrency);
+    }
+
+    /**
+     * Lazily assemble models: each model is assembled only when its dto is consumed, so large results can be
+     * written as they are assembled without being held in memory. The stream is sized when models is a collection.
+     *
+     * @param models models
+     * @param dtoClass dto class
+     * @return sequential stream of dtos
+     */
+    public static <T> Stream<T> stream(Iterable<?> models, Class<T> dtoClass) {
+        return engine.stream(models, dtoClass);
+    }
+
+    /**
+     * Lazily assemble a stream of models, keeping its parallelism and close handlers.
+     *
+     * @param models models
+     * @param dtoClass dto class
+     * @return stream of dtos
+     */
+    public static <T> Stream<T> stream(final Stream<?> models, Class<T> dtoClass) {
+        return engine.stream(models, dtoClass);
+    }
+
+    /**
+     * Collector assembling each model as it is accumulated.
+     *
+     * @param dtoClass dto class
+     * @return collector of dtos in a list
+     */
+    public static <T> Collector<Object, ?, List<T>> assembling(final Class<T> dtoClass) {
+        return engine.assembling(dtoClass);
+    }
+
+    /**
+     * Builds, validates and caches the plans of DTO classes in parallel, so the first assemble of each class does
+     * not pay for its introspection. Mapping errors of all classes are reported at once.
+     *
+     * @param dtoClasses dto classes
+     * @throws AssemblerException listing the DTO classes that can not be assembled
+     */
+    public static void preload(Class<?>... dtoClasses) {
+        engine.preload(dtoClasses);
+    }
+
+    /**
+     * Builds, validates and caches the plans of DTO classes, running on executor.
+     *
+     * @param dtoClasses dto classes
+     * @param executor executor loading the plans, one DTO class per task
+     * @throws AssemblerException listing the DTO classes that can not be assembled
+     */
+    public static void preload(Collection<? extends Class<?>> dtoClasses, Executor executor) {
+        PlanPreloader.preload(engine, dtoClasses, executor);
+    }
+
+    /**
+     * Preloads every {@link br.com.machinae.assemblae.annotation.DataTransferObject} class found in packages and
+     * their subpackages, on the classpath of the context class loader.
+     *
+     * @param packageNames package names
+     * @return the DTO classes preloaded
+     * @throws AssemblerException listing the DTO classes that can not be assembled
+     */
+    public static Set<Class<?>> preloadPackages(String... packageNames) {
+        return engine.preloadPackages(packageNames);
+    }
+
+    /**
+     * Gets the statistics of the cache memoizing the transformer of a DTO property.
+     *
+     * @param dtoClass dto class
+     * @param dtoProperty dto property, whose transformer is cached
+     * @return hits, misses, load times and evictions of the property cache, in both directions
+     * @see AssemblaeEngine#getTransformerCacheStats(Class, String)
+     */
+    public static CacheStats getTransformerCacheStats(Class<?> dtoClass, String dtoProperty) {
+        return engine.getTransformerCacheStats(dtoClass, dtoProperty);
+    }
+
+    /**
+     * Engine Assemblae delegates to, built with the default configuration until replaced.
+     *
+     * @return default engine
+     */
+    public static AssemblaeEngine getDefaultEngine() {
+        return engine;
+    }
+
+    /**
+     * Replaces the engine Assemblae delegates to, and so every cached plan.
+     *
+     * @param defaultEngine engine
+     */
+    public static synchronized void setDefaultEngine(AssemblaeEngine defaultEngine) {
+        engine = checkNotNull(defaultEngine);
+    }
+
+    /**
+     * Registry of the transformers used by Assemblae, where applications can register pre-built instances
+     * and scopes before assembling.
+     *
+     * @return shared transformer registry
+     */
+    public static TransformerRegistry getTransformerRegistry() {
+        return engine.getTransformerRegistry();
+    }
+
+    /**
+     * Sets how DTOs annotated with the DEFAULT access type are accessed, replacing the default engine by one
+     * using accessType, whose plans are compiled again.
+     *
+     * @param accessType PROPERTY or FIELD
+     */
+    public static synchronized void setDefaultAccessType(AccessType accessType) {
+        engine = engine.toBuilder().withAccessType(accessType).build();
+    }
+
+    public static AccessType getDefaultAccessType() {
+        return engine.getAccessType();
+    }
+
+    /**
+     * Registers the listener notified of plan loads, assemblies and transformer calls, replacing the previous ones
+     * and the default engine by one notifying assemblyListener, whose plans are compiled again. Without a listener
+     * no timing is taken.
+     *
+     * @param assemblyListener listener, or null to disable instrumentation
+     * @see MetricsListener
+     */
+    public static synchronized void setAssemblyListener(AssemblyListener assemblyListener) {
+        AssemblaeEngine.Builder builder = engine.toBuilder().withoutListeners();
+        if (assemblyListener != null)
+            builder.withListener(assemblyListener);
+        engine = builder.build();
+    }
+
+    /**
+     * @return registered listener, null when instrumentation is disabled
+     */
+    public static AssemblyListener getAssemblyListener() {
+        return engine.getListener();
+    }
+
+    /**
+     * Gets the assembler of the default engine for a model and dto class pair.
+     *
+     * @param modelClass model class
+     * @param dtoClass dto class
+     * @return assembler for the pair
+     * @see AssemblaeEngine#assemblerFor(Class, Class)
+     */
+    static <T> Assembler<T> assemblerFor(Class<?> modelClass, Class<T> dtoClass) {
+        return engine.assemblerFor(modelClass, dtoClass);
+    }
+
+    /**
+     * @param dtoClass dto class
+     * @param selection selected properties, null for all of them
+     * @return the cached plan of the default engine for dtoClass, or for its projection on selection
+     */
+    static AssemblyPlan planFor(Class<?> dtoClass, FieldSelection selection) {
+        return engine.planFor(dtoClass, selection);
+    }
+
+}
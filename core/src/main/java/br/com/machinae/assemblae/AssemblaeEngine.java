@@ -0,0 +1,779 @@
+package br.com.machinae.assemblae;
+
+import com.google.common.base.Function;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableList;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static java.lang.String.format;
+
+/**
+ * Immutable, thread-safe assembly engine: its configuration is fixed when it is built, and it owns the compiled
+ * plans, generated assemblers and lazy proxies of the DTO classes it assembles. Engines are independent, so
+ * differently configured ones can run side by side; {@link Assemblae} delegates to a shared default engine.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+public final class AssemblaeEngine {
+
+    private final TransformerRegistry transformerRegistry;
+
+    private final AccessType accessType;
+
+    private final Executor executor;
+
+    private final AssemblyListener listener;
+
+    private final ImmutableList<AssemblyListener> listeners;
+
+    /**
+     * Compiled plans, one per DTO class, computed once and shared by every thread. Plans are attached to their DTO
+     * classes, so they never keep a DTO class loader reachable, and reference this engine only weakly, so the DTO
+     * classes do not keep the engine reachable either.
+     */
+    private final ClassValue<PlanHolder> plans = new ClassValue<PlanHolder>() {
+        @Override
+        protected PlanHolder computeValue(Class<?> dtoClass) {
+            return new PlanHolder();
+        }
+    };
+
+    private final WeakReference<AssemblaeEngine> reference = new WeakReference<AssemblaeEngine>(this);
+
+    private AssemblaeEngine(Builder builder) {
+        this.transformerRegistry = builder.transformerRegistry;
+        this.accessType = builder.accessType;
+        this.executor = builder.executor;
+        this.listeners = ImmutableList.copyOf(builder.listeners);
+        this.listener = listeners.isEmpty() ? null : listeners.size() == 1 ? listeners.get(0) : new CompositeListener(listeners);
+    }
+
+    /**
+     * @return builder of an engine with property access, a new transformer registry, the fork-join common pool
+     * and no listener
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return builder initialized with the configuration of this engine, sharing its transformer registry
+     */
+    public Builder toBuilder() {
+        Builder builder = new Builder()
+                .withTransformerRegistry(transformerRegistry)
+                .withAccessType(accessType)
+                .withExecutor(executor);
+        for (AssemblyListener each : listeners)
+            builder.withListener(each);
+        return builder;
+    }
+
+    public <T> T assemble(Object model, Class<T> dtoClass) {
+        checkNotNull(model, "Model assembled can not be null");
+
+        return assembleWith(model, dtoClass, this.<T>assemblerFor(model.getClass(), dtoClass));
+    }
+
+    /**
+     * Assemble only the selected properties of a DTO, the others are left unset and their model properties are
+     * neither read nor transformed. The selection is compiled once, in a plan reused by equal selections.
+     *
+     * @param model model
+     * @param dtoClass dto class
+     * @param selection properties to assemble, dotted paths for properties of nested DTOs
+     * @return dto instance
+     * @throws IllegalArgumentException when a selected property does not exist
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T assemble(Object model, Class<T> dtoClass, FieldSelection selection) {
+        checkNotNull(model, "Model assembled can not be null");
+        checkNotNull(selection, "Field selection can not be null");
+
+        return assembleWith(model, dtoClass, (Assembler<T>) planFor(dtoClass, selection).assemblerFor(model.getClass()));
+    }
+
+    private <T> T assembleWith(Object model, Class<T> dtoClass, Assembler<T> ae) {
+        if (listener == null)
+            return ae.assemble(model, dtoClass);
+
+        long start = System.nanoTime();
+        try {
+            return ae.assemble(model, dtoClass);
+        } finally {
+            listener.assembled(dtoClass, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Assemble all models, sharing the nested DTOs of their graphs. Properties with a {@link BatchTransformer}
+     * are transformed for the whole collection in a single call.
+     *
+     * @param models collection of model
+     * @param dtoClass dto class
+     * @return dtos collection
+     */
+    public <T> Collection<T> assembleAll(Collection<Object> models, Class<T> dtoClass) {
+        checkNotNull(models, "Model list can not be null");
+
+        long start = listener != null ? System.nanoTime() : 0;
+
+        // models of a graph share their nested DTOs across the whole collection
+        AssemblyPlan plan = loadPlan(dtoClass);
+        AssemblyContext context = plan.hasNested() ? AssemblyContext.enter() : null;
+        BatchContext batch = null;
+        Collection<T> dtos = new ArrayList<T>(models.size());
+        try {
+            // batch properties are transformed for the whole collection before the models are assembled
+            if (plan.hasBatch())
+                batch = BatchContext.enter(plan, models);
+            for (Object model : models)
+                dtos.add(assemble(model, dtoClass));
+        } finally {
+            if (batch != null)
+                batch.exit();
+            if (context != null)
+                context.exit();
+        }
+
+        if (listener != null)
+            listener.assembledAll(dtoClass, dtos.size(), System.nanoTime() - start);
+        return dtos;
+    }
+
+    /**
+     * Assemble a model in an existing DTO, overwriting its mapped properties, so DTOs can be reused instead of
+     * allocated per model. Ignored properties keep their values and nested DTOs are assembled anew.
+     *
+     * @param model model
+     * @param dto dto to populate
+     * @return dto
+     * @throws IllegalArgumentException when the DTO is a lazy proxy or is assembled by its constructor
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T assembleInto(Object model, T dto) {
+        checkNotNull(model, "Model assembled can not be null");
+        checkNotNull(dto, "DTO can not be null");
+
+        Class<T> dtoClass = (Class<T>) dto.getClass();
+        Assembler<T> ae = assemblerFor(model.getClass(), dtoClass);
+        if (listener == null) {
+            ae.assembleInto(model, dto);
+            return dto;
+        }
+
+        long start = System.nanoTime();
+        try {
+            ae.assembleInto(model, dto);
+            return dto;
+        } finally {
+            listener.assembled(dtoClass, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Assemble each model in the DTO at the same position of dtos, refilling them instead of allocating new ones.
+     * DTOs beyond the number of models are left untouched.
+     *
+     * @param models collection of model
+     * @param dtos dtos to populate, all of the same class, at least as many as models
+     * @return dtos
+     * @see #assembleInto(Object, Object)
+     */
+    public <T> List<T> assembleAll(Collection<Object> models, List<T> dtos) {
+        checkNotNull(models, "Model list can not be null");
+        checkNotNull(dtos, "DTO list can not be null");
+        checkArgument(dtos.size() >= models.size(), "%s DTOs can not hold %s models", dtos.size(), models.size());
+        if (models.isEmpty())
+            return dtos;
+
+        long start = listener != null ? System.nanoTime() : 0;
+
+        Class<?> dtoClass = checkNotNull(dtos.get(0), "DTO can not be null").getClass();
+        AssemblyPlan plan = loadPlan(dtoClass);
+        AssemblyContext context = plan.hasNested() ? AssemblyContext.enter() : null;
+        BatchContext batch = null;
+        try {
+            if (plan.hasBatch())
+                batch = BatchContext.enter(plan, models);
+            Iterator<T> iterator = dtos.iterator();
+            for (Object model : models)
+                assembleInto(model, iterator.next());
+        } finally {
+            if (batch != null)
+                batch.exit();
+            if (context != null)
+                context.exit();
+        }
+
+        if (listener != null)
+            listener.assembledAll(dtoClass, models.size(), System.nanoTime() - start);
+        return dtos;
+    }
+
+    /**
+     * Assemble each model in the DTO at the same position of dtos.
+     *
+     * @param models collection of model
+     * @param dtos dtos to populate, all of the same class, at least as many as models
+     * @return dtos
+     * @see #assembleAll(Collection, List)
+     */
+    public <T> T[] assembleAll(Collection<Object> models, T[] dtos) {
+        checkNotNull(dtos, "DTO array can not be null");
+
+        assembleAll(models, Arrays.asList(dtos));
+        return dtos;
+    }
+
+    /**
+     * Creates a pool of DTO instances assembled by this engine.
+     *
+     * @param dtoClass dto class, with a no-arg constructor
+     * @param capacity maximum number of idle DTOs kept
+     * @return empty pool
+     */
+    public <T> DtoPool<T> pool(Class<T> dtoClass, int capacity) {
+        return new DtoPool<T>(this, dtoClass, capacity);
+    }
+
+    /**
+     * Assemble only the selected properties of each model.
+     *
+     * @param models collection of model
+     * @param dtoClass dto class
+     * @param selection properties to assemble, dotted paths for properties of nested DTOs
+     * @return dtos collection
+     * @see #assemble(Object, Class, FieldSelection)
+     */
+    public <T> Collection<T> assembleAll(Collection<Object> models, Class<T> dtoClass, FieldSelection selection) {
+        checkNotNull(models, "Model list can not be null");
+        checkNotNull(selection, "Field selection can not be null");
+
+        long start = listener != null ? System.nanoTime() : 0;
+
+        AssemblyPlan plan = planFor(dtoClass, selection);
+        AssemblyContext context = plan.hasNested() ? AssemblyContext.enter() : null;
+        BatchContext batch = null;
+        Collection<T> dtos = new ArrayList<T>(models.size());
+        try {
+            if (plan.hasBatch())
+                batch = BatchContext.enter(plan, models);
+            for (Object model : models)
+                dtos.add(assemble(model, dtoClass, selection));
+        } finally {
+            if (batch != null)
+                batch.exit();
+            if (context != null)
+                context.exit();
+        }
+
+        if (listener != null)
+            listener.assembledAll(dtoClass, dtos.size(), System.nanoTime() - start);
+        return dtos;
+    }
+
+    /**
+     * Assemble a row of a projection, such as the {@code Object[]} results of a query, reading each model property
+     * from the column of the same name. Columns are resolved once per DTO class and layout, so each property is
+     * read by index. Projections returned as maps are assembled by {@link #assemble(Object, Class)}, by key.
+     *
+     * @param row row
+     * @param dtoClass dto class
+     * @param layout column names of row
+     * @return dto instance
+     * @throws IllegalArgumentException when a model property has no column in layout
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T assemble(Object[] row, Class<T> dtoClass, TupleLayout layout) {
+        checkNotNull(row, "Row assembled can not be null");
+        checkNotNull(layout, "Tuple layout can not be null");
+
+        AssemblyPlan plan = loadPlan(dtoClass);
+        return assembleWith(row, dtoClass, (Assembler<T>) plan.track(plan.rowAssemblerFor(layout)));
+    }
+
+    /**
+     * Assemble all rows of a layout, sharing the nested DTOs of their graphs. Properties with a
+     * {@link BatchTransformer} are transformed for the whole collection in a single call.
+     *
+     * @param rows rows
+     * @param dtoClass dto class
+     * @param layout column names of the rows
+     * @return dtos collection
+     * @see #assemble(Object[], Class, TupleLayout)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Collection<T> assembleAll(Collection<Object[]> rows, Class<T> dtoClass, TupleLayout layout) {
+        checkNotNull(rows, "Row list can not be null");
+        checkNotNull(layout, "Tuple layout can not be null");
+
+        long start = listener != null ? System.nanoTime() : 0;
+
+        AssemblyPlan plan = loadPlan(dtoClass);
+        TupleAssembler tuples = plan.rowAssemblerFor(layout);
+        Assembler<T> ae = (Assembler<T>) plan.track(tuples);
+        AssemblyContext context = plan.hasNested() ? AssemblyContext.enter() : null;
+        BatchContext batch = null;
+        Collection<T> dtos = new ArrayList<T>(rows.size());
+        try {
+            if (plan.hasBatch())
+                batch = BatchContext.enter(plan, rows, tuples);
+            for (Object[] row : rows)
+                dtos.add(assembleWith(checkNotNull(row, "Row assembled can not be null"), dtoClass, ae));
+        } finally {
+            if (batch != null)
+                batch.exit();
+            if (context != null)
+                context.exit();
+        }
+
+        if (listener != null)
+            listener.assembledAll(dtoClass, dtos.size(), System.nanoTime() - start);
+        return dtos;
+    }
+
+    /**
+     * Assemble all models in parallel, each one with the assembler of its own class. Batch properties are
+     * transformed for the whole collection on the calling thread, before the models are split among the workers.
+     *
+     * @param models collection of model
+     * @param dtoClass dto class
+     * @param parallelism executor, chunking and ordering configuration
+     * @return dtos collection
+     * @see #getParallelism()
+     */
+    public <T> Collection<T> assembleAll(Collection<Object> models, final Class<T> dtoClass, Parallelism parallelism) {
+        checkNotNull(models, "Model list can not be null");
+
+        long start = listener != null ? System.nanoTime() : 0;
+
+        AssemblyPlan plan = loadPlan(dtoClass);
+        Collection<T> dtos = ParallelAssembly.assembleAll(models, new Function<Object, T>() {
+            @Override
+            public T apply(Object model) {
+                return assemble(model, dtoClass);
+            }
+        }, parallelism, plan.hasBatch() ? BatchContext.of(plan, models) : null);
+
+        if (listener != null)
+            listener.assembledAll(dtoClass, dtos.size(), System.nanoTime() - start);
+        return dtos;
+    }
+
+    /**
+     * Update a model from a DTO: each mapped property of the DTO is copied back to its model property, through
+     * the reverse transformation of its transformer. Ignored properties are left untouched.
+     *
+     * @param dto dto, an instance of a {@link br.com.machinae.assemblae.annotation.DataTransferObject} class
+     * @param model model to update
+     * @return the updated model
+     */
+    @SuppressWarnings("unchecked")
+    public <M> M disassemble(Object dto, M model) {
+        checkNotNull(dto, "DTO disassembled can not be null");
+        checkNotNull(model, "Model can not be null");
+
+        Assembler<Object> ae = (Assembler<Object>) assemblerFor(model.getClass(), dto.getClass());
+
+        if (listener == null) {
+            ae.disassemble(dto, model);
+            return model;
+        }
+
+        long start = System.nanoTime();
+        try {
+            ae.disassemble(dto, model);
+            return model;
+        } finally {
+            listener.disassembled(dto.getClass(), System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Update each model from the DTO at the same position.
+     *
+     * @param dtos dtos
+     * @param models models to update, as many as dtos
+     * @return the updated models
+     */
+    public <M> Collection<M> disassembleAll(Collection<?> dtos, Collection<M> models) {
+        checkNotNull(dtos, "DTO list can not be null");
+        checkNotNull(models, "Model list can not be null");
+        checkArgument(dtos.size() == models.size(), "Got %s DTOs for %s models", dtos.size(), models.size());
+
+        Iterator<M> model = models.iterator();
+        for (Object dto : dtos)
+            disassemble(dto, model.next());
+
+        return models;
+    }
+
+    /**
+     * Gets the properties that disassembling a DTO would write: the ones changed since it was assembled or last
+     * disassembled, when its class tracks changes, all of them otherwise.
+     *
+     * @param dto dto, an instance of a {@link br.com.machinae.assemblae.annotation.DataTransferObject} class
+     * @return names of the changed DTO properties
+     * @see br.com.machinae.assemblae.annotation.DataTransferObject#trackChanges()
+     */
+    public Set<String> getChangedProperties(Object dto) {
+        checkNotNull(dto, "DTO can not be null");
+
+        return TrackingAssembler.changedProperties(dto, loadPlan(dto.getClass()));
+    }
+
+    /**
+     * Assemble a model on the executor of this engine, without blocking the caller. Properties with an
+     * {@link AsyncTransformer} are transformed concurrently, the others are copied on the executor. Runtimes with
+     * virtual threads can supply an executor of them, so blocking transformers do not hold platform threads.
+     *
+     * @param model model
+     * @param dtoClass dto class
+     * @return future of the dto, completed exceptionally when assembling fails
+     */
+    public <T> CompletableFuture<T> assembleAsync(Object model, Class<T> dtoClass) {
+        return AsyncAssembly.assemble(this, model, dtoClass, executor);
+    }
+
+    /**
+     * Assemble models asynchronously, with at most maxConcurrency of them in flight.
+     *
+     * @param models collection of model
+     * @param dtoClass dto class
+     * @param maxConcurrency maximum number of models assembled at once
+     * @return future of the dtos, in models order, completed exceptionally by the first failure
+     * @see #assembleAsync(Object, Class)
+     */
+    public <T> CompletableFuture<Collection<T>> assembleAllAsync(Collection<Object> models, Class<T> dtoClass, int maxConcurrency) {
+        return AsyncAssembly.assembleAll(this, models, dtoClass, executor, maxConcurrency);
+    }
+
+    /**
+     * Lazily assemble models: each model is assembled only when its dto is consumed, so large results can be
+     * written as they are assembled without being held in memory. The stream is sized when models is a collection.
+     *
+     * @param models models
+     * @param dtoClass dto class
+     * @return sequential stream of dtos
+     */
+    public <T> Stream<T> stream(Iterable<?> models, Class<T> dtoClass) {
+        checkNotNull(models, "Model list can not be null");
+
+        return StreamSupport.stream(new AssemblingSpliterator<T>(this, models.spliterator(), dtoClass), false);
+    }
+
+    /**
+     * Lazily assemble a stream of models, keeping its parallelism and close handlers.
+     *
+     * @param models models
+     * @param dtoClass dto class
+     * @return stream of dtos
+     */
+    public <T> Stream<T> stream(final Stream<?> models, Class<T> dtoClass) {
+        checkNotNull(models, "Model stream can not be null");
+
+        return StreamSupport.stream(new AssemblingSpliterator<T>(this, models.spliterator(), dtoClass), models.isParallel())
+                .onClose(new Runnable() {
+                    @Override
+                    public void run() {
+                        models.close();
+                    }
+                });
+    }
+
+    /**
+     * Collector assembling each model as it is accumulated.
+     *
+     * @param dtoClass dto class
+     * @return collector of dtos in a list
+     */
+    public <T> Collector<Object, ?, List<T>> assembling(final Class<T> dtoClass) {
+        checkNotNull(dtoClass);
+
+        return Collector.of(new Supplier<List<T>>() {
+            @Override
+            public List<T> get() {
+                return new ArrayList<T>();
+            }
+        }, new BiConsumer<List<T>, Object>() {
+            @Override
+            public void accept(List<T> dtos, Object model) {
+                dtos.add(assemble(model, dtoClass));
+            }
+        }, new BinaryOperator<List<T>>() {
+            @Override
+            public List<T> apply(List<T> left, List<T> right) {
+                left.addAll(right);
+                return left;
+            }
+        });
+    }
+
+    /**
+     * Builds, validates and caches the plans of DTO classes in parallel, on the executor of this engine, so the
+     * first assemble of each class does not pay for its introspection. Mapping errors of all classes are reported
+     * at once.
+     *
+     * @param dtoClasses dto classes
+     * @throws AssemblerException listing the DTO classes that can not be assembled
+     */
+    public void preload(Class<?>... dtoClasses) {
+        checkNotNull(dtoClasses);
+
+        PlanPreloader.preload(this, Arrays.asList(dtoClasses), executor);
+    }
+
+    /**
+     * Preloads every {@link br.com.machinae.assemblae.annotation.DataTransferObject} class found in packages and
+     * their subpackages, on the classpath of the context class loader.
+     *
+     * @param packageNames package names
+     * @return the DTO classes preloaded
+     * @throws AssemblerException listing the DTO classes that can not be assembled
+     */
+    public Set<Class<?>> preloadPackages(String... packageNames) {
+        checkNotNull(packageNames);
+
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader == null)
+            loader = AssemblaeEngine.class.getClassLoader();
+
+        Set<Class<?>> dtoClasses = new LinkedHashSet<Class<?>>();
+        for (String packageName : packageNames)
+            dtoClasses.addAll(PlanPreloader.scan(loader, packageName));
+
+        PlanPreloader.preload(this, dtoClasses, executor);
+        return dtoClasses;
+    }
+
+    /**
+     * Gets the statistics of the cache memoizing the transformer of a DTO property.
+     *
+     * @param dtoClass dto class
+     * @param dtoProperty dto property, whose transformer is cached
+     * @return hits, misses, load times and evictions of the property cache, in both directions
+     * @throws IllegalArgumentException when the property does not exist or its transformer is not cached
+     * @see br.com.machinae.assemblae.annotation.MappedProperty#cached()
+     */
+    public CacheStats getTransformerCacheStats(Class<?> dtoClass, String dtoProperty) {
+        checkNotNull(dtoProperty);
+
+        AssemblyPlan plan = loadPlan(dtoClass);
+        for (int i = 0; i < plan.size(); i++)
+            if (plan.get(i).getDtoProperty().equals(dtoProperty) && plan.get(i).getTransformer() instanceof CachingTransformer)
+                return ((CachingTransformer) plan.get(i).getTransformer()).stats();
+
+        throw new IllegalArgumentException(format("Property '%s' of DTO class '%s' has no cached transformer", dtoProperty, dtoClass.getName()));
+    }
+
+    /**
+     * @return registry of the transformers instantiated by this engine
+     */
+    public TransformerRegistry getTransformerRegistry() {
+        return transformerRegistry;
+    }
+
+    /**
+     * @return how DTOs annotated with the DEFAULT access type are accessed, PROPERTY or FIELD
+     */
+    public AccessType getAccessType() {
+        return accessType;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * @return default parallel configuration, running on the executor of this engine
+     */
+    public Parallelism getParallelism() {
+        return Parallelism.defaults().withExecutor(executor);
+    }
+
+    /**
+     * @return listener notified by this engine, notifying each registered listener, null when there is none
+     */
+    public AssemblyListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Gets the assembler for a model and dto class pair: a generated {@link CompiledAssembler} when possible,
+     * the reflective one otherwise. Both are built once and cached in the dto class plan.
+     *
+     * @param modelClass model class
+     * @param dtoClass dto class
+     * @return assembler for the pair
+     */
+    @SuppressWarnings("unchecked")
+    <T> Assembler<T> assemblerFor(Class<?> modelClass, Class<T> dtoClass) {
+        return (Assembler<T>) loadPlan(dtoClass).assemblerFor(modelClass);
+    }
+
+    /**
+     * Gets the compiled plan for a dto class, scanning its fields only on the first request.
+     *
+     * @param dtoClass dto class
+     * @return cached plan for dtoClass
+     */
+    AssemblyPlan loadPlan(Class<?> dtoClass) {
+        checkNotNull(dtoClass);
+
+        PlanHolder holder = plans.get(dtoClass);
+        AssemblyPlan plan = holder.plan;
+        if (plan == null)
+            synchronized (holder) {
+                if (holder.plan == null) {
+                    holder.plan = compile(dtoClass);
+                    return holder.plan;
+                }
+                plan = holder.plan;
+            }
+
+        if (listener != null)
+            listener.planCacheHit(dtoClass);
+        return plan;
+    }
+
+    private AssemblyPlan compile(Class<?> dtoClass) {
+        // lazy DTO subclasses are assembled and disassembled with the plan of the DTO class
+        if (LazyProxyGenerator.isProxy(dtoClass))
+            return loadPlan(dtoClass.getSuperclass());
+
+        if (listener != null)
+            listener.planLoaded(dtoClass);
+
+        long start = System.nanoTime();
+        AssemblyPlan plan = new AssemblyPlan(this, dtoClass, new AssemblerImpl<Object>(this).loadPropertyTransferParams(dtoClass));
+
+        if (listener != null)
+            listener.planCompiled(dtoClass, System.nanoTime() - start);
+        return plan;
+    }
+
+    /**
+     * @return weak reference to this engine, held by its plans
+     */
+    WeakReference<AssemblaeEngine> reference() {
+        return reference;
+    }
+
+    /**
+     * @param reference weak reference to an engine, held by one of its plans
+     * @return the engine
+     * @throws IllegalStateException when the engine was garbage collected, its assemblers still being used
+     */
+    static AssemblaeEngine reachable(WeakReference<AssemblaeEngine> reference) {
+        AssemblaeEngine engine = reference.get();
+        checkState(engine != null, "Engine was garbage collected, its assemblers can only be used while it is reachable");
+        return engine;
+    }
+
+    /**
+     * @param dtoClass dto class
+     * @param selection selected properties, null for all of them
+     * @return the cached plan of dtoClass, or of its projection on selection
+     */
+    AssemblyPlan planFor(Class<?> dtoClass, FieldSelection selection) {
+        AssemblyPlan plan = loadPlan(dtoClass);
+        return selection == null ? plan : plan.select(selection);
+    }
+
+    /**
+     * Plan of a DTO class, compiled once, on the first request.
+     */
+    private static final class PlanHolder {
+
+        private volatile AssemblyPlan plan;
+    }
+
+    /**
+     * Builder of {@link AssemblaeEngine}, not thread-safe.
+     */
+    public static final class Builder {
+
+        private TransformerRegistry transformerRegistry = new TransformerRegistry();
+
+        private AccessType accessType = AccessType.PROPERTY;
+
+        private Executor executor = ForkJoinPool.commonPool();
+
+        private final List<AssemblyListener> listeners = new ArrayList<AssemblyListener>();
+
+        private Builder() {}
+
+        /**
+         * @param transformerRegistry registry of the transformers, possibly shared with other engines
+         * @return this builder
+         */
+        public Builder withTransformerRegistry(TransformerRegistry transformerRegistry) {
+            this.transformerRegistry = checkNotNull(transformerRegistry);
+            return this;
+        }
+
+        /**
+         * @param accessType how DTOs annotated with the DEFAULT access type are accessed, PROPERTY or FIELD
+         * @return this builder
+         */
+        public Builder withAccessType(AccessType accessType) {
+            checkNotNull(accessType);
+            checkArgument(accessType != AccessType.DEFAULT, "Default access type must be PROPERTY or FIELD");
+
+            this.accessType = accessType;
+            return this;
+        }
+
+        /**
+         * @param executor executor preloading plans, and running the engine default parallelism
+         * @return this builder
+         */
+        public Builder withExecutor(Executor executor) {
+            this.executor = checkNotNull(executor);
+            return this;
+        }
+
+        /**
+         * @param listener listener to notify, in addition to the ones already added
+         * @return this builder
+         */
+        public Builder withListener(AssemblyListener listener) {
+            listeners.add(checkNotNull(listener));
+            return this;
+        }
+
+        /**
+         * @return this builder, without listeners
+         */
+        public Builder withoutListeners() {
+            listeners.clear();
+            return this;
+        }
+
+        public AssemblaeEngine build() {
+            return new AssemblaeEngine(this);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.machinae.assemblae;
+
+import com.google.common.base.Function;
+
+import java.util.Collection;
+
+/**
+ * Assembler service interface.
+ *
+ * @param <T>
+ */
+public interface Assembler<T> {
+
+    T assemble(Object model, Class<T> dtoClass);
+
+    /**
+     * Assemble a model in an existing DTO, overwriting its mapped properties, so DTOs can be reused instead of
+     * allocated per model. Ignored properties keep their values. Not supported by default.
+     *
+     * @param model model
+     * @param dto dto to populate
+     * @throws UnsupportedOperationException when the assembler can not populate existing DTOs
+     */
+    default void assembleInto(Object model, T dto) {
+        throw new UnsupportedOperationException(String.format("%s can not assemble into existing DTOs", getClass().getName()));
+    }
+
+    Collection<T> assembleAll(Collection<Object> model, Class<T> dtoClass);
+
+    /**
+     * Assemble all models splitting them in chunks assembled concurrently, sequentially when below the
+     * parallelism threshold. By default each model is assembled by {@link #assemble(Object, Class)}.
+     *
+     * @param model collection of model
+     * @param dtoClass dto class
+     * @param parallelism executor, chunking and ordering configuration
+     * @return dtos collection
+     */
+    default Collection<T> assembleAll(Collection<Object> model, final Class<T> dtoClass, Parallelism parallelism) {
+        return ParallelAssembly.assembleAll(model, new Function<Object, T>() {
+            @Override
+            public T apply(Object each) {
+                return assemble(each, dtoClass);
+            }
+        }, parallelism);
+    }
+
+    /**
+     * Update a model from a DTO, copying each mapped property back with its reverse transformation. Not supported
+     * by default.
+     *
+     * @param dto dto from where properties are read
+     * @param model model where properties are written
+     * @throws UnsupportedOperationException when the assembler can not update models
+     */
+    default void disassemble(T dto, Object model) {
+        throw new UnsupportedOperationException(String.format("%s can not disassemble DTOs", getClass().getName()));
+    }
+}
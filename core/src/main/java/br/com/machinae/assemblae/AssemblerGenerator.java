@@ -0,0 +1,436 @@
+package br.com.machinae.assemblae;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Generates, with ASM, a {@link CompiledAssembler} subclass for a model and DTO class pair. The generated
+ * copy method is straight-line getter/setter code, with transformer calls emitted only for properties that
+ * really transform, so it is optimized by the JIT like hand-written mapping code. The reverse copyBack method
+ * is generated the same way when the model has public setters for all mapped properties. Primitive
+ * transformers between primitive properties are called through their primitive methods, without boxing.
+ *
+ * Generation is only possible for public classes with public accessors, a public no-arg DTO constructor,
+ * no nested DTO properties and simple (not nested, indexed or mapped) property names; otherwise {@link #generate} returns null and
+ * the caller must fall back to {@link AssemblerImpl}.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+final class AssemblerGenerator {
+
+    private static final String SUPER_NAME = Type.getInternalName(CompiledAssembler.class);
+
+    private static final String TRANSFORMER_NAME = Type.getInternalName(Transformer.class);
+
+    private static final String TRANSFORMER_DESC = Type.getDescriptor(Transformer.class);
+
+    private static final String COPY_ERROR_DESC = "(Ljava/lang/Throwable;)" + Type.getDescriptor(AssemblerException.class);
+
+    private static final String ASSIGNABLE_DESC = "(Ljava/lang/Object;Ljava/lang/Class;ZLjava/lang/Object;Ljava/lang/String;)Ljava/lang/Object;";
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private static final Class<?>[] PRIMITIVE_TRANSFORMERS = {
+            IntTransformer.class, LongTransformer.class, DoubleTransformer.class, LongToDoubleTransformer.class
+    };
+
+    private AssemblerGenerator() {}
+
+    /**
+     * Generates and instantiates a compiled assembler for the pair.
+     *
+     * @param modelClass model class
+     * @param plan compiled plan of the DTO class
+     * @return a compiled assembler, or null when the pair can not be compiled
+     */
+    static CompiledAssembler<?, ?> generate(Class<?> modelClass, AssemblyPlan plan) {
+        Class<?> dtoClass = plan.getDtoClass();
+        if (plan.hasNested() || plan.isFieldAccess() || !isPublic(modelClass) || !isPublic(dtoClass) || Modifier.isAbstract(dtoClass.getModifiers()))
+            return null;
+
+        try {
+            dtoClass.getConstructor();
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+
+        Map<String, Class<?>> visible = new HashMap<String, Class<?>>();
+        visible.put(modelClass.getName(), modelClass);
+        visible.put(dtoClass.getName(), dtoClass);
+        visible.put(CompiledAssembler.class.getName(), CompiledAssembler.class);
+        visible.put(Transformer.class.getName(), Transformer.class);
+        visible.put(AssemblerException.class.getName(), AssemblerException.class);
+        for (Class<?> primitive : PRIMITIVE_TRANSFORMERS)
+            visible.put(primitive.getName(), primitive);
+
+        Method[] getters = new Method[plan.size()];
+        Method[] setters = new Method[plan.size()];
+        Transformer<?, ?>[] transformers = new Transformer<?, ?>[plan.size()];
+        Method[] reverseGetters = new Method[plan.size()];
+        Method[] reverseSetters = new Method[plan.size()];
+        String[] dtoProperties = new String[plan.size()];
+        String[] modelProperties = new String[plan.size()];
+
+        for (int i = 0; i < plan.size(); i++) {
+            TransferParams param = plan.get(i);
+            dtoProperties[i] = param.getDtoProperty();
+            modelProperties[i] = param.getModelProperty();
+            getters[i] = readMethod(modelClass, param.getModelProperty());
+            setters[i] = writeMethod(dtoClass, param.getDtoProperty());
+            if (getters[i] == null || setters[i] == null)
+                return null;
+
+            if (!param.isIdentity())
+                transformers[i] = transformerOf(param);
+            else if (!isAssignable(getters[i].getReturnType(), setters[i].getParameterTypes()[0]))
+                return null;
+
+            expose(visible, getters[i].getReturnType());
+            expose(visible, setters[i].getParameterTypes()[0]);
+
+            if (reverseSetters != null) {
+                reverseGetters[i] = readMethod(dtoClass, param.getDtoProperty());
+                reverseSetters[i] = writeMethod(modelClass, param.getModelProperty());
+                if (reverseGetters[i] == null || reverseSetters[i] == null || param.isIdentity()
+                        && !isAssignable(reverseGetters[i].getReturnType(), reverseSetters[i].getParameterTypes()[0]))
+                    reverseSetters = null;
+                else
+                    expose(visible, reverseSetters[i].getParameterTypes()[0]);
+            }
+        }
+
+        String name = dtoClass.getName() + "$$AssemblaeAssembler$" + SEQUENCE.incrementAndGet();
+        byte[] bytecode = generate(name, modelClass, dtoClass, getters, setters, transformers, reverseGetters, reverseSetters,
+                dtoProperties, modelProperties);
+
+        try {
+            Class<?> generated = new GeneratedClassLoader(dtoClass.getClassLoader(), visible).define(name, bytecode);
+            CompiledAssembler<?, ?> assembler = (CompiledAssembler<?, ?>) generated.getConstructor(Transformer[].class).newInstance((Object) transformers);
+            assembler.bind(plan);
+            return assembler;
+        } catch (Exception e) {
+            return null;
+        } catch (LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Primitive transformers are called directly, so their calls are not reported to the listener.
+     *
+     * @param param transfer params
+     * @return the transformer called by compiled code for param
+     */
+    static Transformer<Object, Object> transformerOf(TransferParams param) {
+        if (PrimitiveCopiers.isSpecialized(param.getTransformer()))
+            return param.getTransformer();
+        return new PlanTransformer(param);
+    }
+
+    private static byte[] generate(String name, Class<?> modelClass, Class<?> dtoClass,
+                                   Method[] getters, Method[] setters, Transformer<?, ?>[] transformers,
+                                   Method[] reverseGetters, Method[] reverseSetters, String[] dtoProperties, String[] modelProperties) {
+        String internalName = name.replace('.', '/');
+        String modelName = Type.getInternalName(modelClass);
+        String dtoName = Type.getInternalName(dtoClass);
+
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES) {
+            @Override
+            protected String getCommonSuperClass(String type1, String type2) {
+                return "java/lang/Object";
+            }
+        };
+        cw.visit(V1_8, ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC, internalName, null, SUPER_NAME, null);
+
+        for (int i = 0; i < transformers.length; i++)
+            if (transformers[i] != null)
+                cw.visitField(ACC_PRIVATE | ACC_FINAL, "t" + i, TRANSFORMER_DESC, null, null).visitEnd();
+
+        // constructor(Transformer[])
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "([" + TRANSFORMER_DESC + ")V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitLdcInsn(Type.getType(modelClass));
+        mv.visitLdcInsn(Type.getType(dtoClass));
+        mv.visitMethodInsn(INVOKESPECIAL, SUPER_NAME, "<init>", "(Ljava/lang/Class;Ljava/lang/Class;)V", false);
+        for (int i = 0; i < transformers.length; i++) {
+            if (transformers[i] == null)
+                continue;
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitLdcInsn(i);
+            mv.visitInsn(AALOAD);
+            mv.visitFieldInsn(PUTFIELD, internalName, "t" + i, TRANSFORMER_DESC);
+        }
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        // newInstance()
+        mv = cw.visitMethod(ACC_PROTECTED, "newInstance", "()Ljava/lang/Object;", null, null);
+        mv.visitCode();
+        mv.visitTypeInsn(NEW, dtoName);
+        mv.visitInsn(DUP);
+        mv.visitMethodInsn(INVOKESPECIAL, dtoName, "<init>", "()V", false);
+        mv.visitInsn(ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        // copy(Object model, Object dto)
+        copyMethod(cw, internalName, "copy", "transform", modelName, dtoName, getters, setters, transformers, dtoProperties);
+
+        // copyBack(Object dto, Object model), the reflective one is inherited when the model lacks setters
+        if (reverseSetters != null)
+            copyMethod(cw, internalName, "copyBack", "reverse", dtoName, modelName, reverseGetters, reverseSetters, transformers,
+                    modelProperties);
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    /**
+     * Emits a method reading every property of its first argument, of type sourceName, and writing it to its
+     * second one, of type targetName, through the transformer method when the property has a transformer.
+     * Getter and setter failures are thrown as {@link CompiledAssembler#copyError}, values whose type is not
+     * known to fit the setter are checked with {@link CompiledAssembler#assignable}, and transformer failures
+     * are left as they are, like the reflective assemblers do.
+     */
+    private static void copyMethod(ClassWriter cw, String internalName, String methodName, String transformerMethod,
+                                   String sourceName, String targetName, Method[] getters, Method[] setters,
+                                   Transformer<?, ?>[] transformers, String[] targetProperties) {
+        MethodVisitor mv = cw.visitMethod(ACC_PROTECTED, methodName, "(Ljava/lang/Object;Ljava/lang/Object;)V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitTypeInsn(CHECKCAST, sourceName);
+        mv.visitVarInsn(ASTORE, 3);
+        mv.visitVarInsn(ALOAD, 2);
+        mv.visitTypeInsn(CHECKCAST, targetName);
+        mv.visitVarInsn(ASTORE, 4);
+
+        Label handler = new Label();
+        for (int i = 0; i < getters.length; i++) {
+            Class<?> valueType = getters[i].getReturnType();
+            Class<?> targetType = setters[i].getParameterTypes()[0];
+
+            Method primitive = transformers[i] == null ? null
+                    : PrimitiveCopiers.specialized(transformers[i], transformerMethod.equals("reverse"), valueType, targetType);
+
+            mv.visitVarInsn(ALOAD, 4);
+            if (transformers[i] != null) {
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitFieldInsn(GETFIELD, internalName, "t" + i, TRANSFORMER_DESC);
+                if (primitive != null)
+                    mv.visitTypeInsn(CHECKCAST, Type.getInternalName(primitive.getDeclaringClass()));
+            }
+
+            Label getterStart = new Label();
+            Label getterEnd = new Label();
+            mv.visitTryCatchBlock(getterStart, getterEnd, handler, "java/lang/Exception");
+            mv.visitLabel(getterStart);
+            mv.visitVarInsn(ALOAD, 3);
+            mv.visitMethodInsn(INVOKEVIRTUAL, sourceName, getters[i].getName(), Type.getMethodDescriptor(getters[i]), false);
+            mv.visitLabel(getterEnd);
+
+            if (primitive != null) {
+                mv.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(primitive.getDeclaringClass()), primitive.getName(),
+                        Type.getMethodDescriptor(primitive), false);
+                valueType = targetType;
+            } else if (transformers[i] != null) {
+                box(mv, valueType);
+                mv.visitMethodInsn(INVOKEINTERFACE, TRANSFORMER_NAME, transformerMethod, "(Ljava/lang/Object;)Ljava/lang/Object;", true);
+                valueType = Object.class;
+            }
+
+            if (!fits(valueType, targetType)) {
+                box(mv, valueType);
+                mv.visitLdcInsn(Type.getType(wrapper(targetType)));
+                mv.visitInsn(targetType.isPrimitive() ? ICONST_1 : ICONST_0);
+                mv.visitVarInsn(ALOAD, 4);
+                mv.visitLdcInsn(targetProperties[i]);
+                mv.visitMethodInsn(INVOKESTATIC, SUPER_NAME, "assignable", ASSIGNABLE_DESC, false);
+                valueType = Object.class;
+            }
+            convert(mv, valueType, targetType);
+
+            Label setterStart = new Label();
+            Label setterEnd = new Label();
+            mv.visitTryCatchBlock(setterStart, setterEnd, handler, "java/lang/Exception");
+            mv.visitLabel(setterStart);
+            mv.visitMethodInsn(INVOKEVIRTUAL, targetName, setters[i].getName(), Type.getMethodDescriptor(setters[i]), false);
+            mv.visitLabel(setterEnd);
+            if (setters[i].getReturnType() != void.class)
+                mv.visitInsn(Type.getType(setters[i].getReturnType()).getSize() == 2 ? POP2 : POP);
+        }
+
+        mv.visitInsn(RETURN);
+
+        // getter and setter failures
+        if (getters.length > 0) {
+            mv.visitLabel(handler);
+            mv.visitMethodInsn(INVOKESTATIC, SUPER_NAME, "copyError", COPY_ERROR_DESC, false);
+            mv.visitInsn(ATHROW);
+        }
+
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    /**
+     * Emits the conversion of the value on top of the stack from type to target, the same conversions
+     * reflection does on setter invocation.
+     */
+    static void convert(MethodVisitor mv, Class<?> type, Class<?> target) {
+        if (type == target)
+            return;
+
+        if (type.isPrimitive()) {
+            box(mv, type);
+            type = wrapper(type);
+        }
+
+        if (target.isPrimitive()) {
+            Class<?> wrapper = wrapper(target);
+            mv.visitTypeInsn(CHECKCAST, Type.getInternalName(wrapper));
+            mv.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(wrapper), target.getName() + "Value",
+                    "()" + Type.getDescriptor(target), false);
+        } else if (!target.isAssignableFrom(type))
+            mv.visitTypeInsn(CHECKCAST, Type.getInternalName(target));
+    }
+
+    /**
+     * @return true when every value of type can be set to a target property without a check: same primitive
+     * type, or a reference type assignable to the boxed target
+     */
+    private static boolean fits(Class<?> type, Class<?> target) {
+        return target.isPrimitive() ? type == target : target.isAssignableFrom(wrapper(type));
+    }
+
+    private static void box(MethodVisitor mv, Class<?> type) {
+        if (!type.isPrimitive())
+            return;
+
+        Class<?> wrapper = wrapper(type);
+        mv.visitMethodInsn(INVOKESTATIC, Type.getInternalName(wrapper), "valueOf",
+                "(" + Type.getDescriptor(type) + ")" + Type.getDescriptor(wrapper), false);
+    }
+
+    private static boolean isAssignable(Class<?> type, Class<?> target) {
+        if (type.isPrimitive() && target.isPrimitive())
+            return type == target;
+
+        Class<?> from = wrapper(type);
+        Class<?> to = wrapper(target);
+        return to.isAssignableFrom(from) || from.isAssignableFrom(to);
+    }
+
+    static Class<?> wrapper(Class<?> type) {
+        if (!type.isPrimitive())
+            return type;
+        if (type == int.class)
+            return Integer.class;
+        if (type == long.class)
+            return Long.class;
+        if (type == double.class)
+            return Double.class;
+        if (type == boolean.class)
+            return Boolean.class;
+        if (type == float.class)
+            return Float.class;
+        if (type == short.class)
+            return Short.class;
+        if (type == byte.class)
+            return Byte.class;
+        if (type == char.class)
+            return Character.class;
+        return Void.class;
+    }
+
+    static boolean isPublic(Class<?> type) {
+        for (Class<?> c = type; c != null; c = c.getEnclosingClass())
+            if (!Modifier.isPublic(c.getModifiers()))
+                return false;
+        return true;
+    }
+
+    static Method readMethod(Class<?> type, String property) {
+        PropertyDescriptor descriptor = PropertyAccessors.descriptor(type, property);
+        return descriptor == null ? null : accessible(descriptor.getReadMethod());
+    }
+
+    static Method writeMethod(Class<?> type, String property) {
+        PropertyDescriptor descriptor = PropertyAccessors.descriptor(type, property);
+        return descriptor == null ? null : accessible(descriptor.getWriteMethod());
+    }
+
+    private static Method accessible(Method method) {
+        if (method == null || !Modifier.isPublic(method.getModifiers()) || Modifier.isStatic(method.getModifiers()))
+            return null;
+        return method;
+    }
+
+    static void expose(Map<String, Class<?>> visible, Class<?> type) {
+        while (type.isArray())
+            type = type.getComponentType();
+        if (!type.isPrimitive())
+            visible.put(type.getName(), type);
+    }
+
+    /**
+     * Loader of a single generated class. It resolves the classes referenced by the generated code
+     * directly, whatever loader they come from, and everything else through the DTO class loader.
+     */
+    static final class GeneratedClassLoader extends ClassLoader {
+
+        private final Map<String, Class<?>> visible;
+
+        GeneratedClassLoader(ClassLoader parent, Map<String, Class<?>> visible) {
+            super(parent != null ? parent : ClassLoader.getSystemClassLoader());
+            this.visible = visible;
+        }
+
+        Class<?> define(String name, byte[] bytecode) {
+            return defineClass(name, bytecode, 0, bytecode.length);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            Class<?> type = visible.get(name);
+            return type != null ? type : super.loadClass(name, resolve);
+        }
+    }
+
+    /**
+     * Calls the transformer through its {@link TransferParams}, so compiled assemblers are reported to the
+     * {@link AssemblyListener} like the reflective ones.
+     */
+    private static final class PlanTransformer implements Transformer<Object, Object> {
+
+        private final TransferParams param;
+
+        PlanTransformer(TransferParams param) {
+            this.param = param;
+        }
+
+        @Override
+        public Object transform(Object value) {
+            return param.transform(value);
+        }
+
+        @Override
+        public Object reverse(Object value) {
+            return param.reverse(value);
+        }
+    }
+}
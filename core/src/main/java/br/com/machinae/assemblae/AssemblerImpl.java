@@ -0,0 +1,396 @@
+package br.com.machinae.assemblae;
+
+
+import br.com.machinae.assemblae.annotation.DataTransferObject;
+import br.com.machinae.assemblae.annotation.Ignore;
+import com.google.common.base.Function;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * AssemblerImpl is a Assembler implementation for assembly service used by exposed static Assemblae utility.
+ *
+ * @author Welington Veiga
+ * @since 05/11/2012
+ *
+ * @param <T> DTO type
+ */
+class AssemblerImpl<T> implements Assembler<T> {
+
+    private final AssemblaeEngine engine;
+
+    private final AssemblyPlan boundPlan;
+
+    /**
+     * Assembler using the plans of the current default engine.
+     */
+    AssemblerImpl() {
+        this(null, null);
+    }
+
+    /**
+     * @param engine engine owning the plans
+     */
+    AssemblerImpl(AssemblaeEngine engine) {
+        this(checkNotNull(engine), null);
+    }
+
+    /**
+     * @param plan plan used for its DTO class, instead of the cached one, to assemble projections
+     */
+    AssemblerImpl(AssemblyPlan plan) {
+        this(null, checkNotNull(plan));
+    }
+
+    private AssemblerImpl(AssemblaeEngine engine, AssemblyPlan plan) {
+        this.engine = engine;
+        this.boundPlan = plan;
+    }
+
+    /**
+     * Assemble a model properties in a Data Transfer Object (DTO), defined by a annotated class.
+     * Each property will be copied using name convention and metadata in annotations declared on
+     * DTO class, metadata will declare conversions, member access e ignored properties.
+     *
+     * @param model model
+     * @param dtoClass dto class
+     * @return dto instance
+     */
+    @Override
+    public T assemble(Object model, Class<T> dtoClass) {
+        checkNotNull(model, "Model assembled can not be null");
+
+        AssemblyPlan plan = loadPlan(dtoClass);
+        if (plan.getConstructor() != null)
+            return construct(model, dtoClass, plan);
+
+        T dto = instantiateDTO(dtoClass);
+        copy(model, dto, plan);
+        return dto;
+    }
+
+    /**
+     * Assemble a model in an existing DTO, whose nested DTOs are assembled anew.
+     *
+     * @param model model
+     * @param dto dto to populate
+     * @throws IllegalArgumentException when the DTO class is assembled by its constructor
+     */
+    @Override
+    public void assembleInto(Object model, T dto) {
+        checkNotNull(model, "Model assembled can not be null");
+        checkNotNull(dto, "DTO can not be null");
+
+        AssemblyPlan plan = loadPlan(dto.getClass());
+        checkArgument(plan.getConstructor() == null, "DTO class '%s' is assembled by its constructor, its instances can not be refilled",
+                dto.getClass().getName());
+        copy(model, dto, plan);
+    }
+
+    private void copy(Object model, T dto, AssemblyPlan plan) {
+        if (!plan.hasNested()) {
+            for (int i = 0; i < plan.size(); i++)
+                copyPropertyFromModelToDTO(model, dto, plan.get(i));
+            return;
+        }
+
+        // registered before copying, so references back to model resolve to this dto
+        AssemblyContext context = AssemblyContext.enter();
+        try {
+            context.put(model, plan, dto);
+            for (int i = 0; i < plan.size(); i++)
+                copyPropertyFromModelToDTO(model, dto, plan.get(i));
+        } finally {
+            context.exit();
+        }
+    }
+
+    /**
+     * Assemble a DTO by its constructor, called once with the transformed values of the properties it takes. The
+     * other properties are copied afterwards.
+     *
+     * @param model model
+     * @param dtoClass dto class
+     * @param plan plan of dtoClass, with a constructor
+     * @return dto instance
+     */
+    private T construct(Object model, Class<T> dtoClass, AssemblyPlan plan) {
+        DtoConstructor constructor = plan.getConstructor();
+        AssemblyContext context = plan.hasNested() ? AssemblyContext.enter() : null;
+        try {
+            if (context != null)
+                context.put(model, plan, AssemblyContext.CONSTRUCTING);
+
+            Object[] arguments = constructor.newArguments();
+            for (int i = 0; i < plan.size(); i++)
+                if (constructor.argumentOf(i) >= 0)
+                    arguments[constructor.argumentOf(i)] = plan.get(i).transform(plan.get(i).read(model));
+
+            T dto = dtoClass.cast(constructor.newInstance(arguments));
+            if (context != null)
+                context.put(model, plan, dto);
+
+            for (int i = 0; i < plan.size(); i++)
+                if (constructor.argumentOf(i) < 0)
+                    copyPropertyFromModelToDTO(model, dto, plan.get(i));
+            return dto;
+        } finally {
+            if (context != null)
+                context.exit();
+        }
+    }
+
+    /**
+     * Assemble a list of models properties in a List of Data Transfer Object (DTO), defined by a annotated class.
+     * Each property will be copied using name convention and metadata in annotations declared on
+     * DTO class, metadata will declare conversions, member access e ignored properties.
+     *
+     * @param models collection of model
+     * @param dtoClass dto class
+     * @return dtos collection
+     */
+    @Override
+    public Collection<T> assembleAll(Collection<Object> models, Class<T> dtoClass) {
+        checkNotNull(models, "Model list can not be null");
+
+        Collection<T> dtos = new ArrayList<T>(models.size());
+        for(Object model : models)
+            dtos.add(assemble(model, dtoClass));
+
+        return dtos;
+    }
+
+    /**
+     * Assemble a list of models in parallel, as configured by parallelism.
+     *
+     * @see ParallelAssembly#assembleAll
+     *
+     * @param models collection of model
+     * @param dtoClass dto class
+     * @param parallelism parallel configuration
+     * @return dtos collection
+     */
+    @Override
+    public Collection<T> assembleAll(Collection<Object> models, final Class<T> dtoClass, Parallelism parallelism) {
+        return ParallelAssembly.assembleAll(models, new Function<Object, T>() {
+            @Override
+            public T apply(Object model) {
+                return assemble(model, dtoClass);
+            }
+        }, parallelism);
+    }
+
+    /**
+     * Update a model from a DTO, in a single pass over the cached plan of the DTO class.
+     * Properties are copied back to the model property they are mapped to, ignored and nested DTO ones are not copied.
+     *
+     * @param dto dto
+     * @param model model
+     */
+    @Override
+    public void disassemble(T dto, Object model) {
+        checkNotNull(dto, "DTO disassembled can not be null");
+        checkNotNull(model, "Model can not be null");
+
+        AssemblyPlan plan = loadPlan(dto.getClass());
+        for (int i = 0; i < plan.size(); i++)
+            if (!plan.get(i).isNested())
+                copyPropertyFromDTOToModel(dto, model, plan.get(i));
+    }
+
+    /**
+     * Gets the compiled plan for a dto class, scanning its fields only on the first request. Assemblers bound
+     * to a plan use it for its DTO class.
+     *
+     * @param dtoClass dto class
+     * @return cached plan for dtoClass
+     */
+    AssemblyPlan loadPlan(Class<?> dtoClass) {
+        checkNotNull(dtoClass);
+
+        if (boundPlan == null || boundPlan.getDtoClass() != dtoClass)
+            return engine().loadPlan(dtoClass);
+
+        return boundPlan;
+    }
+
+    /**
+     * Iterates dto class fields and configure the copy params for assemble, in declaration order.
+     *
+     * @param dtoClass dto class
+     * @return configuration for field copy
+     */
+    Collection<TransferParams> loadPropertyTransferParams(Class<?> dtoClass) {
+        checkNotNull(dtoClass);
+        checkArgument(dtoClass.isAnnotationPresent(DataTransferObject.class));
+
+        List<TransferParams> transferParams = new ArrayList<TransferParams>();
+
+        for (Field field : dtoClass.getDeclaredFields())
+            if (!field.isAnnotationPresent(Ignore.class))
+                transferParams.add(buildParams(field));
+
+        return transferParams;
+    }
+
+    /**
+     * Proxy for TransferParams builder
+     * @see TransferParams#build(java.lang.reflect.Field, AssemblaeEngine)
+     *
+     * @param field Field metadata
+     * @return parameters from field
+     */
+    TransferParams buildParams(Field field) {
+        return TransferParams.build(field, engine());
+    }
+
+    private AssemblaeEngine engine() {
+        // assemblers bound to a plan are held by it, so they must not keep its engine reachable
+        if (boundPlan != null)
+            return boundPlan.getEngine();
+        return engine != null ? engine : Assemblae.getDefaultEngine();
+    }
+
+    /**
+     * Utility for dto instantiation.
+     *
+     * @param dtoClass class for desired dto
+     * @return a dtoClass instance
+     * @throws AssemblerException for instantiation errors
+     */
+    T instantiateDTO(Class<T> dtoClass) {
+        try {
+            return dtoClass.newInstance();
+        } catch (InstantiationException e) {
+            throw new AssemblerException("Failure instantiating dto", e);
+        } catch (IllegalAccessException e) {
+            throw new AssemblerException("Failure instantiating dto", e);
+        }
+    }
+
+   void copyPropertyFromDTOToModel(Object dto, Object model, TransferParams param)
+    {
+        checkNotNull(model, "Model cant be null for copying.");
+        checkNotNull(dto, "DTO cant be null for copying.");
+        checkNotNull(param, "Copy params cant be null");
+
+        if (param.isPrimitive()) {
+            MethodHandle copier = PrimitiveCopiers.reverse(model.getClass(), param);
+            if (copier != null) {
+                PrimitiveCopiers.copy(copier, dto, model);
+                return;
+            }
+        }
+
+        try {
+            final String dtoProperty = param.getDtoProperty();
+            if (param.isFieldAccess()) {
+                Object value = PropertyAccessors.forField(dto.getClass(), dtoProperty).get(dto);
+                param.modelAccessor(model.getClass()).set(model, param.reverse(value));
+                return;
+            }
+
+            final Object value = getPropertyValue(dto, dtoProperty);
+
+            if (param.getModelPath() != null)
+                param.getModelPath().set(model, param.reverse(value));
+            else
+                setPropertyValue(model, param.getModelProperty(), param.reverse(value));
+
+        } catch (IllegalAccessException e) {
+            throw new AssemblerException("Property copy error", e);
+        } catch (InvocationTargetException e) {
+            throw new AssemblerException("Property copy error", e);
+        } catch (NoSuchMethodException e) {
+            throw new AssemblerException("Property copy error", e);
+        }
+
+    }
+
+    /**
+     * Utility for copy an property from model to DTO, applying the appropriate transformation
+     *
+     * @param model model from  where the property will be copied
+     * @param dto   model where the property will be copied
+     * @param param copy parameters
+     */
+    void copyPropertyFromModelToDTO(Object model, Object dto, TransferParams param) {
+        checkNotNull(model, "Model cant be null for copying.");
+        checkNotNull(dto, "DTO cant be null for copying.");
+        checkNotNull(param, "Copy params cant be null");
+
+        if (param.isPrimitive()) {
+            MethodHandle copier = PrimitiveCopiers.forward(model.getClass(), param);
+            if (copier != null) {
+                PrimitiveCopiers.copy(copier, model, dto);
+                return;
+            }
+        }
+
+        try {
+            final String dtoProperty = param.getDtoProperty();
+            if (param.isFieldAccess()) {
+                Object value = param.modelAccessor(model.getClass()).get(model);
+                PropertyAccessors.forField(dto.getClass(), dtoProperty).set(dto, param.transform(value));
+                return;
+            }
+
+            final Object value = param.getModelPath() != null
+                    ? param.getModelPath().get(model)
+                    : getPropertyValue(model, param.getModelProperty());
+
+            setPropertyValue(dto, dtoProperty, param.transform(value));
+
+        } catch (IllegalAccessException e) {
+            throw new AssemblerException("Property copy error", e);
+        } catch (InvocationTargetException e) {
+            throw new AssemblerException("Property copy error", e);
+        } catch (NoSuchMethodException e) {
+            throw new AssemblerException("Property copy error", e);
+        }
+    }
+
+    /**
+     * Only set property value to an object using apache commons convention, through the cached accessor of
+     * the property.
+     *
+     * @see {PropertyAccessors#forProperty}
+     *
+     * @param dto object
+     * @param property  property to set value
+     * @param propertyValue  value
+     *
+     * @throws IllegalAccessException when property cant be accessed
+     * @throws InvocationTargetException when setter throws exception
+     * @throws NoSuchMethodException when property does not exists
+     */
+    void setPropertyValue(Object dto, String property, Object propertyValue) throws InvocationTargetException, NoSuchMethodException, IllegalAccessException {
+        PropertyAccessors.forProperty(dto.getClass(), property).set(dto, propertyValue);
+    }
+
+    /**
+     * Only get property value from an object using apache commons convention, through the cached accessor of
+     * the property.
+     *
+     * @see {PropertyAccessors#forProperty}
+     *
+     * @param model object
+     * @param property  property to get value
+     * @return value desired
+     * @throws IllegalAccessException when property cant be accessed
+     * @throws InvocationTargetException when getter throws exception
+     * @throws NoSuchMethodException when property does not exists
+     */
+    Object getPropertyValue(Object model, String property) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        return PropertyAccessors.forProperty(model.getClass(), property).get(model);
+    }
+
+}
@@ -0,0 +1,87 @@
+package br.com.machinae.assemblae;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Spliterator assembling each model of a source spliterator only when it is traversed. Splitting and sizing are
+ * delegated to the source, so the assembled stream is SIZED and SUBSIZED whenever the source is.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ *
+ * @param <T> DTO type
+ */
+final class AssemblingSpliterator<T> implements Spliterator<T> {
+
+    private static final int INHERITED_CHARACTERISTICS = ORDERED | SIZED | SUBSIZED | IMMUTABLE | CONCURRENT;
+
+    private final AssemblaeEngine engine;
+
+    private final Spliterator<?> source;
+
+    private final Class<T> dtoClass;
+
+    AssemblingSpliterator(Spliterator<?> source, Class<T> dtoClass) {
+        this(Assemblae.getDefaultEngine(), source, dtoClass);
+    }
+
+    AssemblingSpliterator(AssemblaeEngine engine, Spliterator<?> source, Class<T> dtoClass) {
+        this.engine = checkNotNull(engine);
+        this.source = checkNotNull(source);
+        this.dtoClass = checkNotNull(dtoClass);
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        checkNotNull(action);
+
+        return source.tryAdvance(new Consumer<Object>() {
+            @Override
+            public void accept(Object model) {
+                action.accept(engine.assemble(model, dtoClass));
+            }
+        });
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super T> action) {
+        checkNotNull(action);
+
+        source.forEachRemaining(new Consumer<Object>() {
+            @Override
+            public void accept(Object model) {
+                action.accept(engine.assemble(model, dtoClass));
+            }
+        });
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        Spliterator<?> prefix = source.trySplit();
+        return prefix != null ? new AssemblingSpliterator<T>(engine, prefix, dtoClass) : null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return source.getExactSizeIfKnown();
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & INHERITED_CHARACTERISTICS | NONNULL;
+    }
+
+    @Override
+    public Comparator<? super T> getComparator() {
+        throw new IllegalStateException("Assembled DTOs are not sorted");
+    }
+}
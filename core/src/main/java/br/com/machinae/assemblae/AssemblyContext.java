@@ -0,0 +1,105 @@
+package br.com.machinae.assemblae;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Identity map of the models already assembled in the current object graph, bound to the assembling thread
+ * while a graph is assembled. Each model is assembled at most once per plan, so shared references stay
+ * shared, and a DTO is registered before its properties are copied, so cycles resolve to it instead of
+ * recursing forever.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+final class AssemblyContext {
+
+    private static final ThreadLocal<AssemblyContext> CURRENT = new ThreadLocal<AssemblyContext>();
+
+    /**
+     * Registered for a model while its DTO is being constructed, as it can not be referenced before.
+     */
+    static final Object CONSTRUCTING = new Object();
+
+    private final Map<AssemblyPlan, Map<Object, Object>> dtos = new HashMap<AssemblyPlan, Map<Object, Object>>();
+
+    private int depth;
+
+    private AssemblyContext() {}
+
+    /**
+     * Joins the graph being assembled by the current thread, starting a new one when there is none.
+     * Every call must be paired with {@link #exit()}.
+     *
+     * @return context of the current graph
+     */
+    static AssemblyContext enter() {
+        AssemblyContext context = CURRENT.get();
+        if (context == null) {
+            context = new AssemblyContext();
+            CURRENT.set(context);
+        }
+        context.depth++;
+        return context;
+    }
+
+    /**
+     * Leaves the graph, discarding it when this is the outermost call.
+     */
+    void exit() {
+        if (--depth == 0)
+            CURRENT.remove();
+    }
+
+    /**
+     * @param model model
+     * @param plan plan of the dto class, or of a projection of it
+     * @return the dto already assembled from model in this graph, null if none
+     */
+    Object get(Object model, AssemblyPlan plan) {
+        Map<Object, Object> assembled = dtos.get(plan);
+        return assembled == null ? null : assembled.get(model);
+    }
+
+    /**
+     * Registers the dto assembled from model, possibly before its properties are copied.
+     *
+     * @param model model
+     * @param plan plan of the dto class, or of a projection of it
+     * @param dto dto
+     */
+    void put(Object model, AssemblyPlan plan, Object dto) {
+        Map<Object, Object> assembled = dtos.get(plan);
+        if (assembled == null) {
+            assembled = new IdentityHashMap<Object, Object>();
+            dtos.put(plan, assembled);
+        }
+        assembled.put(model, dto);
+    }
+
+    /**
+     * Gets the dto assembled from model in this graph, assembling and registering it on first request.
+     *
+     * @param engine engine assembling the graph
+     * @param model model
+     * @param dtoClass dto class
+     * @param selection properties to assemble, null for all of them
+     * @return dto
+     */
+    <T> T assemble(AssemblaeEngine engine, Object model, Class<T> dtoClass, FieldSelection selection) {
+        AssemblyPlan plan = engine.planFor(dtoClass, selection);
+        Object assembled = get(model, plan);
+        if (assembled == CONSTRUCTING)
+            throw new AssemblerException(format("DTO class '%s' is assembled by a constructor, its model can not reference itself", dtoClass.getName()));
+
+        T dto = dtoClass.cast(assembled);
+        if (dto == null) {
+            dto = selection == null ? engine.assemble(model, dtoClass) : engine.assemble(model, dtoClass, selection);
+            put(model, plan, dto);
+        }
+        return dto;
+    }
+}
@@ -0,0 +1,80 @@
+package br.com.machinae.assemblae;
+
+/**
+ * Instrumentation SPI of the assembly pipeline, registered with {@link Assemblae#setAssemblyListener} or an
+ * {@link AssemblaeEngine.Builder#withListener engine builder}.
+ * Methods are called synchronously on the assembling thread, so implementations must be thread-safe and cheap.
+ * When no listener is registered, nothing is measured.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ * @see MetricsListener
+ */
+public interface AssemblyListener {
+
+    /**
+     * A DTO class plan was not cached and is being compiled, once per DTO class unless compiling fails.
+     *
+     * @param dtoClass dto class
+     */
+    void planLoaded(Class<?> dtoClass);
+
+    /**
+     * A DTO class plan was found in the plan cache.
+     *
+     * @param dtoClass dto class
+     */
+    void planCacheHit(Class<?> dtoClass);
+
+    /**
+     * A DTO class plan was not cached and has been compiled.
+     *
+     * @param dtoClass dto class
+     * @param nanos compilation time
+     */
+    void planCompiled(Class<?> dtoClass, long nanos);
+
+    /**
+     * A model was assembled.
+     *
+     * @param dtoClass dto class
+     * @param nanos assemble time, including nested transformations
+     */
+    void assembled(Class<?> dtoClass, long nanos);
+
+    /**
+     * A collection of models was assembled, each model is also reported to {@link #assembled}.
+     *
+     * @param dtoClass dto class
+     * @param count number of models
+     * @param nanos assembleAll time
+     */
+    void assembledAll(Class<?> dtoClass, int count, long nanos);
+
+    /**
+     * A model was updated from a DTO.
+     *
+     * @param dtoClass dto class
+     * @param nanos disassemble time, including nested transformations
+     */
+    void disassembled(Class<?> dtoClass, long nanos);
+
+    /**
+     * A model property value was transformed to the DTO representation. Primitive transformers called
+     * without boxing, such as {@link IntTransformer}, are not reported.
+     *
+     * @param dtoClass dto class declaring the property, null for params not built from a DTO class
+     * @param dtoProperty dto property
+     * @param nanos {@link Transformer#transform} time
+     */
+    void transformed(Class<?> dtoClass, String dtoProperty, long nanos);
+
+    /**
+     * A DTO property value was transformed to the model representation.
+     *
+     * @param dtoClass dto class declaring the property, null for params not built from a DTO class
+     * @param dtoProperty dto property
+     * @param nanos {@link Transformer#reverse} time
+     */
+    void reversed(Class<?> dtoClass, String dtoProperty, long nanos);
+}
@@ -0,0 +1,370 @@
+package br.com.machinae.assemblae;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * Immutable, ordered set of copy parameters compiled for a DTO class. A plan is built once per DTO class
+ * and shared by all assemble calls, in both directions (model to DTO and DTO to model). Field selections
+ * are compiled in projection plans, copying only the selected properties, cached in the plan of the DTO class.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+final class AssemblyPlan {
+
+    /**
+     * Maximum number of projection plans cached for a DTO class, selections are chosen by clients.
+     */
+    static final int MAX_SELECTIONS = 256;
+
+    /**
+     * Maximum number of row assemblers cached for a DTO class, one per layout of the rows assembled.
+     */
+    static final int MAX_LAYOUTS = 256;
+
+    /**
+     * Plans are attached to their DTO classes, so they must not keep their engine reachable.
+     */
+    private final WeakReference<AssemblaeEngine> engine;
+
+    private final Class<?> dtoClass;
+
+    private final TransferParams[] params;
+
+    private final boolean nested;
+
+    private final boolean fieldAccess;
+
+    private final boolean batch;
+
+    private final List<TransferParams> asyncParams;
+
+    private final FieldSelection blockingSelection;
+
+    private final DtoConstructor constructor;
+
+    private final boolean projection;
+
+    private LazyAssembler lazyAssembler;
+
+    private final LoadingCache<FieldSelection, AssemblyPlan> projections = CacheBuilder.newBuilder()
+            .maximumSize(MAX_SELECTIONS)
+            .build(new CacheLoader<FieldSelection, AssemblyPlan>() {
+                @Override
+                public AssemblyPlan load(FieldSelection selection) {
+                    return project(selection);
+                }
+            });
+
+    private final LoadingCache<TupleLayout, TupleAssembler> rowAssemblers = CacheBuilder.newBuilder()
+            .maximumSize(MAX_LAYOUTS)
+            .build(new CacheLoader<TupleLayout, TupleAssembler>() {
+                @Override
+                public TupleAssembler load(TupleLayout layout) {
+                    return TupleAssembler.forRows(AssemblyPlan.this, layout);
+                }
+            });
+
+    /**
+     * Assembler for each model class assembled with this plan: the one generated at compile time when
+     * provided, a runtime generated one when the pair can be compiled, the reflective {@link AssemblerImpl}
+     * otherwise. Lazy DTOs share a single {@link LazyAssembler}, whatever the model class, and the assembler
+     * of tracked DTOs is wrapped by a {@link TrackingAssembler}. Projections are neither lazy nor tracked,
+     * and never use the provided assemblers, which copy every property. Map models are read by key, eagerly
+     * even for lazy DTOs. Assemblers reference their model classes, which are therefore kept reachable as long as
+     * this plan, that is as long as its DTO class.
+     */
+    private final LoadingCache<Class<?>, Assembler<?>> assemblers = CacheBuilder.newBuilder()
+            .build(new CacheLoader<Class<?>, Assembler<?>>() {
+                @Override
+                public Assembler<?> load(Class<?> modelClass) {
+                    if (Map.class.isAssignableFrom(modelClass))
+                        return track(TupleAssembler.forMaps(AssemblyPlan.this));
+
+                    if (!projection && LazyProxyGenerator.isLazy(dtoClass))
+                        return lazyAssembler();
+
+                    return track(assemblerOf(modelClass));
+                }
+            });
+
+    AssemblyPlan(Class<?> dtoClass, Collection<TransferParams> params) {
+        this(Assemblae.getDefaultEngine(), dtoClass, params);
+    }
+
+    AssemblyPlan(AssemblaeEngine engine, Class<?> dtoClass, Collection<TransferParams> params) {
+        this(engine.reference(), dtoClass, params, false);
+    }
+
+    private AssemblyPlan(WeakReference<AssemblaeEngine> engine, Class<?> dtoClass, Collection<TransferParams> params, boolean projection) {
+        checkNotNull(engine);
+        checkNotNull(dtoClass);
+        checkNotNull(params);
+
+        this.engine = engine;
+        this.dtoClass = dtoClass;
+        this.projection = projection;
+        this.params = params.toArray(new TransferParams[params.size()]);
+
+        boolean hasNested = false;
+        boolean hasFieldAccess = false;
+        boolean hasBatch = false;
+        for (TransferParams param : this.params) {
+            hasNested |= param.isNested();
+            hasFieldAccess |= param.isFieldAccess();
+            hasBatch |= param.isBatch();
+        }
+        this.nested = hasNested;
+        this.fieldAccess = hasFieldAccess;
+        this.batch = hasBatch;
+
+        List<TransferParams> async = new ArrayList<TransferParams>();
+        List<String> blocking = new ArrayList<String>();
+        for (TransferParams param : this.params) {
+            if (param.isAsync())
+                async.add(param);
+            else
+                blocking.add(param.getDtoProperty());
+        }
+        this.asyncParams = Collections.unmodifiableList(async);
+        this.blockingSelection = async.isEmpty() ? null : FieldSelection.of(blocking);
+        this.constructor = DtoConstructor.find(dtoClass, this.params);
+    }
+
+    /**
+     * @return engine owning this plan
+     * @throws IllegalStateException when the engine was garbage collected
+     */
+    AssemblaeEngine getEngine() {
+        return AssemblaeEngine.reachable(engine);
+    }
+
+    Class<?> getDtoClass() {
+        return dtoClass;
+    }
+
+    /**
+     * @return number of properties copied by this plan
+     */
+    int size() {
+        return params.length;
+    }
+
+    /**
+     * @param index property position, in DTO field declaration order
+     * @return copy parameters for the property
+     */
+    TransferParams get(int index) {
+        return params[index];
+    }
+
+    /**
+     * @return true when some property is a nested DTO, so assembling must track the object graph
+     */
+    boolean hasNested() {
+        return nested;
+    }
+
+    /**
+     * @return true when some property has a {@link BatchTransformer}, so collections are transformed in batches
+     */
+    boolean hasBatch() {
+        return batch;
+    }
+
+    /**
+     * @return constructor taking the properties of immutable DTOs, null for DTOs with a no-arg constructor
+     */
+    DtoConstructor getConstructor() {
+        return constructor;
+    }
+
+    /**
+     * @return properties with an {@link AsyncTransformer}, transformed without blocking by asynchronous assemblies
+     */
+    List<TransferParams> getAsyncParams() {
+        return asyncParams;
+    }
+
+    /**
+     * @return selection of the properties without an {@link AsyncTransformer}, null when every property is blocking
+     */
+    FieldSelection getBlockingSelection() {
+        return blockingSelection;
+    }
+
+    /**
+     * @return true when properties are accessed as fields
+     */
+    boolean isFieldAccess() {
+        return fieldAccess;
+    }
+
+    /**
+     * @return true when this plan copies only some properties of its DTO class
+     */
+    boolean isProjection() {
+        return projection;
+    }
+
+    /**
+     * Gets the plan copying only the selected properties, compiling it on the first request.
+     *
+     * @param selection selected properties
+     * @return projection plan, cached by selection
+     * @throws IllegalArgumentException when a selected property does not exist
+     */
+    AssemblyPlan select(FieldSelection selection) {
+        checkNotNull(selection);
+        checkArgument(!projection, "Projections can not be selected");
+
+        try {
+            return projections.getUnchecked(selection);
+        } catch (UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw e;
+        }
+    }
+
+    /**
+     * @param modelClass class of the models to be assembled
+     * @return the fastest assembler available for modelClass and this plan DTO class
+     */
+    Assembler<?> assemblerFor(Class<?> modelClass) {
+        try {
+            return assemblers.getUnchecked(modelClass);
+        } catch (UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the assembler of {@code Object[]} rows of a layout, resolving the column of each property on the
+     * first request.
+     *
+     * @param layout columns of the rows
+     * @return row assembler, cached by layout
+     * @throws IllegalArgumentException when a model property has no column in layout
+     */
+    TupleAssembler rowAssemblerFor(TupleLayout layout) {
+        checkNotNull(layout);
+
+        try {
+            return rowAssemblers.getUnchecked(layout);
+        } catch (UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw e;
+        }
+    }
+
+    /**
+     * @param assembler assembler of this plan
+     * @return assembler wrapped by a {@link TrackingAssembler} when DTOs of this plan are tracked, as is otherwise
+     */
+    @SuppressWarnings("unchecked")
+    Assembler<?> track(Assembler<?> assembler) {
+        return !projection && TrackingAssembler.isTracked(dtoClass) ? new TrackingAssembler(this, (Assembler<Object>) assembler) : assembler;
+    }
+
+    /**
+     * Resolves up front what assembling would otherwise resolve on first use: the DTO constructor and accessors,
+     * the lazy proxy and the assemblers provided for the DTO class.
+     *
+     * @throws AssemblerException when the DTO class can not be assembled
+     */
+    void warmUp() {
+        try {
+            if (constructor == null)
+                dtoClass.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            throw new AssemblerException(format("DTO class '%s' has no default constructor", dtoClass.getName()), e);
+        }
+
+        for (TransferParams param : params) {
+            try {
+                if (param.isFieldAccess())
+                    PropertyAccessors.forField(dtoClass, param.getDtoProperty());
+                else
+                    PropertyAccessors.forProperty(dtoClass, param.getDtoProperty());
+            } catch (NoSuchMethodException e) {
+                throw new AssemblerException(format("Property '%s' of DTO class '%s' can not be accessed", param.getDtoProperty(), dtoClass.getName()), e);
+            } catch (IllegalAccessException e) {
+                throw new AssemblerException(format("Property '%s' of DTO class '%s' can not be accessed", param.getDtoProperty(), dtoClass.getName()), e);
+            }
+        }
+
+        if (LazyProxyGenerator.isLazy(dtoClass)) {
+            lazyAssembler();
+            return;
+        }
+
+        for (Class<?> modelClass : ProvidedAssemblers.modelTypes(dtoClass))
+            assemblerFor(modelClass);
+    }
+
+    private Assembler<?> assemblerOf(Class<?> modelClass) {
+        // compiled assemblers only call public accessors, on DTOs built by their no-arg constructor
+        if (fieldAccess || constructor != null)
+            return new AssemblerImpl<Object>(this);
+
+        CompiledAssembler<?, ?> compiled = projection ? null : ProvidedAssemblers.find(modelClass, dtoClass);
+        if (compiled != null)
+            compiled.bind(this);
+        else
+            compiled = AssemblerGenerator.generate(modelClass, this);
+        return compiled != null ? compiled : new AssemblerImpl<Object>(this);
+    }
+
+    private AssemblyPlan project(FieldSelection selection) {
+        List<TransferParams> selected = new ArrayList<TransferParams>();
+        List<String> properties = new ArrayList<String>();
+        for (TransferParams param : params) {
+            properties.add(param.getDtoProperty());
+            if (!selection.includes(param.getDtoProperty()))
+                continue;
+
+            FieldSelection nestedSelection = selection.nested(param.getDtoProperty());
+            if (nestedSelection == null) {
+                selected.add(param);
+                continue;
+            }
+
+            checkArgument(param.isNested(), "Property '%s' of DTO class '%s' is not a nested DTO", param.getDtoProperty(), dtoClass.getName());
+            NestedTransformer nested = ((NestedTransformer) param.getTransformer()).select(nestedSelection);
+            // compiles the nested projection now, so selections of unknown nested properties fail up front
+            getEngine().planFor(nested.getDtoClass(), nestedSelection);
+            selected.add(param.withTransformer(nested));
+        }
+
+        for (String path : selection.getPaths()) {
+            String property = path.indexOf('.') < 0 ? path : path.substring(0, path.indexOf('.'));
+            checkArgument(properties.contains(property), "Unknown property '%s' of DTO class '%s'", property, dtoClass.getName());
+        }
+
+        return new AssemblyPlan(engine, dtoClass, selected, true);
+    }
+
+    private synchronized LazyAssembler lazyAssembler() {
+        if (lazyAssembler == null)
+            lazyAssembler = LazyProxyGenerator.generate(this);
+        return lazyAssembler;
+    }
+}
@@ -0,0 +1,218 @@
+package br.com.machinae.assemblae;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Assembles DTOs without blocking the caller. Blocking properties are copied on the executor, while the
+ * properties with an {@link AsyncTransformer} are transformed concurrently, so a DTO waits for its slowest
+ * transformation instead of their sum, unless the DTO is lazy, tracked or built by its constructor. Collections are
+ * assembled element by element, with a bounded number of elements in flight, and their nested DTOs are not shared
+ * between elements.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+final class AsyncAssembly {
+
+    private AsyncAssembly() {}
+
+    /**
+     * @param engine engine assembling the DTO
+     * @param model model
+     * @param dtoClass dto class
+     * @param executor executor copying the blocking properties
+     * @return future of the dto, completed exceptionally when a property fails
+     */
+    static <T> CompletableFuture<T> assemble(final AssemblaeEngine engine, final Object model, final Class<T> dtoClass, Executor executor) {
+        checkNotNull(model, "Model assembled can not be null");
+        checkNotNull(executor);
+
+        final AssemblyPlan plan = engine.loadPlan(dtoClass);
+        if (!isConcurrent(plan)) {
+            return CompletableFuture.supplyAsync(new Supplier<T>() {
+                @Override
+                public T get() {
+                    return engine.assemble(model, dtoClass);
+                }
+            }, executor);
+        }
+
+        return CompletableFuture.supplyAsync(new Supplier<CompletableFuture<T>>() {
+            @Override
+            public CompletableFuture<T> get() {
+                // transformations are started first, so they run while the blocking properties are copied
+                List<CompletableFuture<Object>> values = new ArrayList<CompletableFuture<Object>>();
+                for (TransferParams param : plan.getAsyncParams())
+                    values.add(param.transformAsync(param.read(model)));
+
+                final T dto = engine.assemble(model, dtoClass, plan.getBlockingSelection());
+
+                CompletableFuture<?>[] written = new CompletableFuture<?>[values.size()];
+                for (int i = 0; i < written.length; i++)
+                    written[i] = values.get(i).thenAccept(writer(plan.getAsyncParams().get(i), dto));
+
+                return CompletableFuture.allOf(written).thenApply(new Function<Void, T>() {
+                    @Override
+                    public T apply(Void done) {
+                        return dto;
+                    }
+                });
+            }
+        }, executor).thenCompose(new Function<CompletableFuture<T>, CompletableFuture<T>>() {
+            @Override
+            public CompletableFuture<T> apply(CompletableFuture<T> dto) {
+                return dto;
+            }
+        });
+    }
+
+    /**
+     * Async properties are written after the blocking ones are copied through a projection, which is neither lazy
+     * nor tracked, to a DTO built without them. DTOs that are lazy, tracked or built by their constructor are
+     * assembled through their full plan instead, with their async properties transformed blocking.
+     *
+     * @param plan plan of the dto class
+     * @return true when the async properties of the plan can be transformed concurrently
+     */
+    private static boolean isConcurrent(AssemblyPlan plan) {
+        Class<?> dtoClass = plan.getDtoClass();
+        return !plan.getAsyncParams().isEmpty() && plan.getConstructor() == null
+                && !LazyProxyGenerator.isLazy(dtoClass) && !TrackingAssembler.isTracked(dtoClass);
+    }
+
+    private static Consumer<Object> writer(final TransferParams param, final Object dto) {
+        return new Consumer<Object>() {
+            @Override
+            public void accept(Object value) {
+                param.write(dto, value);
+            }
+        };
+    }
+
+    /**
+     * Assembles models keeping at most maxConcurrency of them in flight, each one started when a previous one
+     * completes. The first failure completes the result and no other model is started.
+     *
+     * @param engine engine assembling the DTOs
+     * @param models models
+     * @param dtoClass dto class
+     * @param executor executor copying the blocking properties
+     * @param maxConcurrency maximum number of models assembled at once
+     * @return future of the dtos, in models order
+     */
+    static <T> CompletableFuture<Collection<T>> assembleAll(AssemblaeEngine engine, Collection<Object> models,
+                                                           Class<T> dtoClass, Executor executor, int maxConcurrency) {
+        checkNotNull(models, "Model list can not be null");
+        checkNotNull(executor);
+        checkArgument(maxConcurrency > 0, "Concurrency limit must be positive");
+
+        return new CollectionAssembly<T>(engine, models.toArray(), dtoClass, executor, maxConcurrency).start();
+    }
+
+    /**
+     * Starts the models of a collection as slots are released. Completions may run on the starting thread, so
+     * models are started by a single draining loop instead of recursively.
+     */
+    private static final class CollectionAssembly<T> {
+
+        private final AssemblaeEngine engine;
+
+        private final Object[] models;
+
+        private final Object[] dtos;
+
+        private final Class<T> dtoClass;
+
+        private final Executor executor;
+
+        private final int maxConcurrency;
+
+        private final CompletableFuture<Collection<T>> result = new CompletableFuture<Collection<T>>();
+
+        private final AtomicInteger running = new AtomicInteger();
+
+        private final AtomicInteger pending;
+
+        private final AtomicInteger draining = new AtomicInteger();
+
+        private int next;
+
+        CollectionAssembly(AssemblaeEngine engine, Object[] models, Class<T> dtoClass, Executor executor, int maxConcurrency) {
+            this.engine = engine;
+            this.models = models;
+            this.dtos = new Object[models.length];
+            this.dtoClass = dtoClass;
+            this.executor = executor;
+            this.maxConcurrency = maxConcurrency;
+            this.pending = new AtomicInteger(models.length);
+        }
+
+        CompletableFuture<Collection<T>> start() {
+            if (models.length == 0)
+                result.complete(new ArrayList<T>());
+            else
+                drain();
+            return result;
+        }
+
+        private void drain() {
+            if (draining.getAndIncrement() != 0)
+                return;
+
+            do {
+                while (next < models.length && running.get() < maxConcurrency && !result.isDone()) {
+                    running.incrementAndGet();
+                    assemble(next++);
+                }
+            } while (draining.decrementAndGet() != 0);
+        }
+
+        private void assemble(final int index) {
+            CompletableFuture<T> dto;
+            try {
+                dto = AsyncAssembly.assemble(engine, models[index], dtoClass, executor);
+            } catch (RuntimeException e) {
+                dto = new CompletableFuture<T>();
+                dto.completeExceptionally(e);
+            }
+
+            dto.whenComplete(new BiConsumer<T, Throwable>() {
+                @Override
+                public void accept(T assembled, Throwable failure) {
+                    if (failure != null) {
+                        result.completeExceptionally(failure);
+                        return;
+                    }
+
+                    dtos[index] = assembled;
+                    if (pending.decrementAndGet() == 0) {
+                        result.complete(collect());
+                        return;
+                    }
+                    running.decrementAndGet();
+                    drain();
+                }
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private Collection<T> collect() {
+            Collection<T> collected = new ArrayList<T>(dtos.length);
+            for (Object dto : dtos)
+                collected.add((T) dto);
+            return collected;
+        }
+    }
+}
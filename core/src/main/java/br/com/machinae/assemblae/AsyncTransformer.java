@@ -0,0 +1,23 @@
+package br.com.machinae.assemblae;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Transformer able to transform a value without blocking the assembling thread, typically calling a remote
+ * service or a database. Asynchronous assemblies start the transformations of every such property of a DTO at
+ * once, and complete the DTO when all of them are done; other assemblies call the blocking methods.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ * @see AssemblaeEngine#assembleAsync(Object, Class)
+ */
+public interface AsyncTransformer<MODELTYPE, DTOTYPE> extends Transformer<MODELTYPE, DTOTYPE> {
+
+    /**
+     * Method that convert MODEL type/representation to DTO type/representation, asynchronously
+     *
+     * @param data a data representation on model
+     * @return future of the data converted to a DTO representation
+     */
+    CompletableFuture<DTOTYPE> transformAsync(MODELTYPE data);
+}
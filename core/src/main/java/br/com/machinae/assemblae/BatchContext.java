@@ -0,0 +1,160 @@
+package br.com.machinae.assemblae;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Results of the {@link BatchTransformer} properties of a collection being assembled, bound to the assembling
+ * thread. Values of each batch property are gathered from every model and transformed in one call before the
+ * models are assembled, so the transformer is not called once per model; null values are transformed once.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+final class BatchContext {
+
+    private static final ThreadLocal<BatchContext> CURRENT = new ThreadLocal<BatchContext>();
+
+    private final Map<TransferParams, Map<Object, Object>> results = new IdentityHashMap<TransferParams, Map<Object, Object>>();
+
+    private final BatchContext previous;
+
+    private BatchContext(BatchContext previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * Transforms the values of the batch properties of plan, read from models, and binds the results to the
+     * current thread. Every call must be paired with {@link #exit()}.
+     *
+     * @param plan plan assembling models
+     * @param models models
+     * @return context of the collection
+     */
+    static BatchContext enter(AssemblyPlan plan, Collection<?> models) {
+        return enter(plan, models, null);
+    }
+
+    /**
+     * Transforms the values of the batch properties of plan, read from tuples, and binds the results to the
+     * current thread. Every call must be paired with {@link #exit()}.
+     *
+     * @param plan plan assembling models
+     * @param models models
+     * @param tuples assembler reading the models, null when they are beans or maps
+     * @return context of the collection
+     */
+    static BatchContext enter(AssemblyPlan plan, Collection<?> models, TupleAssembler tuples) {
+        BatchContext context = new BatchContext(CURRENT.get());
+        context.transformAll(plan, models, tuples);
+
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * Transforms the values of the batch properties of plan, read from models, without binding the results to a
+     * thread, for collections split among worker threads that each {@link #bind} them.
+     *
+     * @param plan plan assembling models
+     * @param models models
+     * @return context of the collection
+     */
+    static BatchContext of(AssemblyPlan plan, Collection<?> models) {
+        BatchContext context = new BatchContext(null);
+        context.transformAll(plan, models, null);
+        return context;
+    }
+
+    /**
+     * Binds the results of this context to the current thread, while it assembles part of the collection. Every
+     * call must be paired with {@link #unbind(BatchContext)}.
+     *
+     * @return context previously bound to the current thread, null when none
+     */
+    BatchContext bind() {
+        BatchContext bound = CURRENT.get();
+        CURRENT.set(this);
+        return bound;
+    }
+
+    /**
+     * @param bound context returned by {@link #bind()}, restored to the current thread
+     */
+    static void unbind(BatchContext bound) {
+        if (bound == null)
+            CURRENT.remove();
+        else
+            CURRENT.set(bound);
+    }
+
+    /**
+     * Restores the context of the enclosing collection, if any.
+     */
+    void exit() {
+        if (previous == null)
+            CURRENT.remove();
+        else
+            CURRENT.set(previous);
+    }
+
+    /**
+     * @param param copy parameters of a batch property
+     * @return the transformed values of param in the collection being assembled, null outside of one
+     */
+    static Map<Object, Object> results(TransferParams param) {
+        BatchContext context = CURRENT.get();
+        return context == null ? null : context.results.get(param);
+    }
+
+    /**
+     * @return context of the collection being assembled by the current thread, null outside of one
+     */
+    static BatchContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @param param copy parameters of a batch property
+     * @return the transformed values of param in this context, null when param is not transformed by it
+     */
+    Map<Object, Object> resultsOf(TransferParams param) {
+        return results.get(param);
+    }
+
+    private void transformAll(AssemblyPlan plan, Collection<?> models, TupleAssembler tuples) {
+        for (int i = 0; i < plan.size(); i++)
+            if (plan.get(i).isBatch())
+                results.put(plan.get(i), transformAll(plan.get(i), i, models, tuples));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> transformAll(TransferParams param, int property, Collection<?> models, TupleAssembler tuples) {
+        Set<Object> values = new LinkedHashSet<Object>();
+        boolean hasNull = false;
+        for (Object model : models) {
+            if (tuples != null)
+                tuples.check(model);
+            Object value = tuples != null ? tuples.read(model, property) : param.read(model);
+            if (value != null)
+                values.add(value);
+            else
+                hasNull = true;
+        }
+
+        Map<Object, Object> transformed = values.isEmpty() ? Collections.emptyMap() : param.transformAll(values);
+
+        // values missing from the transformer result are assembled as null, without calling it again
+        Map<Object, Object> resolved = new HashMap<Object, Object>(values.size() * 2);
+        for (Object value : values)
+            resolved.put(value, transformed.get(value));
+        if (hasNull)
+            resolved.put(null, param.transform(null));
+        return resolved;
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.machinae.assemblae;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Transformer able to transform many values in a single call, typically resolving identifiers with one
+ * repository query instead of one per model. Assembling a collection gathers the values of the property from
+ * every model, transforms them at once and copies each result to its DTO; other assemblies, and the reverse
+ * direction, still call the single value methods.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ * @see AssemblaeEngine#assembleAll(Collection, Class)
+ */
+public interface BatchTransformer<MODELTYPE, DTOTYPE> extends Transformer<MODELTYPE, DTOTYPE> {
+
+    /**
+     * Method that convert many MODEL type/representations to DTO type/representations
+     *
+     * @param data distinct, non null data representations on model
+     * @return the data converted to a DTO representation, by model representation. Data without an entry
+     * is converted to null
+     */
+    Map<MODELTYPE, DTOTYPE> transformAll(Collection<MODELTYPE> data);
+}
@@ -0,0 +1,157 @@
+package br.com.machinae.assemblae;
+
+import com.google.common.base.Optional;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Transformer memoizing the results of a pure transformer, in bounded concurrent caches, one per direction.
+ * Null values are passed through to the transformer, null results are cached. Batch transformers are memoized by
+ * a {@link BatchTransformer} too, transforming in one call only the values missing from the cache.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ * @see br.com.machinae.assemblae.annotation.MappedProperty#cached()
+ */
+class CachingTransformer implements Transformer<Object, Object> {
+
+    private final Transformer<Object, Object> transformer;
+
+    private final LoadingCache<Object, Optional<Object>> transformed;
+
+    private final LoadingCache<Object, Optional<Object>> reversed;
+
+    /**
+     * @param transformer pure transformer
+     * @param maximumSize maximum number of values cached in each direction
+     * @param ttlSeconds seconds a result is cached, 0 for no expiration
+     */
+    CachingTransformer(final Transformer<Object, Object> transformer, long maximumSize, long ttlSeconds) {
+        checkArgument(maximumSize > 0, "Cache size must be positive");
+        checkArgument(ttlSeconds >= 0, "Cache TTL can not be negative");
+
+        this.transformer = checkNotNull(transformer);
+        this.transformed = builder(maximumSize, ttlSeconds).build(new CacheLoader<Object, Optional<Object>>() {
+            @Override
+            public Optional<Object> load(Object value) {
+                return Optional.fromNullable(transformer.transform(value));
+            }
+        });
+        this.reversed = builder(maximumSize, ttlSeconds).build(new CacheLoader<Object, Optional<Object>>() {
+            @Override
+            public Optional<Object> load(Object value) {
+                return Optional.fromNullable(transformer.reverse(value));
+            }
+        });
+    }
+
+    /**
+     * @param transformer pure transformer
+     * @param maximumSize maximum number of values cached in each direction
+     * @param ttlSeconds seconds a result is cached, 0 for no expiration
+     * @return caching transformer, batching the values missing from the cache when transformer is a batch one
+     */
+    @SuppressWarnings("unchecked")
+    static CachingTransformer of(Transformer<Object, Object> transformer, long maximumSize, long ttlSeconds) {
+        return transformer instanceof BatchTransformer
+                ? new Batch((BatchTransformer<Object, Object>) transformer, maximumSize, ttlSeconds)
+                : new CachingTransformer(transformer, maximumSize, ttlSeconds);
+    }
+
+    private static CacheBuilder<Object, Object> builder(long maximumSize, long ttlSeconds) {
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats();
+        return ttlSeconds > 0 ? builder.expireAfterWrite(ttlSeconds, TimeUnit.SECONDS) : builder;
+    }
+
+    /**
+     * @return the memoized transformer
+     */
+    Transformer<Object, Object> getTransformer() {
+        return transformer;
+    }
+
+    /**
+     * @return cache of the transformed values
+     */
+    LoadingCache<Object, Optional<Object>> cache() {
+        return transformed;
+    }
+
+    /**
+     * @return hits, misses, load times and evictions of both directions
+     */
+    CacheStats stats() {
+        return transformed.stats().plus(reversed.stats());
+    }
+
+    @Override
+    public Object transform(Object value) {
+        return value == null ? transformer.transform(null) : get(transformed, value);
+    }
+
+    @Override
+    public Object reverse(Object value) {
+        return value == null ? transformer.reverse(null) : get(reversed, value);
+    }
+
+    private static Object get(LoadingCache<Object, Optional<Object>> cache, Object value) {
+        try {
+            return cache.getUnchecked(value).orNull();
+        } catch (UncheckedExecutionException e) {
+            // transformer failures are not cached, nor wrapped
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw e;
+        }
+    }
+
+    /**
+     * Caching transformer of a batch transformer, whose cached results are reused by batches.
+     */
+    static final class Batch extends CachingTransformer implements BatchTransformer<Object, Object> {
+
+        private final BatchTransformer<Object, Object> batchTransformer;
+
+        Batch(BatchTransformer<Object, Object> transformer, long maximumSize, long ttlSeconds) {
+            super(transformer, maximumSize, ttlSeconds);
+            this.batchTransformer = transformer;
+        }
+
+        @Override
+        public Map<Object, Object> transformAll(Collection<Object> values) {
+            Map<Object, Object> results = new HashMap<Object, Object>(values.size() * 2);
+            List<Object> missing = new ArrayList<Object>();
+            for (Object value : values) {
+                Optional<Object> cached = cache().getIfPresent(value);
+                if (cached != null)
+                    results.put(value, cached.orNull());
+                else
+                    missing.add(value);
+            }
+            if (missing.isEmpty())
+                return results;
+
+            // values missing from the batch result are cached as null, as they are assembled
+            Map<Object, Object> transformed = batchTransformer.transformAll(missing);
+            for (Object value : missing) {
+                Object result = transformed.get(value);
+                cache().put(value, Optional.fromNullable(result));
+                results.put(value, result);
+            }
+            return results;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package br.com.machinae.assemblae;
+
+import com.google.common.base.Function;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * Base class for assemblers dedicated to a single model and DTO class pair, whose copy is plain
+ * getter/setter code instead of introspection. Subclasses are generated at runtime by Assemblae, or at
+ * compile time by the assemblae-processor, and are not intended to be written by hand.
+ *
+ * Compile time subclasses are registered in META-INF/services and discovered with {@link java.util.ServiceLoader},
+ * so they must have a public no-arg constructor. Each plan gets its own instance, bound to it before use: models of
+ * other types are delegated to the engine of the plan, and compile time subclasses get their transformers from the
+ * plan in {@link #init}, so transformations go through the registry and listener of that engine.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ *
+ * @param <M> model type
+ * @param <T> DTO type
+ */
+public abstract class CompiledAssembler<M, T> implements Assembler<T> {
+
+    private final Class<M> modelType;
+
+    private final Class<T> dtoType;
+
+    private AssemblyPlan plan;
+
+    private AssemblerImpl<Object> reflective;
+
+    protected CompiledAssembler(Class<M> modelType, Class<T> dtoType) {
+        this.modelType = checkNotNull(modelType);
+        this.dtoType = checkNotNull(dtoType);
+    }
+
+    public Class<M> getModelType() {
+        return modelType;
+    }
+
+    public Class<T> getDtoType() {
+        return dtoType;
+    }
+
+    /**
+     * Binds this assembler to the plan it assembles with.
+     *
+     * @param plan plan of the DTO class of this assembler
+     */
+    final void bind(AssemblyPlan plan) {
+        checkArgument(plan.getDtoClass() == dtoType, "Assembler of %s can not be bound to the plan of %s", dtoType.getName(),
+                plan.getDtoClass().getName());
+
+        this.plan = plan;
+        this.reflective = new AssemblerImpl<Object>(plan);
+        init();
+    }
+
+    /**
+     * Called once the assembler is bound to its plan, before it is used. Subclasses with transformers get them
+     * here, through {@link #transformer}.
+     */
+    protected void init() {
+    }
+
+    /**
+     * @param dtoProperty DTO property
+     * @return the transformer of dtoProperty in the plan: primitive transformers as they are, others through the
+     * plan, which reports their calls to the listener
+     * @throws IllegalArgumentException when dtoProperty is not mapped by the plan
+     */
+    protected final Transformer<Object, Object> transformer(String dtoProperty) {
+        checkState(plan != null, "Assembler %s is not bound to a plan", getClass().getName());
+
+        for (int i = 0; i < plan.size(); i++)
+            if (plan.get(i).getDtoProperty().equals(dtoProperty))
+                return AssemblerGenerator.transformerOf(plan.get(i));
+
+        throw new IllegalArgumentException(String.format("Property '%s' is not mapped by DTO class '%s'", dtoProperty, dtoType.getName()));
+    }
+
+    /**
+     * Assemble a model of the exact model type of this assembler, other models are delegated to the engine.
+     *
+     * @param model model
+     * @param dtoClass dto class
+     * @return dto instance
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T assemble(Object model, Class<T> dtoClass) {
+        checkNotNull(model, "Model assembled can not be null");
+
+        if (model.getClass() != modelType || dtoClass != dtoType)
+            return engine().assemble(model, dtoClass);
+
+        T dto = newInstance();
+        copy((M) model, dto);
+        return dto;
+    }
+
+    /**
+     * Assemble a model of the exact model type of this assembler in an existing DTO, other models are delegated
+     * to the engine.
+     *
+     * @param model model
+     * @param dto dto to populate
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void assembleInto(Object model, T dto) {
+        checkNotNull(model, "Model assembled can not be null");
+        checkNotNull(dto, "DTO can not be null");
+
+        if (model.getClass() != modelType || dto.getClass() != dtoType)
+            engine().assembleInto(model, dto);
+        else
+            copy((M) model, dto);
+    }
+
+    @Override
+    public Collection<T> assembleAll(Collection<Object> models, Class<T> dtoClass) {
+        checkNotNull(models, "Model list can not be null");
+
+        Collection<T> dtos = new ArrayList<T>(models.size());
+        for (Object model : models)
+            dtos.add(assemble(model, dtoClass));
+
+        return dtos;
+    }
+
+    /**
+     * Assemble a list of models in parallel, as configured by parallelism.
+     *
+     * @see ParallelAssembly#assembleAll
+     *
+     * @param models collection of model
+     * @param dtoClass dto class
+     * @param parallelism parallel configuration
+     * @return dtos collection
+     */
+    @Override
+    public Collection<T> assembleAll(Collection<Object> models, final Class<T> dtoClass, Parallelism parallelism) {
+        return ParallelAssembly.assembleAll(models, new Function<Object, T>() {
+            @Override
+            public T apply(Object model) {
+                return assemble(model, dtoClass);
+            }
+        }, parallelism);
+    }
+
+    /**
+     * Update a model of the exact model type of this assembler, other models are delegated to the engine.
+     *
+     * @param dto dto
+     * @param model model
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void disassemble(T dto, Object model) {
+        checkNotNull(dto, "DTO disassembled can not be null");
+        checkNotNull(model, "Model can not be null");
+
+        if (model.getClass() != modelType || dto.getClass() != dtoType)
+            engine().disassemble(dto, model);
+        else
+            copyBack(dto, (M) model);
+    }
+
+    /**
+     * @param e failure of a getter or setter
+     * @return the exception thrown for it, as the reflective assemblers do
+     */
+    protected static AssemblerException copyError(Throwable e) {
+        return new AssemblerException("Property copy error", e);
+    }
+
+    /**
+     * Checks a value before it is set, as the reflective assemblers check it.
+     *
+     * @param value value to be set, as returned by a transformer
+     * @param type type of the property, boxed
+     * @param primitive true when the property is primitive
+     * @param target object whose property is set
+     * @param property property set
+     * @return value
+     * @throws IllegalArgumentException when value is not of type, or is null for a primitive property
+     */
+    protected static Object assignable(Object value, Class<?> type, boolean primitive, Object target, String property) {
+        if (value == null ? primitive : !type.isInstance(value))
+            throw new IllegalArgumentException(String.format("Argument type mismatch setting property '%s' in class '%s'",
+                    property, target.getClass().getName()));
+        return value;
+    }
+
+    /**
+     * @return a new, empty, DTO instance
+     */
+    protected abstract T newInstance();
+
+    /**
+     * Copy all mapped properties from model to dto, applying the configured transformations. Getter and setter
+     * failures are thrown as {@link #copyError}, transformed values are checked with {@link #assignable} and
+     * transformer failures are thrown as they are.
+     *
+     * @param model model from where properties are read
+     * @param dto dto where properties are written
+     */
+    protected abstract void copy(M model, T dto);
+
+    /**
+     * Copy all mapped properties from dto back to model, applying the reverse transformations. Subclasses
+     * override it with plain code when the model has the needed setters, otherwise the reflective copy is used.
+     *
+     * @param dto dto from where properties are read
+     * @param model model where properties are written
+     */
+    protected void copyBack(T dto, M model) {
+        checkState(reflective != null, "Assembler %s is not bound to a plan", getClass().getName());
+
+        reflective.disassemble(dto, model);
+    }
+
+    private AssemblaeEngine engine() {
+        checkState(plan != null, "Assembler %s is not bound to a plan", getClass().getName());
+
+        return plan.getEngine();
+    }
+}
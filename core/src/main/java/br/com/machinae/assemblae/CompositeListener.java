@@ -0,0 +1,70 @@
+package br.com.machinae.assemblae;
+
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Listener notifying each listener of an engine, in registration order.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+final class CompositeListener implements AssemblyListener {
+
+    private final AssemblyListener[] listeners;
+
+    CompositeListener(List<AssemblyListener> listeners) {
+        checkNotNull(listeners);
+
+        this.listeners = listeners.toArray(new AssemblyListener[listeners.size()]);
+    }
+
+    @Override
+    public void planLoaded(Class<?> dtoClass) {
+        for (AssemblyListener listener : listeners)
+            listener.planLoaded(dtoClass);
+    }
+
+    @Override
+    public void planCacheHit(Class<?> dtoClass) {
+        for (AssemblyListener listener : listeners)
+            listener.planCacheHit(dtoClass);
+    }
+
+    @Override
+    public void planCompiled(Class<?> dtoClass, long nanos) {
+        for (AssemblyListener listener : listeners)
+            listener.planCompiled(dtoClass, nanos);
+    }
+
+    @Override
+    public void assembled(Class<?> dtoClass, long nanos) {
+        for (AssemblyListener listener : listeners)
+            listener.assembled(dtoClass, nanos);
+    }
+
+    @Override
+    public void assembledAll(Class<?> dtoClass, int count, long nanos) {
+        for (AssemblyListener listener : listeners)
+            listener.assembledAll(dtoClass, count, nanos);
+    }
+
+    @Override
+    public void disassembled(Class<?> dtoClass, long nanos) {
+        for (AssemblyListener listener : listeners)
+            listener.disassembled(dtoClass, nanos);
+    }
+
+    @Override
+    public void transformed(Class<?> dtoClass, String dtoProperty, long nanos) {
+        for (AssemblyListener listener : listeners)
+            listener.transformed(dtoClass, dtoProperty, nanos);
+    }
+
+    @Override
+    public void reversed(Class<?> dtoClass, String dtoProperty, long nanos) {
+        for (AssemblyListener listener : listeners)
+            listener.reversed(dtoClass, dtoProperty, nanos);
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.machinae.assemblae;
+
+/**
+ * Transformer of double values, called without boxing between primitive properties.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ * @see IntTransformer
+ */
+public abstract class DoubleTransformer implements Transformer<Double, Double> {
+
+    /**
+     * @param data model value
+     * @return dto value
+     */
+    public abstract double transformAsDouble(double data);
+
+    /**
+     * @param data dto value
+     * @return model value
+     */
+    public abstract double reverseAsDouble(double data);
+
+    @Override
+    public final Double transform(Double data) {
+        return data == null ? null : transformAsDouble(data);
+    }
+
+    @Override
+    public final Double reverse(Double data) {
+        return data == null ? null : reverseAsDouble(data);
+    }
+}
@@ -0,0 +1,193 @@
+package br.com.machinae.assemblae;
+
+import java.beans.ConstructorProperties;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * Constructor assembling immutable DTOs in a single call, for DTO classes without a no-arg constructor: the
+ * canonical constructor of records, a constructor annotated with {@link ConstructorProperties}, or a public
+ * constructor taking every field, in declaration order. Transformed values are gathered in an argument array,
+ * by property name; properties the constructor does not take are set afterwards.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+final class DtoConstructor {
+
+    private static final MethodType SPREAD_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private final Class<?> dtoClass;
+
+    private final MethodHandle constructor;
+
+    private final Object[] defaults;
+
+    private final int[] arguments;
+
+    private DtoConstructor(Class<?> dtoClass, MethodHandle constructor, Class<?>[] types, String[] names, TransferParams[] params) {
+        this.dtoClass = dtoClass;
+        this.constructor = constructor.asSpreader(Object[].class, types.length).asType(SPREAD_TYPE);
+
+        // arguments of no property are passed as zero or null
+        this.defaults = new Object[types.length];
+        for (int i = 0; i < types.length; i++)
+            if (types[i].isPrimitive())
+                defaults[i] = Array.get(Array.newInstance(types[i], 1), 0);
+
+        this.arguments = new int[params.length];
+        List<String> argumentNames = Arrays.asList(names);
+        for (int i = 0; i < params.length; i++)
+            arguments[i] = argumentNames.indexOf(params[i].getDtoProperty());
+    }
+
+    /**
+     * Finds how to construct a DTO class, when it has no no-arg constructor.
+     *
+     * @param dtoClass dto class
+     * @param params copy parameters of the plan
+     * @return constructor of dtoClass, null when it has a no-arg constructor or no suitable one
+     * @throws AssemblerException when the constructor can not be accessed
+     */
+    static DtoConstructor find(Class<?> dtoClass, TransferParams[] params) {
+        try {
+            dtoClass.getDeclaredConstructor();
+            return null;
+        } catch (NoSuchMethodException e) {
+            // assembled by a constructor taking its properties
+        }
+
+        try {
+            String[] components = recordComponents(dtoClass);
+            if (components != null) {
+                Class<?>[] types = recordTypes(dtoClass);
+                return new DtoConstructor(dtoClass, handle(dtoClass.getDeclaredConstructor(types)), types, components, params);
+            }
+
+            for (Constructor<?> constructor : dtoClass.getConstructors()) {
+                ConstructorProperties properties = constructor.getAnnotation(ConstructorProperties.class);
+                if (properties != null && properties.value().length == constructor.getParameterTypes().length)
+                    return new DtoConstructor(dtoClass, handle(constructor), constructor.getParameterTypes(), properties.value(), params);
+            }
+
+            List<Class<?>> types = new ArrayList<Class<?>>();
+            List<String> names = new ArrayList<String>();
+            for (Field field : dtoClass.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                    types.add(field.getType());
+                    names.add(field.getName());
+                }
+            }
+            for (Constructor<?> constructor : dtoClass.getConstructors())
+                if (Arrays.asList(constructor.getParameterTypes()).equals(types))
+                    return new DtoConstructor(dtoClass, handle(constructor), constructor.getParameterTypes(), names.toArray(new String[names.size()]), params);
+        } catch (NoSuchMethodException e) {
+            throw new AssemblerException(format("DTO class '%s' has no canonical constructor", dtoClass.getName()), e);
+        } catch (IllegalAccessException e) {
+            throw new AssemblerException(format("DTO class '%s' constructor can not be accessed", dtoClass.getName()), e);
+        }
+        return null;
+    }
+
+    /**
+     * @param index property index in the plan
+     * @return position of the property in the constructor arguments, -1 when it is set after construction
+     */
+    int argumentOf(int index) {
+        return arguments[index];
+    }
+
+    /**
+     * @return a new argument array, holding zero or null for every argument
+     */
+    Object[] newArguments() {
+        return defaults.clone();
+    }
+
+    /**
+     * @param arguments constructor arguments
+     * @return dto instance
+     * @throws AssemblerException when an argument does not match its parameter, or the constructor fails
+     */
+    Object newInstance(Object[] arguments) {
+        try {
+            return (Object) constructor.invokeExact(arguments);
+        } catch (Throwable e) {
+            // argument type mismatches and null primitives fail converting the arguments, as ClassCastException and NullPointerException
+            throw new AssemblerException(format("Failure constructing DTO class '%s'", dtoClass.getName()), e);
+        }
+    }
+
+    /**
+     * @param type class
+     * @return true when type is a record, on runtimes supporting them
+     */
+    static boolean isRecord(Class<?> type) {
+        try {
+            return (Boolean) Class.class.getMethod("isRecord").invoke(type);
+        } catch (NoSuchMethodException e) {
+            return false;
+        } catch (IllegalAccessException e) {
+            return false;
+        } catch (InvocationTargetException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return names of the record components of type, null when it is not a record
+     */
+    private static String[] recordComponents(Class<?> type) {
+        if (!isRecord(type))
+            return null;
+
+        Object[] components = components(type);
+        String[] names = new String[components.length];
+        for (int i = 0; i < components.length; i++)
+            names[i] = (String) invoke(components[i], "getName");
+        return names;
+    }
+
+    private static Class<?>[] recordTypes(Class<?> type) {
+        Object[] components = components(type);
+        Class<?>[] types = new Class<?>[components.length];
+        for (int i = 0; i < components.length; i++)
+            types[i] = (Class<?>) invoke(components[i], "getType");
+        return types;
+    }
+
+    private static Object[] components(Class<?> type) {
+        return (Object[]) invoke(type, "getRecordComponents");
+    }
+
+    private static Object invoke(Object target, String method) {
+        try {
+            Method accessor = target.getClass().getMethod(method);
+            return accessor.invoke(target);
+        } catch (NoSuchMethodException e) {
+            throw new AssemblerException("Record introspection error", e);
+        } catch (IllegalAccessException e) {
+            throw new AssemblerException("Record introspection error", e);
+        } catch (InvocationTargetException e) {
+            throw new AssemblerException("Record introspection error", e);
+        }
+    }
+
+    private static MethodHandle handle(Constructor<?> constructor) throws IllegalAccessException {
+        if (!Modifier.isPublic(constructor.getModifiers()) || !Modifier.isPublic(constructor.getDeclaringClass().getModifiers()))
+            constructor.setAccessible(true);
+        return MethodHandles.lookup().unreflectConstructor(constructor);
+    }
+}
@@ -0,0 +1,115 @@
+package br.com.machinae.assemblae;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * Bounded, thread-safe pool of DTO instances, for pipelines assembling many short-lived DTOs: released DTOs are
+ * refilled by the next assemble instead of being garbage collected. A DTO must not be used after it is released,
+ * and ignored properties keep the values of its previous use. Releasing a DTO already waiting in the pool fails, so
+ * a DTO is never handed out twice.
+ * <p>
+ * Idle DTOs are kept in a stack preallocated with the pool capacity, so acquiring and releasing allocate nothing.
+ * Releasing scans the idle DTOs for the released one, which is cheap for the small capacities pools are meant for.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ * @see AssemblaeEngine#pool(Class, int)
+ */
+public final class DtoPool<T> {
+
+    private final AssemblaeEngine engine;
+
+    private final Class<T> dtoClass;
+
+    private final AssemblerImpl<T> instantiator;
+
+    /**
+     * DTOs waiting in the pool, the most recently released on top, guarded by this pool.
+     */
+    private final Object[] idle;
+
+    private int idleCount;
+
+    DtoPool(AssemblaeEngine engine, Class<T> dtoClass, int capacity) {
+        checkNotNull(engine);
+        checkNotNull(dtoClass);
+        checkArgument(capacity > 0, "Pool capacity must be positive");
+        checkArgument(!LazyProxyGenerator.isLazy(dtoClass) && engine.loadPlan(dtoClass).getConstructor() == null,
+                "DTO class '%s' is lazy or assembled by its constructor, its instances can not be pooled", dtoClass.getName());
+
+        this.engine = engine;
+        this.dtoClass = dtoClass;
+        this.idle = new Object[capacity];
+        this.instantiator = new AssemblerImpl<T>(engine);
+    }
+
+    /**
+     * Assemble a model in a pooled DTO, or in a new one when the pool is empty.
+     *
+     * @param model model
+     * @return dto, to be released when no longer used
+     */
+    public T assemble(Object model) {
+        T dto = acquire();
+        try {
+            return engine.assembleInto(model, dto);
+        } catch (RuntimeException e) {
+            release(dto);
+            throw e;
+        }
+    }
+
+    /**
+     * @return a pooled DTO, holding the values of its previous use, or a new one when the pool is empty
+     */
+    public T acquire() {
+        T dto = poll();
+        return dto != null ? dto : instantiator.instantiateDTO(dtoClass);
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized T poll() {
+        if (idleCount == 0)
+            return null;
+
+        Object dto = idle[--idleCount];
+        idle[idleCount] = null;
+        return (T) dto;
+    }
+
+    /**
+     * Returns a DTO to the pool, where it is kept unless the pool is full.
+     *
+     * @param dto dto no longer used
+     * @throws IllegalStateException when dto is already waiting in the pool
+     */
+    public void release(T dto) {
+        checkNotNull(dto, "DTO can not be null");
+        checkArgument(dto.getClass() == dtoClass, "DTO must be a %s instance", dtoClass.getName());
+
+        synchronized (this) {
+            for (int i = 0; i < idleCount; i++)
+                checkState(idle[i] != dto, "DTO was already released to the pool");
+
+            if (idleCount < idle.length)
+                idle[idleCount++] = dto;
+        }
+    }
+
+    /**
+     * @return number of DTOs waiting in the pool
+     */
+    public synchronized int getIdleCount() {
+        return idleCount;
+    }
+
+    public int getCapacity() {
+        return idle.length;
+    }
+
+    public Class<T> getDtoClass() {
+        return dtoClass;
+    }
+}
@@ -0,0 +1,118 @@
+package br.com.machinae.assemblae;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableSortedSet;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Immutable selection of the DTO properties to assemble, as requested by clients choosing fields. Properties of
+ * nested DTOs are selected with dotted paths, a nested property selected without a path is assembled whole.
+ * Selections are value objects: equal selections share the same compiled plan.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+public final class FieldSelection {
+
+    private static final Splitter COMMA = Splitter.on(',').trimResults().omitEmptyStrings();
+
+    private final ImmutableSortedSet<String> paths;
+
+    private FieldSelection(Iterable<String> paths) {
+        this.paths = ImmutableSortedSet.copyOf(paths);
+    }
+
+    /**
+     * @param paths dto property names, dotted paths for properties of nested DTOs
+     * @return selection of paths
+     */
+    public static FieldSelection of(String... paths) {
+        checkNotNull(paths);
+
+        return of(Arrays.asList(paths));
+    }
+
+    /**
+     * @param paths dto property names, dotted paths for properties of nested DTOs
+     * @return selection of paths
+     */
+    public static FieldSelection of(Iterable<String> paths) {
+        checkNotNull(paths);
+        for (String path : paths)
+            checkArgument(path != null && !path.isEmpty() && !path.startsWith(".") && !path.endsWith(".")
+                    && !path.contains(".."), "Invalid property path '%s'", path);
+
+        return new FieldSelection(paths);
+    }
+
+    /**
+     * @param fields comma separated paths, like "id,name,owner.name"
+     * @return selection of fields
+     */
+    public static FieldSelection parse(String fields) {
+        checkNotNull(fields);
+
+        return of(COMMA.split(fields));
+    }
+
+    /**
+     * @return selected paths, sorted
+     */
+    public Set<String> getPaths() {
+        return paths;
+    }
+
+    /**
+     * @param property dto property name
+     * @return true when property, or some property of it, is selected
+     */
+    public boolean includes(String property) {
+        // paths starting with property are sorted next to each other, from property itself
+        for (String path : paths.tailSet(property)) {
+            if (!path.startsWith(property))
+                return false;
+            if (path.length() == property.length() || path.charAt(property.length()) == '.')
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * @param property nested dto property name
+     * @return selection of the nested dto properties, null when property is selected whole
+     */
+    FieldSelection nested(String property) {
+        if (paths.contains(property))
+            return null;
+
+        String prefix = property + '.';
+        ImmutableSortedSet.Builder<String> nested = ImmutableSortedSet.naturalOrder();
+        for (String path : paths.tailSet(prefix)) {
+            if (!path.startsWith(prefix))
+                break;
+            nested.add(path.substring(prefix.length()));
+        }
+        return new FieldSelection(nested.build());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof FieldSelection && paths.equals(((FieldSelection) o).paths);
+    }
+
+    @Override
+    public int hashCode() {
+        return paths.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return Joiner.on(',').join(paths);
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.machinae.assemblae;
+
+/**
+ * Transformer of int values. Between primitive properties, assemblers call {@link #transformAsInt} and
+ * {@link #reverseAsInt} directly, so values are never boxed; boxed properties use the {@link Transformer}
+ * methods, which keep nulls as nulls.
+ *
+ * Like other specialized transformers, it must be a singleton or an instance registered in the
+ * {@link TransformerRegistry}.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+public abstract class IntTransformer implements Transformer<Integer, Integer> {
+
+    /**
+     * @param data model value
+     * @return dto value
+     */
+    public abstract int transformAsInt(int data);
+
+    /**
+     * @param data dto value
+     * @return model value
+     */
+    public abstract int reverseAsInt(int data);
+
+    @Override
+    public final Integer transform(Integer data) {
+        return data == null ? null : transformAsInt(data);
+    }
+
+    @Override
+    public final Integer reverse(Integer data) {
+        return data == null ? null : reverseAsInt(data);
+    }
+}
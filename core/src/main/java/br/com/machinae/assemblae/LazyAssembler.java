@@ -0,0 +1,108 @@
+package br.com.machinae.assemblae;
+
+import com.google.common.base.Function;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.Collection;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Assembler of lazy DTOs: it only instantiates the generated DTO subclass, bound to the model, and copies
+ * the properties that can not be loaded lazily. The others are assembled by the DTO getters on first access.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ * @see LazyProxyGenerator
+ */
+final class LazyAssembler implements Assembler<Object> {
+
+    private final AssemblyPlan plan;
+
+    private final MethodHandle constructor;
+
+    private final boolean[] lazy;
+
+    private final AssemblerImpl<Object> eager;
+
+    /**
+     * @param plan plan of the DTO class
+     * @param constructor constructor of the DTO subclass, of type (LazyProperties)Object
+     * @param lazy properties loaded on first access, by plan index
+     */
+    LazyAssembler(AssemblyPlan plan, MethodHandle constructor, boolean[] lazy) {
+        this.plan = plan;
+        this.constructor = constructor;
+        this.lazy = lazy;
+        this.eager = new AssemblerImpl<Object>(plan);
+    }
+
+    @Override
+    public Object assemble(Object model, Class<Object> dtoClass) {
+        checkNotNull(model, "Model assembled can not be null");
+
+        Object dto;
+        try {
+            dto = (Object) constructor.invokeExact(new LazyProperties(model, plan, lazy));
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new AssemblerException("Failure instantiating dto", e);
+        }
+
+        for (int i = 0; i < plan.size(); i++)
+            if (!lazy[i])
+                eager.copyPropertyFromModelToDTO(model, dto, plan.get(i));
+
+        return dto;
+    }
+
+    /**
+     * Eagerly assemble a model in an existing instance of the DTO class. Lazy proxies are bound to their model,
+     * so they can not be refilled.
+     */
+    @Override
+    public void assembleInto(Object model, Object dto) {
+        checkNotNull(dto, "DTO can not be null");
+        checkArgument(!LazyProxyGenerator.isProxy(dto.getClass()), "Lazy DTO '%s' is bound to its model, it can not be refilled",
+                plan.getDtoClass().getName());
+
+        eager.assembleInto(model, dto);
+    }
+
+    @Override
+    public Collection<Object> assembleAll(Collection<Object> models, Class<Object> dtoClass) {
+        checkNotNull(models, "Model list can not be null");
+
+        Collection<Object> dtos = new ArrayList<Object>(models.size());
+        for (Object model : models)
+            dtos.add(assemble(model, dtoClass));
+
+        return dtos;
+    }
+
+    @Override
+    public Collection<Object> assembleAll(Collection<Object> models, final Class<Object> dtoClass, Parallelism parallelism) {
+        return ParallelAssembly.assembleAll(models, new Function<Object, Object>() {
+            @Override
+            public Object apply(Object model) {
+                return assemble(model, dtoClass);
+            }
+        }, parallelism);
+    }
+
+    /**
+     * Update a model from a lazy DTO, loading the pending properties through the DTO getters.
+     */
+    @Override
+    public void disassemble(Object dto, Object model) {
+        checkNotNull(dto, "DTO disassembled can not be null");
+        checkNotNull(model, "Model can not be null");
+
+        for (int i = 0; i < plan.size(); i++)
+            if (!plan.get(i).isNested())
+                eager.copyPropertyFromDTOToModel(dto, model, plan.get(i));
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.machinae.assemblae;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Model and pending properties of a lazy DTO, called by the getters of the generated DTO subclass to assemble
+ * each property on first access. The model reference is released once every property is loaded.
+ *
+ * Lazy DTOs assembled with a collection keep the batch results of the collection until their properties are
+ * loaded, so a batch property is not transformed again by its getter.
+ *
+ * Like any mutable bean, a lazy DTO must not be read concurrently before all its properties are loaded.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ * @see br.com.machinae.assemblae.annotation.DataTransferObject#lazy()
+ */
+public final class LazyProperties {
+
+    private final AssemblyPlan plan;
+
+    private final boolean[] pending;
+
+    private Object model;
+
+    private BatchContext batch;
+
+    private int remaining;
+
+    LazyProperties(Object model, AssemblyPlan plan, boolean[] lazy) {
+        this.model = model;
+        this.plan = plan;
+        this.pending = lazy.clone();
+        this.batch = plan.hasBatch() ? BatchContext.current() : null;
+        for (boolean property : lazy)
+            if (property)
+                remaining++;
+    }
+
+    /**
+     * @param index property index in the DTO plan
+     * @return true while the property was neither read nor written
+     */
+    public boolean pending(int index) {
+        return pending[index];
+    }
+
+    /**
+     * Reads and transforms the model property, marking it as loaded.
+     *
+     * @param index property index in the DTO plan
+     * @return value to be set in the DTO property
+     */
+    public Object resolve(int index) {
+        TransferParams param = plan.get(index);
+        Object source = model;
+        BatchContext context = batch;
+        loaded(index);
+
+        try {
+            Object value = param.modelAccessor(source.getClass()).get(source);
+            return param.transform(value, context != null && param.isBatch() ? context.resultsOf(param) : null);
+        } catch (IllegalAccessException e) {
+            throw new AssemblerException("Property copy error", e);
+        } catch (InvocationTargetException e) {
+            throw new AssemblerException("Property copy error", e);
+        } catch (NoSuchMethodException e) {
+            throw new AssemblerException("Property copy error", e);
+        }
+    }
+
+    /**
+     * Marks the property as loaded, so a value set on the DTO is never replaced by the model one.
+     *
+     * @param index property index in the DTO plan
+     */
+    public void loaded(int index) {
+        if (pending[index]) {
+            pending[index] = false;
+            if (--remaining == 0) {
+                model = null;
+                batch = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package br.com.machinae.assemblae;
+
+import br.com.machinae.assemblae.annotation.DataTransferObject;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Generates, with ASM, the subclass of a lazy DTO. Each getter of a lazy property first asks its
+ * {@link LazyProperties} whether the property is pending and, if so, sets it with the resolved model value;
+ * each setter marks the property as loaded before setting it, so written values are kept.
+ *
+ * Properties whose getter or setter is missing or final can not be intercepted, and are copied eagerly.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+final class LazyProxyGenerator {
+
+    private static final String LAZY_NAME = Type.getInternalName(LazyProperties.class);
+
+    private static final String LAZY_DESC = Type.getDescriptor(LazyProperties.class);
+
+    private static final String LAZY_FIELD = "$$assemblaeLazy";
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private LazyProxyGenerator() {}
+
+    /**
+     * @param dtoClass dto class
+     * @return true when dtoClass is annotated as lazy
+     */
+    static boolean isLazy(Class<?> dtoClass) {
+        DataTransferObject annotation = dtoClass.getAnnotation(DataTransferObject.class);
+        return annotation != null && annotation.lazy();
+    }
+
+    /**
+     * @param type class
+     * @return true when type is a lazy DTO subclass generated by Assemblae
+     */
+    static boolean isProxy(Class<?> type) {
+        return type.getClassLoader() instanceof AssemblerGenerator.GeneratedClassLoader
+                && type.getSuperclass() != null && isLazy(type.getSuperclass());
+    }
+
+    /**
+     * Generates the lazy subclass of the plan DTO class.
+     *
+     * @param plan compiled plan of a lazy DTO class
+     * @return assembler instantiating the subclass
+     * @throws AssemblerException when the DTO class can not be subclassed
+     */
+    static LazyAssembler generate(AssemblyPlan plan) {
+        Class<?> dtoClass = plan.getDtoClass();
+        if (!AssemblerGenerator.isPublic(dtoClass) || Modifier.isFinal(dtoClass.getModifiers())
+                || Modifier.isAbstract(dtoClass.getModifiers()) || !hasPublicConstructor(dtoClass))
+            throw new AssemblerException("Lazy DTO " + dtoClass.getName()
+                    + " must be a public, concrete and non-final class with a public no-arg constructor");
+
+        Map<String, Class<?>> visible = new HashMap<String, Class<?>>();
+        visible.put(dtoClass.getName(), dtoClass);
+        visible.put(LazyProperties.class.getName(), LazyProperties.class);
+
+        boolean[] lazy = new boolean[plan.size()];
+        Method[] getters = new Method[plan.size()];
+        Method[] setters = new Method[plan.size()];
+
+        for (int i = 0; i < plan.size(); i++) {
+            String property = plan.get(i).getDtoProperty();
+            if (!PropertyAccessors.isSimple(property))
+                continue;
+
+            getters[i] = AssemblerGenerator.readMethod(dtoClass, property);
+            setters[i] = AssemblerGenerator.writeMethod(dtoClass, property);
+            lazy[i] = getters[i] != null && setters[i] != null
+                    && !Modifier.isFinal(getters[i].getModifiers()) && !Modifier.isFinal(setters[i].getModifiers());
+
+            if (lazy[i]) {
+                AssemblerGenerator.expose(visible, getters[i].getReturnType());
+                AssemblerGenerator.expose(visible, setters[i].getParameterTypes()[0]);
+            }
+        }
+
+        String name = dtoClass.getName() + "$$AssemblaeLazy$" + SEQUENCE.incrementAndGet();
+        byte[] bytecode = generate(name, dtoClass, getters, setters, lazy);
+
+        try {
+            Class<?> generated = new AssemblerGenerator.GeneratedClassLoader(dtoClass.getClassLoader(), visible).define(name, bytecode);
+            MethodHandle constructor = MethodHandles.publicLookup()
+                    .findConstructor(generated, MethodType.methodType(void.class, LazyProperties.class))
+                    .asType(MethodType.methodType(Object.class, LazyProperties.class));
+            return new LazyAssembler(plan, constructor, lazy);
+        } catch (NoSuchMethodException e) {
+            throw new AssemblerException("Lazy DTO generation error", e);
+        } catch (IllegalAccessException e) {
+            throw new AssemblerException("Lazy DTO generation error", e);
+        } catch (LinkageError e) {
+            throw new AssemblerException("Lazy DTO generation error", e);
+        }
+    }
+
+    private static byte[] generate(String name, Class<?> dtoClass, Method[] getters, Method[] setters, boolean[] lazy) {
+        String internalName = name.replace('.', '/');
+        String dtoName = Type.getInternalName(dtoClass);
+
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES) {
+            @Override
+            protected String getCommonSuperClass(String type1, String type2) {
+                return "java/lang/Object";
+            }
+        };
+        cw.visit(V1_8, ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC, internalName, null, dtoName, null);
+        cw.visitField(ACC_PRIVATE | ACC_FINAL | ACC_TRANSIENT | ACC_SYNTHETIC, LAZY_FIELD, LAZY_DESC, null, null).visitEnd();
+
+        // constructor(LazyProperties)
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "(" + LAZY_DESC + ")V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKESPECIAL, dtoName, "<init>", "()V", false);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitFieldInsn(PUTFIELD, internalName, LAZY_FIELD, LAZY_DESC);
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        for (int i = 0; i < lazy.length; i++) {
+            if (!lazy[i])
+                continue;
+
+            Method getter = getters[i];
+            Method setter = setters[i];
+            Type valueType = Type.getType(setter.getParameterTypes()[0]);
+
+            // getter: if (lazy.pending(i)) super.setX(lazy.resolve(i)); return super.getX();
+            mv = cw.visitMethod(ACC_PUBLIC, getter.getName(), Type.getMethodDescriptor(getter), null, null);
+            mv.visitCode();
+            Label loaded = new Label();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, internalName, LAZY_FIELD, LAZY_DESC);
+            mv.visitLdcInsn(i);
+            mv.visitMethodInsn(INVOKEVIRTUAL, LAZY_NAME, "pending", "(I)Z", false);
+            mv.visitJumpInsn(IFEQ, loaded);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, internalName, LAZY_FIELD, LAZY_DESC);
+            mv.visitLdcInsn(i);
+            mv.visitMethodInsn(INVOKEVIRTUAL, LAZY_NAME, "resolve", "(I)Ljava/lang/Object;", false);
+            AssemblerGenerator.convert(mv, Object.class, setter.getParameterTypes()[0]);
+            mv.visitMethodInsn(INVOKESPECIAL, dtoName, setter.getName(), Type.getMethodDescriptor(setter), false);
+            if (setter.getReturnType() != void.class)
+                mv.visitInsn(Type.getType(setter.getReturnType()).getSize() == 2 ? POP2 : POP);
+            mv.visitLabel(loaded);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitMethodInsn(INVOKESPECIAL, dtoName, getter.getName(), Type.getMethodDescriptor(getter), false);
+            mv.visitInsn(Type.getType(getter.getReturnType()).getOpcode(IRETURN));
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+
+            // setter: lazy.loaded(i); return super.setX(value);
+            mv = cw.visitMethod(ACC_PUBLIC, setter.getName(), Type.getMethodDescriptor(setter), null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, internalName, LAZY_FIELD, LAZY_DESC);
+            mv.visitLdcInsn(i);
+            mv.visitMethodInsn(INVOKEVIRTUAL, LAZY_NAME, "loaded", "(I)V", false);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(valueType.getOpcode(ILOAD), 1);
+            mv.visitMethodInsn(INVOKESPECIAL, dtoName, setter.getName(), Type.getMethodDescriptor(setter), false);
+            mv.visitInsn(Type.getType(setter.getReturnType()).getOpcode(IRETURN));
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    private static boolean hasPublicConstructor(Class<?> dtoClass) {
+        try {
+            dtoClass.getConstructor();
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.machinae.assemblae;
+
+/**
+ * Transformer of long model values to double dto values, e.g. cents to amounts, called without boxing
+ * between primitive properties.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ * @see IntTransformer
+ */
+public abstract class LongToDoubleTransformer implements Transformer<Long, Double> {
+
+    /**
+     * @param data model value
+     * @return dto value
+     */
+    public abstract double transformAsDouble(long data);
+
+    /**
+     * @param data dto value
+     * @return model value
+     */
+    public abstract long reverseAsLong(double data);
+
+    @Override
+    public final Double transform(Long data) {
+        return data == null ? null : transformAsDouble(data);
+    }
+
+    @Override
+    public final Long reverse(Double data) {
+        return data == null ? null : reverseAsLong(data);
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.machinae.assemblae;
+
+/**
+ * Transformer of long values, called without boxing between primitive properties.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ * @see IntTransformer
+ */
+public abstract class LongTransformer implements Transformer<Long, Long> {
+
+    /**
+     * @param data model value
+     * @return dto value
+     */
+    public abstract long transformAsLong(long data);
+
+    /**
+     * @param data dto value
+     * @return model value
+     */
+    public abstract long reverseAsLong(long data);
+
+    @Override
+    public final Long transform(Long data) {
+        return data == null ? null : transformAsLong(data);
+    }
+
+    @Override
+    public final Long reverse(Long data) {
+        return data == null ? null : reverseAsLong(data);
+    }
+}
@@ -0,0 +1,177 @@
+package br.com.machinae.assemblae;
+
+import com.google.common.collect.MapMaker;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Built-in {@link AssemblyListener} keeping counters and latency histograms per DTO class and per DTO property,
+ * plus plan cache hits, misses and compile times. Histograms are recorded lock-free, and DTO classes are weakly
+ * referenced, so their metrics do not keep them reachable.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+public class MetricsListener implements AssemblyListener {
+
+    /**
+     * Returned for DTO classes and properties never measured, so reading metrics does not create histograms.
+     */
+    private static final LatencyHistogram EMPTY = new LatencyHistogram();
+
+    private final LongAdder planCacheHits = new LongAdder();
+
+    private final LongAdder planCacheMisses = new LongAdder();
+
+    private final LatencyHistogram planCompileLatency = new LatencyHistogram();
+
+    private final ConcurrentMap<Class<?>, LatencyHistogram> assembleLatency = new MapMaker().weakKeys().makeMap();
+
+    private final ConcurrentMap<Class<?>, LatencyHistogram> assembleAllLatency = new MapMaker().weakKeys().makeMap();
+
+    private final ConcurrentMap<Class<?>, LatencyHistogram> disassembleLatency = new MapMaker().weakKeys().makeMap();
+
+    private final ConcurrentMap<Class<?>, ConcurrentMap<String, LatencyHistogram>> transformLatency = new MapMaker().weakKeys().makeMap();
+
+    private final ConcurrentMap<Class<?>, ConcurrentMap<String, LatencyHistogram>> reverseLatency = new MapMaker().weakKeys().makeMap();
+
+    @Override
+    public void planLoaded(Class<?> dtoClass) {
+        planCacheMisses.increment();
+    }
+
+    @Override
+    public void planCacheHit(Class<?> dtoClass) {
+        planCacheHits.increment();
+    }
+
+    @Override
+    public void planCompiled(Class<?> dtoClass, long nanos) {
+        planCompileLatency.record(nanos);
+    }
+
+    @Override
+    public void assembled(Class<?> dtoClass, long nanos) {
+        histogram(assembleLatency, dtoClass).record(nanos);
+    }
+
+    @Override
+    public void assembledAll(Class<?> dtoClass, int count, long nanos) {
+        histogram(assembleAllLatency, dtoClass).record(nanos);
+    }
+
+    @Override
+    public void disassembled(Class<?> dtoClass, long nanos) {
+        histogram(disassembleLatency, dtoClass).record(nanos);
+    }
+
+    @Override
+    public void transformed(Class<?> dtoClass, String dtoProperty, long nanos) {
+        histogram(properties(transformLatency, dtoClass), dtoProperty).record(nanos);
+    }
+
+    @Override
+    public void reversed(Class<?> dtoClass, String dtoProperty, long nanos) {
+        histogram(properties(reverseLatency, dtoClass), dtoProperty).record(nanos);
+    }
+
+    /**
+     * @return number of DTO class plans found in the plan cache
+     */
+    public long getPlanCacheHits() {
+        return planCacheHits.sum();
+    }
+
+    /**
+     * @return number of DTO class plans not cached and loaded, each one compiled once unless compiling failed
+     */
+    public long getPlanCacheMisses() {
+        return planCacheMisses.sum();
+    }
+
+    public LatencyHistogram getPlanCompileLatency() {
+        return planCompileLatency;
+    }
+
+    /**
+     * @param dtoClass dto class
+     * @return assemble latencies of dtoClass, empty when never assembled
+     */
+    public LatencyHistogram getAssembleLatency(Class<?> dtoClass) {
+        return snapshot(assembleLatency.get(dtoClass));
+    }
+
+    /**
+     * @param dtoClass dto class
+     * @return assembleAll latencies of dtoClass, empty when never assembled
+     */
+    public LatencyHistogram getAssembleAllLatency(Class<?> dtoClass) {
+        return snapshot(assembleAllLatency.get(dtoClass));
+    }
+
+    /**
+     * @param dtoClass dto class
+     * @return disassemble latencies of dtoClass, empty when never disassembled
+     */
+    public LatencyHistogram getDisassembleLatency(Class<?> dtoClass) {
+        return snapshot(disassembleLatency.get(dtoClass));
+    }
+
+    /**
+     * @param dtoClass dto class
+     * @param dtoProperty dto property
+     * @return transformer latencies of the property, empty when never transformed
+     */
+    public LatencyHistogram getTransformLatency(Class<?> dtoClass, String dtoProperty) {
+        Map<String, LatencyHistogram> properties = transformLatency.get(dtoClass != null ? dtoClass : Void.class);
+        return snapshot(properties != null ? properties.get(dtoProperty) : null);
+    }
+
+    /**
+     * @param dtoClass dto class
+     * @param dtoProperty dto property
+     * @return reverse transformer latencies of the property, empty when never transformed
+     */
+    public LatencyHistogram getReverseLatency(Class<?> dtoClass, String dtoProperty) {
+        Map<String, LatencyHistogram> properties = reverseLatency.get(dtoClass != null ? dtoClass : Void.class);
+        return snapshot(properties != null ? properties.get(dtoProperty) : null);
+    }
+
+    /**
+     * @return assemble latencies of all assembled DTO classes
+     */
+    public Map<Class<?>, LatencyHistogram> getAssembleLatencies() {
+        return Collections.unmodifiableMap(assembleLatency);
+    }
+
+    private static LatencyHistogram snapshot(LatencyHistogram histogram) {
+        return histogram != null ? histogram : EMPTY;
+    }
+
+    private static <K> LatencyHistogram histogram(ConcurrentMap<K, LatencyHistogram> histograms, K key) {
+        LatencyHistogram histogram = histograms.get(key);
+        if (histogram == null) {
+            LatencyHistogram created = new LatencyHistogram();
+            histogram = histograms.putIfAbsent(key, created);
+            if (histogram == null)
+                histogram = created;
+        }
+        return histogram;
+    }
+
+    private static ConcurrentMap<String, LatencyHistogram> properties(ConcurrentMap<Class<?>, ConcurrentMap<String, LatencyHistogram>> byClass, Class<?> dtoClass) {
+        Class<?> key = dtoClass != null ? dtoClass : Void.class;
+        ConcurrentMap<String, LatencyHistogram> properties = byClass.get(key);
+        if (properties == null) {
+            ConcurrentMap<String, LatencyHistogram> created = new ConcurrentHashMap<String, LatencyHistogram>();
+            properties = byClass.putIfAbsent(key, created);
+            if (properties == null)
+                properties = created;
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,102 @@
+package br.com.machinae.assemblae;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Transformer of DTO typed properties, and collections of them, assembling the referenced models
+ * recursively in the {@link AssemblyContext} of the enclosing graph.
+ *
+ * Nested DTOs are not copied back on disassemble: the model owning the reference decides how its
+ * associations are updated.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+final class NestedTransformer implements Transformer<Object, Object> {
+
+    /**
+     * Held by the plan of the enclosing DTO, so it must not keep the engine reachable.
+     */
+    private final WeakReference<AssemblaeEngine> engine;
+
+    private final Class<?> dtoClass;
+
+    private final Class<?> collectionType;
+
+    private final FieldSelection selection;
+
+    /**
+     * @param engine engine assembling the nested DTOs
+     * @param dtoClass class of the nested DTOs
+     * @param collectionType type of the collection property, null for a single DTO property
+     */
+    NestedTransformer(AssemblaeEngine engine, Class<?> dtoClass, Class<?> collectionType) {
+        this(engine, dtoClass, collectionType, null);
+    }
+
+    /**
+     * @param engine engine assembling the nested DTOs
+     * @param dtoClass class of the nested DTOs
+     * @param collectionType type of the collection property, null for a single DTO property
+     * @param selection properties of the nested DTOs to assemble, null for all of them
+     */
+    NestedTransformer(AssemblaeEngine engine, Class<?> dtoClass, Class<?> collectionType, FieldSelection selection) {
+        this(engine.reference(), dtoClass, collectionType, selection);
+    }
+
+    private NestedTransformer(WeakReference<AssemblaeEngine> engine, Class<?> dtoClass, Class<?> collectionType, FieldSelection selection) {
+        this.engine = checkNotNull(engine);
+        this.dtoClass = checkNotNull(dtoClass);
+        this.collectionType = collectionType;
+        this.selection = selection;
+
+        if (collectionType != null && !collectionType.isAssignableFrom(ArrayList.class)
+                && !collectionType.isAssignableFrom(LinkedHashSet.class))
+            throw new AssemblerException("Unsupported collection type of nested DTOs: " + collectionType.getName());
+    }
+
+    Class<?> getDtoClass() {
+        return dtoClass;
+    }
+
+    /**
+     * @param selection properties of the nested DTOs to assemble
+     * @return a transformer assembling only the selected properties
+     */
+    NestedTransformer select(FieldSelection selection) {
+        return new NestedTransformer(engine, dtoClass, collectionType, selection);
+    }
+
+    @Override
+    public Object transform(Object value) {
+        if (value == null)
+            return null;
+
+        AssemblaeEngine engine = AssemblaeEngine.reachable(this.engine);
+        AssemblyContext context = AssemblyContext.enter();
+        try {
+            if (collectionType == null)
+                return context.assemble(engine, value, dtoClass, selection);
+
+            Collection<?> models = (Collection<?>) value;
+            Collection<Object> dtos = collectionType.isAssignableFrom(ArrayList.class)
+                    ? new ArrayList<Object>(models.size())
+                    : new LinkedHashSet<Object>(models.size() * 4 / 3 + 1);
+            for (Object model : models)
+                dtos.add(model == null ? null : context.assemble(engine, model, dtoClass, selection));
+            return dtos;
+        } finally {
+            context.exit();
+        }
+    }
+
+    @Override
+    public Object reverse(Object value) {
+        throw new UnsupportedOperationException("Nested DTOs are not disassembled");
+    }
+}
@@ -0,0 +1,166 @@
+package br.com.machinae.assemblae;
+
+import com.google.common.base.Function;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Runs an assembleAll splitting the models in chunks assembled concurrently, as configured by {@link Parallelism}.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+final class ParallelAssembly {
+
+    private ParallelAssembly() {}
+
+    /**
+     * Assemble all models with assembleFunction, in parallel when there are enough models.
+     *
+     * @param models models
+     * @param assembleFunction assembly of a single model
+     * @param parallelism parallel configuration
+     * @return dtos, in models order unless configured otherwise
+     */
+    static <T> Collection<T> assembleAll(Collection<?> models, Function<Object, T> assembleFunction, Parallelism parallelism) {
+        return assembleAll(models, assembleFunction, parallelism, null);
+    }
+
+    /**
+     * Assemble all models with assembleFunction, in parallel when there are enough models, each chunk being
+     * assembled with the batch results of the whole collection.
+     *
+     * @param models models
+     * @param assembleFunction assembly of a single model
+     * @param parallelism parallel configuration
+     * @param batch batch results of models, bound to the thread assembling each chunk, null when there are none
+     * @return dtos, in models order unless configured otherwise
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Collection<T> assembleAll(Collection<?> models, final Function<Object, T> assembleFunction, Parallelism parallelism,
+                                         final BatchContext batch) {
+        checkNotNull(models, "Model list can not be null");
+        checkNotNull(assembleFunction);
+        checkNotNull(parallelism);
+
+        final Object[] input = models.toArray();
+        final Object[] output = new Object[input.length];
+
+        if (input.length < parallelism.getThreshold() || input.length <= parallelism.getChunkSize()) {
+            assembleRange(input, output, 0, input.length, assembleFunction, batch);
+            return new ArrayList<T>((List<T>) Arrays.asList(output));
+        }
+
+        if (parallelism.isOrdered() && parallelism.getExecutor() instanceof ForkJoinPool) {
+            ((ForkJoinPool) parallelism.getExecutor()).invoke(new AssembleTask(input, output, 0, input.length, parallelism.getChunkSize(), assembleFunction, batch));
+            return new ArrayList<T>((List<T>) Arrays.asList(output));
+        }
+
+        final List<T> unordered = Collections.synchronizedList(new ArrayList<T>(input.length));
+        final boolean ordered = parallelism.isOrdered();
+        final int chunkSize = parallelism.getChunkSize();
+        final int chunks = (input.length + chunkSize - 1) / chunkSize;
+        final CountDownLatch done = new CountDownLatch(chunks);
+        final AtomicReference<RuntimeException> failure = new AtomicReference<RuntimeException>();
+
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            final int from = chunk * chunkSize;
+            final int to = Math.min(from + chunkSize, input.length);
+            parallelism.getExecutor().execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        if (failure.get() == null) {
+                            assembleRange(input, output, from, to, assembleFunction, batch);
+                            if (!ordered)
+                                unordered.addAll((List<T>) Arrays.asList(output).subList(from, to));
+                        }
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                    } catch (Error e) {
+                        failure.compareAndSet(null, new AssemblerException("Parallel assemble error", e));
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            });
+        }
+
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssemblerException("Parallel assemble interrupted", e);
+        }
+
+        if (failure.get() != null)
+            throw failure.get();
+
+        return ordered ? new ArrayList<T>((List<T>) Arrays.asList(output)) : new ArrayList<T>(unordered);
+    }
+
+    private static void assembleRange(Object[] input, Object[] output, int from, int to, Function<Object, ?> assembleFunction,
+                                      BatchContext batch) {
+        BatchContext bound = batch != null ? batch.bind() : null;
+        try {
+            for (int i = from; i < to; i++)
+                output[i] = assembleFunction.apply(input[i]);
+        } finally {
+            if (batch != null)
+                BatchContext.unbind(bound);
+        }
+    }
+
+    /**
+     * Fork-join task halving its range until it fits in a chunk.
+     */
+    private static final class AssembleTask extends RecursiveAction {
+
+        private final Object[] input;
+
+        private final Object[] output;
+
+        private final int from;
+
+        private final int to;
+
+        private final int chunkSize;
+
+        private final Function<Object, ?> assembleFunction;
+
+        private final BatchContext batch;
+
+        AssembleTask(Object[] input, Object[] output, int from, int to, int chunkSize, Function<Object, ?> assembleFunction,
+                     BatchContext batch) {
+            this.input = input;
+            this.output = output;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.assembleFunction = assembleFunction;
+            this.batch = batch;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                assembleRange(input, output, from, to, assembleFunction, batch);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new AssembleTask(input, output, from, middle, chunkSize, assembleFunction, batch),
+                    new AssembleTask(input, output, middle, to, chunkSize, assembleFunction, batch));
+        }
+    }
+}
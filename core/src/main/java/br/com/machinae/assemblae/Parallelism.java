@@ -0,0 +1,96 @@
+package br.com.machinae.assemblae;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Immutable configuration of a parallel assembleAll: the executor running the chunks, the number of models per
+ * chunk, the collection size below which assembly stays sequential and whether the input order is preserved.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+public final class Parallelism {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    public static final int DEFAULT_THRESHOLD = 4096;
+
+    private static final Parallelism DEFAULTS = new Parallelism(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE, DEFAULT_THRESHOLD, true);
+
+    private final Executor executor;
+
+    private final int chunkSize;
+
+    private final int threshold;
+
+    private final boolean ordered;
+
+    private Parallelism(Executor executor, int chunkSize, int threshold, boolean ordered) {
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        this.threshold = threshold;
+        this.ordered = ordered;
+    }
+
+    /**
+     * @return fork-join common pool, chunks of {@value #DEFAULT_CHUNK_SIZE} models, sequential below
+     * {@value #DEFAULT_THRESHOLD} models and ordered results
+     */
+    public static Parallelism defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * @param executor executor running the chunks; fork-join pools split the work recursively
+     * @return a copy using executor
+     */
+    public Parallelism withExecutor(Executor executor) {
+        return new Parallelism(checkNotNull(executor), chunkSize, threshold, ordered);
+    }
+
+    /**
+     * @param chunkSize maximum number of models assembled by a single task
+     * @return a copy using chunkSize
+     */
+    public Parallelism withChunkSize(int chunkSize) {
+        checkArgument(chunkSize > 0, "Chunk size must be positive");
+        return new Parallelism(executor, chunkSize, threshold, ordered);
+    }
+
+    /**
+     * @param threshold collection size below which models are assembled sequentially
+     * @return a copy using threshold
+     */
+    public Parallelism withThreshold(int threshold) {
+        checkArgument(threshold >= 0, "Threshold can not be negative");
+        return new Parallelism(executor, chunkSize, threshold, ordered);
+    }
+
+    /**
+     * @param ordered true to keep the dtos in the models order, false to collect chunks as they finish
+     * @return a copy using ordered
+     */
+    public Parallelism withOrdered(boolean ordered) {
+        return new Parallelism(executor, chunkSize, threshold, ordered);
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public boolean isOrdered() {
+        return ordered;
+    }
+}
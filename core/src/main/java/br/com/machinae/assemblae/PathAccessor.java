@@ -0,0 +1,281 @@
+package br.com.machinae.assemblae;
+
+import org.apache.commons.beanutils.NestedNullException;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * Accessor for a nested, indexed and mapped property path, such as {@code customer.addresses[0].city} or
+ * {@code attributes(color)}, parsed once into a chain of steps. Each property step caches the accessor of the
+ * last class it read, so walking a path costs a getter call per segment instead of resolving it every time.
+ * A null intermediate value yields null when the path is null safe, otherwise a {@link NestedNullException}
+ * is thrown, as commons-beanutils does.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+final class PathAccessor implements PropertyAccessor {
+
+    private final String path;
+
+    private final Step[] steps;
+
+    private final boolean nullSafe;
+
+    private PathAccessor(String path, List<Step> steps, boolean nullSafe) {
+        this.path = path;
+        this.steps = steps.toArray(new Step[steps.size()]);
+        this.nullSafe = nullSafe;
+    }
+
+    /**
+     * Parses a path with the commons-beanutils syntax: properties separated by dots, each one optionally
+     * followed by indexes between brackets and keys between parentheses.
+     *
+     * @param path property path
+     * @param fieldAccess true to read and write the properties as fields
+     * @param nullSafe true to yield null, instead of failing, when an intermediate value is null
+     * @return compiled path
+     * @throws IllegalArgumentException when path is malformed
+     */
+    static PathAccessor compile(String path, boolean fieldAccess, boolean nullSafe) {
+        checkNotNull(path);
+
+        List<Step> steps = new ArrayList<Step>();
+        int i = 0;
+        while (i < path.length()) {
+            int start = i;
+            while (i < path.length() && path.charAt(i) != '.' && path.charAt(i) != '[' && path.charAt(i) != '(')
+                i++;
+            checkArgument(i > start, "Invalid property path '%s'", path);
+            steps.add(new PropertyStep(path.substring(start, i), fieldAccess));
+
+            while (i < path.length() && (path.charAt(i) == '[' || path.charAt(i) == '(')) {
+                char close = path.charAt(i) == '[' ? ']' : ')';
+                int end = path.indexOf(close, i);
+                checkArgument(end > i + 1, "Invalid property path '%s'", path);
+                String argument = path.substring(i + 1, end);
+                if (close == ']') {
+                    try {
+                        steps.add(new IndexStep(Integer.parseInt(argument)));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException(format("Invalid index '%s' in property path '%s'", argument, path), e);
+                    }
+                } else
+                    steps.add(new KeyStep(argument));
+                i = end + 1;
+            }
+
+            checkArgument(i == path.length() || path.charAt(i) == '.' && i + 1 < path.length(), "Invalid property path '%s'", path);
+            i++;
+        }
+        return new PathAccessor(path, steps, nullSafe);
+    }
+
+    /**
+     * @return true when a null intermediate value yields null instead of failing
+     */
+    boolean isNullSafe() {
+        return nullSafe;
+    }
+
+    @Override
+    public Object get(Object bean) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        Object value = bean;
+        for (int i = 0; i < steps.length; i++) {
+            if (value == null)
+                return nullValue(bean, i);
+            value = steps[i].get(value);
+        }
+        return value;
+    }
+
+    /**
+     * Sets the last property of the path, on the value of the path without it. When that value is null, nothing
+     * is set on null safe paths.
+     */
+    @Override
+    public void set(Object bean, Object value) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        Object parent = bean;
+        for (int i = 0; i < steps.length - 1; i++) {
+            if (parent == null) {
+                nullValue(bean, i);
+                return;
+            }
+            parent = steps[i].get(parent);
+        }
+
+        if (parent == null)
+            nullValue(bean, steps.length - 1);
+        else
+            steps[steps.length - 1].set(parent, value);
+    }
+
+    private Object nullValue(Object bean, int step) {
+        if (nullSafe)
+            return null;
+
+        throw new NestedNullException(format("Null property value for '%s' on bean class '%s'", prefix(step), bean.getClass()));
+    }
+
+    /**
+     * @return path up to the step reading a null value, excluded
+     */
+    private String prefix(int step) {
+        StringBuilder prefix = new StringBuilder();
+        for (int i = 0; i < step; i++)
+            steps[i].appendTo(prefix);
+        return prefix.toString();
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+
+    /**
+     * Single segment of a path.
+     */
+    private abstract static class Step {
+
+        abstract Object get(Object bean) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException;
+
+        abstract void set(Object bean, Object value) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException;
+
+        abstract void appendTo(StringBuilder path);
+    }
+
+    /**
+     * Simple property, resolved for the class of the bean it reads, which rarely changes from call to call.
+     */
+    private static final class PropertyStep extends Step {
+
+        private final String property;
+
+        private final boolean fieldAccess;
+
+        private volatile Resolved resolved;
+
+        PropertyStep(String property, boolean fieldAccess) {
+            this.property = property;
+            this.fieldAccess = fieldAccess;
+        }
+
+        private PropertyAccessor accessor(Class<?> type) throws NoSuchMethodException, IllegalAccessException {
+            Resolved last = resolved;
+            if (last == null || last.type != type) {
+                last = new Resolved(type, fieldAccess ? PropertyAccessors.forField(type, property) : PropertyAccessors.forProperty(type, property));
+                resolved = last;
+            }
+            return last.accessor;
+        }
+
+        @Override
+        Object get(Object bean) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+            return accessor(bean.getClass()).get(bean);
+        }
+
+        @Override
+        void set(Object bean, Object value) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+            accessor(bean.getClass()).set(bean, value);
+        }
+
+        @Override
+        void appendTo(StringBuilder path) {
+            if (path.length() > 0)
+                path.append('.');
+            path.append(property);
+        }
+    }
+
+    private static final class Resolved {
+
+        private final Class<?> type;
+
+        private final PropertyAccessor accessor;
+
+        Resolved(Class<?> type, PropertyAccessor accessor) {
+            this.type = type;
+            this.accessor = accessor;
+        }
+    }
+
+    /**
+     * Element of an array or list.
+     */
+    private static final class IndexStep extends Step {
+
+        private final int index;
+
+        IndexStep(int index) {
+            this.index = index;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Object get(Object bean) {
+            if (bean instanceof List)
+                return ((List<Object>) bean).get(index);
+            if (bean.getClass().isArray())
+                return Array.get(bean, index);
+            throw new IllegalArgumentException(format("Class '%s' is not indexed", bean.getClass().getName()));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void set(Object bean, Object value) {
+            if (bean instanceof List)
+                ((List<Object>) bean).set(index, value);
+            else if (bean.getClass().isArray())
+                Array.set(bean, index, value);
+            else
+                throw new IllegalArgumentException(format("Class '%s' is not indexed", bean.getClass().getName()));
+        }
+
+        @Override
+        void appendTo(StringBuilder path) {
+            path.append('[').append(index).append(']');
+        }
+    }
+
+    /**
+     * Value of a map.
+     */
+    private static final class KeyStep extends Step {
+
+        private final String key;
+
+        KeyStep(String key) {
+            this.key = key;
+        }
+
+        @Override
+        Object get(Object bean) {
+            if (bean instanceof Map)
+                return ((Map<?, ?>) bean).get(key);
+            throw new IllegalArgumentException(format("Class '%s' is not mapped", bean.getClass().getName()));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void set(Object bean, Object value) {
+            if (bean instanceof Map)
+                ((Map<Object, Object>) bean).put(key, value);
+            else
+                throw new IllegalArgumentException(format("Class '%s' is not mapped", bean.getClass().getName()));
+        }
+
+        @Override
+        void appendTo(StringBuilder path) {
+            path.append('(').append(key).append(')');
+        }
+    }
+}
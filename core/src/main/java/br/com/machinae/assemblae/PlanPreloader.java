@@ -0,0 +1,143 @@
+package br.com.machinae.assemblae;
+
+import br.com.machinae.assemblae.annotation.DataTransferObject;
+import com.google.common.base.Function;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * Builds and validates the plans of DTO classes ahead of the first assemble, so startup pays for the
+ * introspection instead of the first requests. DTO classes are given explicitly or found scanning packages.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+final class PlanPreloader {
+
+    private PlanPreloader() {}
+
+    /**
+     * Loads the plan of each DTO class concurrently, one class per task, and warms it up.
+     *
+     * @param engine engine owning the plans
+     * @param dtoClasses dto classes
+     * @param executor executor running the tasks
+     * @throws AssemblerException reporting every DTO class that failed, the first failure as cause
+     */
+    static void preload(final AssemblaeEngine engine, Collection<? extends Class<?>> dtoClasses, Executor executor) {
+        checkNotNull(engine);
+        checkNotNull(dtoClasses);
+        checkNotNull(executor);
+
+        Collection<RuntimeException> results = ParallelAssembly.assembleAll(dtoClasses, new Function<Object, RuntimeException>() {
+            @Override
+            public RuntimeException apply(Object dtoClass) {
+                try {
+                    engine.loadPlan((Class<?>) dtoClass).warmUp();
+                    return null;
+                } catch (RuntimeException e) {
+                    return new AssemblerException(format("Invalid mapping for DTO class '%s': %s", ((Class<?>) dtoClass).getName(), e.getMessage()), e);
+                }
+            }
+        }, Parallelism.defaults().withExecutor(executor).withChunkSize(1).withThreshold(0));
+
+        List<RuntimeException> failures = new ArrayList<RuntimeException>();
+        for (RuntimeException result : results)
+            if (result != null)
+                failures.add(result);
+        if (failures.isEmpty())
+            return;
+
+        StringBuilder message = new StringBuilder(format("%s DTO classes can not be assembled:", failures.size()));
+        for (RuntimeException failure : failures)
+            message.append("\n  ").append(failure.getMessage());
+
+        AssemblerException exception = new AssemblerException(message.toString(), failures.get(0));
+        for (RuntimeException failure : failures.subList(1, failures.size()))
+            exception.addSuppressed(failure);
+        throw exception;
+    }
+
+    /**
+     * Finds the classes annotated with {@link DataTransferObject} in packages and their subpackages, on directories
+     * and jars of the loader classpath. Classes are loaded without being initialized.
+     *
+     * @param loader class loader
+     * @param packageName package name
+     * @return dto classes found
+     * @throws AssemblerException when the classpath can not be read
+     */
+    static Set<Class<?>> scan(ClassLoader loader, String packageName) {
+        checkNotNull(loader);
+        checkNotNull(packageName);
+
+        String path = packageName.replace('.', '/');
+        Set<String> classNames = new LinkedHashSet<String>();
+        try {
+            Enumeration<URL> resources = loader.getResources(path);
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                if ("file".equals(resource.getProtocol()))
+                    scanDirectory(new File(resource.toURI()), packageName, classNames);
+                else if ("jar".equals(resource.getProtocol()))
+                    scanJar(((JarURLConnection) resource.openConnection()).getJarFile(), path, classNames);
+            }
+        } catch (IOException e) {
+            throw new AssemblerException(format("Package '%s' scan error", packageName), e);
+        } catch (URISyntaxException e) {
+            throw new AssemblerException(format("Package '%s' scan error", packageName), e);
+        }
+
+        Set<Class<?>> dtoClasses = new LinkedHashSet<Class<?>>();
+        for (String className : classNames) {
+            try {
+                Class<?> type = Class.forName(className, false, loader);
+                if (type.isAnnotationPresent(DataTransferObject.class))
+                    dtoClasses.add(type);
+            } catch (ClassNotFoundException e) {
+                throw new AssemblerException(format("Package '%s' scan error", packageName), e);
+            } catch (LinkageError e) {
+                // classes depending on absent optional libraries can not be dtos in use
+            }
+        }
+        return dtoClasses;
+    }
+
+    private static void scanDirectory(File directory, String packageName, Set<String> classNames) {
+        File[] files = directory.listFiles();
+        if (files == null)
+            return;
+
+        for (File file : files) {
+            if (file.isDirectory())
+                scanDirectory(file, packageName + '.' + file.getName(), classNames);
+            else if (file.getName().endsWith(".class"))
+                classNames.add(packageName + '.' + file.getName().substring(0, file.getName().length() - ".class".length()));
+        }
+    }
+
+    private static void scanJar(JarFile jar, String path, Set<String> classNames) {
+        Enumeration<JarEntry> entries = jar.entries();
+        while (entries.hasMoreElements()) {
+            String name = entries.nextElement().getName();
+            if (name.startsWith(path + '/') && name.endsWith(".class"))
+                classNames.add(name.substring(0, name.length() - ".class".length()).replace('/', '.'));
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package br.com.machinae.assemblae;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Copiers of primitive properties for the reflective assembler: a single method handle reading the source
+ * property, applying the primitive transformer when there is one, and writing the target property. The value
+ * keeps its primitive type through the whole handle, so it is never boxed.
+ *
+ * Copiers are resolved once per model class and property, and held by the property params, so they live as long as
+ * the plan of the DTO class and a model class never keeps that plan reachable; null means the property must be
+ * copied as an object, because one of the sides is not primitive or the transformer is not specialized for its
+ * types.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ * @see IntTransformer
+ */
+final class PrimitiveCopiers {
+
+    private static final MethodType COPIER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /**
+     * Cached for properties without copier, as concurrent maps do not hold nulls.
+     */
+    private static final MethodHandle NONE = MethodHandles.identity(Object.class);
+
+    private static final MethodHandle COPY_ERROR;
+
+    static {
+        try {
+            COPY_ERROR = MethodHandles.lookup().findStatic(PrimitiveCopiers.class, "copyError",
+                    MethodType.methodType(AssemblerException.class, Exception.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private PrimitiveCopiers() {}
+
+    /**
+     * @param transformer transformer
+     * @return true when transformer has primitive specialized methods
+     */
+    static boolean isSpecialized(Transformer<?, ?> transformer) {
+        return transformer instanceof IntTransformer || transformer instanceof LongTransformer
+                || transformer instanceof DoubleTransformer || transformer instanceof LongToDoubleTransformer;
+    }
+
+    /**
+     * @param transformer transformer
+     * @param reverse true for the dto to model method
+     * @return the primitive method of transformer, or null when it is not specialized
+     */
+    static Method specialized(Transformer<?, ?> transformer, boolean reverse) {
+        Class<?> type = transformer instanceof IntTransformer ? IntTransformer.class
+                : transformer instanceof LongTransformer ? LongTransformer.class
+                : transformer instanceof DoubleTransformer ? DoubleTransformer.class
+                : transformer instanceof LongToDoubleTransformer ? LongToDoubleTransformer.class
+                : null;
+        if (type == null)
+            return null;
+
+        String prefix = reverse ? "reverseAs" : "transformAs";
+        for (Method method : type.getDeclaredMethods())
+            if (method.getName().startsWith(prefix))
+                return method;
+        return null;
+    }
+
+    /**
+     * @param transformer transformer
+     * @param reverse true for the dto to model method
+     * @param from primitive type read
+     * @param to primitive type written
+     * @return the primitive method of transformer from and to these types, or null
+     */
+    static Method specialized(Transformer<?, ?> transformer, boolean reverse, Class<?> from, Class<?> to) {
+        Method method = specialized(transformer, reverse);
+        return method != null && method.getParameterTypes()[0] == from && method.getReturnType() == to ? method : null;
+    }
+
+    /**
+     * @param modelClass model class
+     * @param param primitive copy parameters
+     * @return copier of type (Object model, Object dto)void, or null
+     */
+    static MethodHandle forward(Class<?> modelClass, TransferParams param) {
+        ConcurrentMap<Class<?>, MethodHandle> copiers = param.getForwardCopiers();
+        MethodHandle copier = copiers.get(modelClass);
+        if (copier == null) {
+            copier = copier(modelClass, param.getModelProperty(), param.getDtoClass(), param.getDtoProperty(), param, false);
+            copiers.putIfAbsent(modelClass, copier);
+        }
+        return copier != NONE ? copier : null;
+    }
+
+    /**
+     * @param modelClass model class
+     * @param param primitive copy parameters
+     * @return copier of type (Object dto, Object model)void, or null
+     */
+    static MethodHandle reverse(Class<?> modelClass, TransferParams param) {
+        ConcurrentMap<Class<?>, MethodHandle> copiers = param.getReverseCopiers();
+        MethodHandle copier = copiers.get(modelClass);
+        if (copier == null) {
+            copier = copier(param.getDtoClass(), param.getDtoProperty(), modelClass, param.getModelProperty(), param, true);
+            copiers.putIfAbsent(modelClass, copier);
+        }
+        return copier != NONE ? copier : null;
+    }
+
+    /**
+     * Invokes a copier. Accessor failures are thrown as AssemblerException, transformer failures as they are.
+     */
+    static void copy(MethodHandle copier, Object source, Object target) {
+        try {
+            copier.invokeExact(source, target);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new AssemblerException("Property copy error", e);
+        }
+    }
+
+    private static AssemblerException copyError(Exception e) {
+        return new AssemblerException("Property copy error", e);
+    }
+
+    /**
+     * @param accessor getter or setter handle
+     * @return accessor throwing its failures as AssemblerException
+     */
+    private static MethodHandle wrapFailures(MethodHandle accessor) {
+        MethodHandle handler = MethodHandles.filterArguments(
+                MethodHandles.throwException(accessor.type().returnType(), AssemblerException.class), 0, COPY_ERROR);
+        handler = MethodHandles.dropArguments(handler, 1, accessor.type().parameterList());
+        return MethodHandles.catchException(accessor, Exception.class, handler);
+    }
+
+    private static MethodHandle copier(Class<?> sourceClass, String sourceProperty, Class<?> targetClass, String targetProperty,
+                                       TransferParams param, boolean reverse) {
+        if (sourceClass == null || targetClass == null)
+            return NONE;
+
+        try {
+            MethodHandle read = PropertyAccessors.readHandle(sourceClass, sourceProperty, param.isFieldAccess());
+            MethodHandle write = PropertyAccessors.writeHandle(targetClass, targetProperty, param.isFieldAccess());
+            if (read == null || write == null)
+                return NONE;
+
+            Class<?> from = read.type().returnType();
+            Class<?> to = write.type().parameterType(1);
+            if (!from.isPrimitive() || !to.isPrimitive())
+                return NONE;
+
+            read = wrapFailures(read);
+            write = wrapFailures(write);
+
+            if (!param.isIdentity()) {
+                Method method = specialized(param.getTransformer(), reverse, from, to);
+                if (method == null)
+                    return NONE;
+                read = MethodHandles.filterReturnValue(read, MethodHandles.publicLookup().unreflect(method).bindTo(param.getTransformer()));
+            } else if (from != to)
+                return NONE;
+
+            write = write.asType(write.type().changeReturnType(void.class));
+
+            // (target, source)void, then reordered to (source, target)void
+            MethodHandle copier = MethodHandles.filterArguments(write, 1, read);
+            copier = MethodHandles.permuteArguments(copier, MethodType.methodType(void.class, read.type().parameterType(0),
+                    write.type().parameterType(0)), 1, 0);
+            return copier.asType(COPIER_TYPE);
+        } catch (IllegalAccessException e) {
+            return NONE;
+        }
+    }
+}
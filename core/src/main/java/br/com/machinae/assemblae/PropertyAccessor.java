@@ -0,0 +1,30 @@
+package br.com.machinae.assemblae;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Resolved access to a single property of a class, built once and reused for every bean of that class.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+interface PropertyAccessor {
+
+    /**
+     * @param bean object to read
+     * @return property value
+     * @throws IllegalAccessException when property cant be read
+     * @throws InvocationTargetException when getter throws exception
+     * @throws NoSuchMethodException when property has no getter
+     */
+    Object get(Object bean) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException;
+
+    /**
+     * @param bean object to write
+     * @param value property value
+     * @throws IllegalAccessException when property cant be written
+     * @throws InvocationTargetException when setter throws exception
+     * @throws NoSuchMethodException when property has no setter
+     */
+    void set(Object bean, Object value) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException;
+}
@@ -0,0 +1,299 @@
+package br.com.machinae.assemblae;
+
+import org.apache.commons.beanutils.BeanUtilsBean;
+import org.apache.commons.beanutils.DynaBean;
+import org.apache.commons.beanutils.PropertyUtilsBean;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * Resolves and caches {@link PropertyAccessor}s. Simple JavaBean properties are resolved once per class into
+ * {@link MethodHandle}s, so reading and writing them is a direct invocation; nested, indexed and mapped
+ * properties, maps and dyna beans keep the commons-beanutils resolution, while the paths mapped by plans are
+ * compiled by {@link PathAccessor}. Fields are resolved the same way, for DTOs with the FIELD {@link AccessType}.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+final class PropertyAccessors {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<ConcurrentMap<String, PropertyAccessor>> ACCESSORS = new ClassValue<ConcurrentMap<String, PropertyAccessor>>() {
+        @Override
+        protected ConcurrentMap<String, PropertyAccessor> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<String, PropertyAccessor>();
+        }
+    };
+
+    private static final ClassValue<ConcurrentMap<String, PropertyAccessor>> FIELD_ACCESSORS = new ClassValue<ConcurrentMap<String, PropertyAccessor>>() {
+        @Override
+        protected ConcurrentMap<String, PropertyAccessor> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<String, PropertyAccessor>();
+        }
+    };
+
+    private PropertyAccessors() {}
+
+    /**
+     * Gets the accessor for a property, resolving it on the first request.
+     *
+     * @param type bean class
+     * @param property property name, using apache commons convention
+     * @return accessor for property
+     * @throws NoSuchMethodException when property does not exists
+     * @throws IllegalAccessException when property accessors cant be accessed
+     */
+    static PropertyAccessor forProperty(Class<?> type, String property) throws NoSuchMethodException, IllegalAccessException {
+        checkNotNull(type);
+        checkNotNull(property);
+
+        ConcurrentMap<String, PropertyAccessor> accessors = ACCESSORS.get(type);
+        PropertyAccessor accessor = accessors.get(property);
+        if (accessor == null) {
+            accessor = resolve(type, property);
+            PropertyAccessor previous = accessors.putIfAbsent(property, accessor);
+            if (previous != null)
+                accessor = previous;
+        }
+        return accessor;
+    }
+
+    /**
+     * Gets the accessor for a field, whatever its visibility, resolving it on the first request. Nested, indexed
+     * and mapped names, maps and dyna beans are resolved as properties.
+     *
+     * @param type bean class
+     * @param field field name
+     * @return accessor for field
+     * @throws NoSuchMethodException when field does not exists
+     * @throws IllegalAccessException when field cant be accessed
+     */
+    static PropertyAccessor forField(Class<?> type, String field) throws NoSuchMethodException, IllegalAccessException {
+        checkNotNull(type);
+        checkNotNull(field);
+
+        if (!isSimple(field) || Map.class.isAssignableFrom(type) || DynaBean.class.isAssignableFrom(type))
+            return forProperty(type, field);
+
+        ConcurrentMap<String, PropertyAccessor> accessors = FIELD_ACCESSORS.get(type);
+        PropertyAccessor accessor = accessors.get(field);
+        if (accessor == null) {
+            Field declared = field(type, field);
+            if (declared == null)
+                throw new NoSuchMethodException(format("Unknown field '%s' on class '%s'", field, type.getName()));
+
+            accessor = new MethodHandleAccessor(type, field, getter(declared), setter(declared), declared.getType());
+            PropertyAccessor previous = accessors.putIfAbsent(field, accessor);
+            if (previous != null)
+                accessor = previous;
+        }
+        return accessor;
+    }
+
+    /**
+     * @param type bean class
+     * @param property simple property name
+     * @param field true to read the field instead of the getter
+     * @return handle of type (type)value reading the property, or null when it can not be read
+     */
+    static MethodHandle readHandle(Class<?> type, String property, boolean field) throws IllegalAccessException {
+        if (field) {
+            Field declared = field(type, property);
+            return declared != null ? getter(declared) : null;
+        }
+
+        PropertyDescriptor descriptor = descriptor(type, property);
+        return descriptor != null ? handle(descriptor.getReadMethod()) : null;
+    }
+
+    /**
+     * @param type bean class
+     * @param property simple property name
+     * @param field true to write the field instead of calling the setter
+     * @return handle of type (type, value) writing the property, or null when it can not be written
+     */
+    static MethodHandle writeHandle(Class<?> type, String property, boolean field) throws IllegalAccessException {
+        if (field) {
+            Field declared = field(type, property);
+            return declared != null ? setter(declared) : null;
+        }
+
+        PropertyDescriptor descriptor = descriptor(type, property);
+        return descriptor != null ? handle(descriptor.getWriteMethod()) : null;
+    }
+
+    /**
+     * Finds the JavaBean descriptor of a simple property.
+     *
+     * @param type bean class
+     * @param property property name
+     * @return descriptor or null, when type has no such simple property
+     */
+    static PropertyDescriptor descriptor(Class<?> type, String property) {
+        if (!isSimple(property))
+            return null;
+
+        for (PropertyDescriptor descriptor : propertyUtils().getPropertyDescriptors(type))
+            if (descriptor.getName().equals(property))
+                return descriptor;
+
+        return null;
+    }
+
+    static boolean isSimple(String property) {
+        return property.indexOf('.') < 0 && property.indexOf('[') < 0 && property.indexOf('(') < 0;
+    }
+
+    private static PropertyAccessor resolve(Class<?> type, String property) throws NoSuchMethodException, IllegalAccessException {
+        if (!isSimple(property) || Map.class.isAssignableFrom(type) || DynaBean.class.isAssignableFrom(type))
+            return new BeanUtilsAccessor(property);
+
+        PropertyDescriptor descriptor = descriptor(type, property);
+        // record components are read by accessors named after them, and can not be written
+        if (descriptor == null && DtoConstructor.isRecord(type))
+            return new MethodHandleAccessor(type, property, handle(type.getMethod(property)), null, null);
+        if (descriptor == null)
+            throw new NoSuchMethodException(format("Unknown property '%s' on class '%s'", property, type.getName()));
+
+        return new MethodHandleAccessor(type, property, handle(descriptor.getReadMethod()), handle(descriptor.getWriteMethod()),
+                descriptor.getWriteMethod() != null ? descriptor.getWriteMethod().getParameterTypes()[0] : null);
+    }
+
+    static MethodHandle handle(Method method) throws IllegalAccessException {
+        if (method == null || Modifier.isStatic(method.getModifiers()))
+            return null;
+
+        if (!Modifier.isPublic(method.getDeclaringClass().getModifiers()))
+            method.setAccessible(true);
+
+        return MethodHandles.lookup().unreflect(method);
+    }
+
+    /**
+     * @return instance field declared by type or its superclasses, null if none
+     */
+    private static Field field(Class<?> type, String name) {
+        if (!isSimple(name))
+            return null;
+
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            try {
+                Field field = c.getDeclaredField(name);
+                if (!Modifier.isStatic(field.getModifiers()))
+                    return field;
+            } catch (NoSuchFieldException e) {
+                // keep looking in the superclass
+            }
+        }
+        return null;
+    }
+
+    private static MethodHandle getter(Field field) throws IllegalAccessException {
+        field.setAccessible(true);
+        return MethodHandles.lookup().unreflectGetter(field);
+    }
+
+    private static MethodHandle setter(Field field) throws IllegalAccessException {
+        if (Modifier.isFinal(field.getModifiers()))
+            return null;
+
+        field.setAccessible(true);
+        return MethodHandles.lookup().unreflectSetter(field);
+    }
+
+    private static PropertyUtilsBean propertyUtils() {
+        return BeanUtilsBean.getInstance().getPropertyUtils();
+    }
+
+    /**
+     * Accessor invoking getter and setter method handles, adapted to Object signatures.
+     */
+    private static final class MethodHandleAccessor implements PropertyAccessor {
+
+        private final Class<?> type;
+
+        private final String property;
+
+        private final MethodHandle getter;
+
+        private final MethodHandle setter;
+
+        private final Class<?> valueType;
+
+        private final boolean primitive;
+
+        MethodHandleAccessor(Class<?> type, String property, MethodHandle getter, MethodHandle setter, Class<?> valueType) {
+            this.type = type;
+            this.property = property;
+            this.getter = getter != null ? getter.asType(GETTER_TYPE) : null;
+            this.setter = setter != null ? setter.asType(SETTER_TYPE) : null;
+            this.valueType = valueType != null ? AssemblerGenerator.wrapper(valueType) : null;
+            this.primitive = valueType != null && valueType.isPrimitive();
+        }
+
+        @Override
+        public Object get(Object bean) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+            if (getter == null)
+                throw new NoSuchMethodException(format("Property '%s' has no getter method in class '%s'", property, type.getName()));
+
+            try {
+                return (Object) getter.invokeExact(bean);
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+
+        @Override
+        public void set(Object bean, Object value) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+            if (setter == null)
+                throw new NoSuchMethodException(format("Property '%s' has no setter method in class '%s'", property, type.getName()));
+
+            if (value == null ? primitive : !valueType.isInstance(value))
+                throw new IllegalArgumentException(format("Argument type mismatch setting property '%s' in class '%s'", property, type.getName()));
+
+            try {
+                setter.invokeExact(bean, value);
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+    }
+
+    /**
+     * Accessor for what only commons-beanutils can resolve: nested, indexed and mapped properties, maps and dyna beans.
+     */
+    private static final class BeanUtilsAccessor implements PropertyAccessor {
+
+        private final String property;
+
+        BeanUtilsAccessor(String property) {
+            this.property = property;
+        }
+
+        @Override
+        public Object get(Object bean) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+            return propertyUtils().getProperty(bean, property);
+        }
+
+        @Override
+        public void set(Object bean, Object value) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+            propertyUtils().setProperty(bean, property, value);
+        }
+    }
+}
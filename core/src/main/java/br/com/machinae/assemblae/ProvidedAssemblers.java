@@ -0,0 +1,131 @@
+package br.com.machinae.assemblae;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Discovers the {@link CompiledAssembler}s generated at compile time, registered as {@link ServiceLoader}
+ * providers. Providers are loaded once per class loader and indexed by DTO class, and each plan gets a new instance
+ * of its provider, so assemblers are not shared by engines.
+ *
+ * Class loaders only index provider and DTO class names, and provider classes are attached to their DTO class with
+ * a ClassValue, so nothing cached here keeps a class loader reachable.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+final class ProvidedAssemblers {
+
+    /**
+     * Provider class names by DTO class name, scanned once per class loader.
+     */
+    private static final LoadingCache<ClassLoader, Map<String, List<String>>> BY_LOADER = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build(new CacheLoader<ClassLoader, Map<String, List<String>>>() {
+                @Override
+                public Map<String, List<String>> load(ClassLoader loader) {
+                    return scan(loader);
+                }
+            });
+
+    /**
+     * Provider classes of a DTO class, by model class.
+     */
+    private static final ClassValue<Map<Class<?>, Class<?>>> PROVIDERS = new ClassValue<Map<Class<?>, Class<?>>>() {
+        @Override
+        protected Map<Class<?>, Class<?>> computeValue(Class<?> dtoClass) {
+            return providers(dtoClass);
+        }
+    };
+
+    private ProvidedAssemblers() {}
+
+    /**
+     * @param modelClass model class
+     * @param dtoClass dto class
+     * @return a new instance of the provided assembler for the pair, or null when there is none
+     * @throws AssemblerException when the provider can not be instantiated
+     */
+    static CompiledAssembler<?, ?> find(Class<?> modelClass, Class<?> dtoClass) {
+        Class<?> provider = PROVIDERS.get(dtoClass).get(modelClass);
+        return provider != null ? newInstance(provider) : null;
+    }
+
+    /**
+     * @param dtoClass dto class
+     * @return model classes with a provided assembler for dtoClass
+     */
+    static List<Class<?>> modelTypes(Class<?> dtoClass) {
+        return new ArrayList<Class<?>>(PROVIDERS.get(dtoClass).keySet());
+    }
+
+    private static Map<Class<?>, Class<?>> providers(Class<?> dtoClass) {
+        ClassLoader loader = dtoClass.getClassLoader() != null ? dtoClass.getClassLoader() : ClassLoader.getSystemClassLoader();
+
+        List<String> names;
+        try {
+            names = BY_LOADER.getUnchecked(loader).get(dtoClass.getName());
+        } catch (UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw e;
+        }
+        if (names == null)
+            return Collections.emptyMap();
+
+        Map<Class<?>, Class<?>> providers = new HashMap<Class<?>, Class<?>>();
+        for (String name : names) {
+            CompiledAssembler<?, ?> assembler = newInstance(providerClass(name, loader));
+            // a DTO class of the same name may be defined by another class loader
+            if (assembler.getDtoType() == dtoClass)
+                providers.put(assembler.getModelType(), assembler.getClass());
+        }
+        return providers;
+    }
+
+    private static Class<?> providerClass(String name, ClassLoader loader) {
+        try {
+            return Class.forName(name, true, loader);
+        } catch (ClassNotFoundException e) {
+            throw new AssemblerException("Compiled assemblers loading error", e);
+        }
+    }
+
+    private static CompiledAssembler<?, ?> newInstance(Class<?> provider) {
+        try {
+            return (CompiledAssembler<?, ?>) provider.newInstance();
+        } catch (InstantiationException e) {
+            throw new AssemblerException("Compiled assembler instantiation error", e);
+        } catch (IllegalAccessException e) {
+            throw new AssemblerException("Compiled assembler instantiation error", e);
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Map<String, List<String>> scan(ClassLoader loader) {
+        Map<String, List<String>> provided = new HashMap<String, List<String>>();
+        try {
+            for (CompiledAssembler<?, ?> assembler : ServiceLoader.load(CompiledAssembler.class, loader)) {
+                List<String> names = provided.get(assembler.getDtoType().getName());
+                if (names == null) {
+                    names = new ArrayList<String>();
+                    provided.put(assembler.getDtoType().getName(), names);
+                }
+                names.add(assembler.getClass().getName());
+            }
+        } catch (ServiceConfigurationError e) {
+            throw new AssemblerException("Compiled assemblers loading error", e);
+        }
+        return provided;
+    }
+}
@@ -0,0 +1,154 @@
+package br.com.machinae.assemblae;
+
+import br.com.machinae.assemblae.annotation.DataTransferObject;
+import com.google.common.base.Function;
+import com.google.common.base.Objects;
+import com.google.common.collect.MapMaker;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Assembler of DTOs tracking their changes: each assembled DTO is remembered with the values it was assembled with,
+ * and disassembling copies back only the properties whose value changed since, so untouched model properties are
+ * neither transformed nor written. Values are compared with equals, so values changed in place are not detected.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ * @see DataTransferObject#trackChanges()
+ */
+final class TrackingAssembler implements Assembler<Object> {
+
+    /**
+     * Values of the plan properties of each tracked DTO, by plan index. Keys are weak and compared by identity,
+     * so a DTO is forgotten as soon as it is collected.
+     */
+    private static final Map<Object, Object[]> SNAPSHOTS = new MapMaker().weakKeys().makeMap();
+
+    private final AssemblyPlan plan;
+
+    private final Assembler<Object> delegate;
+
+    private final AssemblerImpl<Object> reflective;
+
+    /**
+     * @param plan plan of the DTO class
+     * @param delegate assembler of the model and DTO classes
+     */
+    TrackingAssembler(AssemblyPlan plan, Assembler<Object> delegate) {
+        this.plan = checkNotNull(plan);
+        this.delegate = checkNotNull(delegate);
+        this.reflective = new AssemblerImpl<Object>(plan);
+    }
+
+    /**
+     * @param dtoClass dto class
+     * @return true when assembled dtos of dtoClass are tracked
+     */
+    static boolean isTracked(Class<?> dtoClass) {
+        DataTransferObject annotation = dtoClass.getAnnotation(DataTransferObject.class);
+        return annotation != null && annotation.trackChanges() && !annotation.lazy();
+    }
+
+    /**
+     * @param dto assembled dto
+     * @param plan plan of the dto class
+     * @return properties changed since the dto was assembled or last disassembled, all of them for untracked dtos
+     */
+    static Set<String> changedProperties(Object dto, AssemblyPlan plan) {
+        Object[] original = SNAPSHOTS.get(dto);
+        Object[] current = snapshot(dto, plan);
+
+        Set<String> changed = new LinkedHashSet<String>();
+        for (int i = 0; i < plan.size(); i++)
+            if (!plan.get(i).isNested() && (original == null || !Objects.equal(original[i], current[i])))
+                changed.add(plan.get(i).getDtoProperty());
+        return changed;
+    }
+
+    @Override
+    public Object assemble(Object model, Class<Object> dtoClass) {
+        Object dto = delegate.assemble(model, dtoClass);
+        SNAPSHOTS.put(dto, snapshot(dto, plan));
+        return dto;
+    }
+
+    @Override
+    public void assembleInto(Object model, Object dto) {
+        delegate.assembleInto(model, dto);
+        SNAPSHOTS.put(dto, snapshot(dto, plan));
+    }
+
+    @Override
+    public Collection<Object> assembleAll(Collection<Object> models, Class<Object> dtoClass) {
+        checkNotNull(models, "Model list can not be null");
+
+        Collection<Object> dtos = new ArrayList<Object>(models.size());
+        for (Object model : models)
+            dtos.add(assemble(model, dtoClass));
+
+        return dtos;
+    }
+
+    @Override
+    public Collection<Object> assembleAll(Collection<Object> models, final Class<Object> dtoClass, Parallelism parallelism) {
+        return ParallelAssembly.assembleAll(models, new Function<Object, Object>() {
+            @Override
+            public Object apply(Object model) {
+                return assemble(model, dtoClass);
+            }
+        }, parallelism);
+    }
+
+    /**
+     * Copies back the properties changed since the dto was assembled or last disassembled, all of them when the
+     * dto was not assembled by Assemblae.
+     */
+    @Override
+    public void disassemble(Object dto, Object model) {
+        checkNotNull(dto, "DTO disassembled can not be null");
+        checkNotNull(model, "Model can not be null");
+
+        Object[] original = SNAPSHOTS.get(dto);
+        if (original == null) {
+            delegate.disassemble(dto, model);
+            return;
+        }
+
+        Object[] current = snapshot(dto, plan);
+        for (int i = 0; i < plan.size(); i++)
+            if (!plan.get(i).isNested() && !Objects.equal(original[i], current[i]))
+                reflective.copyPropertyFromDTOToModel(dto, model, plan.get(i));
+
+        SNAPSHOTS.put(dto, current);
+    }
+
+    private static Object[] snapshot(Object dto, AssemblyPlan plan) {
+        Object[] values = new Object[plan.size()];
+        try {
+            for (int i = 0; i < plan.size(); i++) {
+                TransferParams param = plan.get(i);
+                if (param.isNested())
+                    continue;
+
+                PropertyAccessor accessor = param.isFieldAccess()
+                        ? PropertyAccessors.forField(dto.getClass(), param.getDtoProperty())
+                        : PropertyAccessors.forProperty(dto.getClass(), param.getDtoProperty());
+                values[i] = accessor.get(dto);
+            }
+        } catch (IllegalAccessException e) {
+            throw new AssemblerException("DTO snapshot error", e);
+        } catch (InvocationTargetException e) {
+            throw new AssemblerException("DTO snapshot error", e);
+        } catch (NoSuchMethodException e) {
+            throw new AssemblerException("DTO snapshot error", e);
+        }
+        return values;
+    }
+}
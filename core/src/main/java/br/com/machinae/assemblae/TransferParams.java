@@ -0,0 +1,417 @@
+package br.com.machinae.assemblae;
+
+import br.com.machinae.assemblae.annotation.DataTransferObject;
+import br.com.machinae.assemblae.annotation.MappedProperty;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * Model that retain all property map configurations for a single Property.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+class TransferParams {
+
+    private final String modelProperty;
+
+    private final String dtoProperty;
+
+    private final Transformer<Object, Object> transformer;
+
+    private final boolean identity;
+
+    private final Class<?> dtoClass;
+
+    private final boolean primitive;
+
+    private final boolean batch;
+
+    private final boolean async;
+
+    private final boolean fieldAccess;
+
+    private final AssemblyListener listener;
+
+    private final boolean nullSafe;
+
+    private final PathAccessor modelPath;
+
+    /**
+     * {@link PrimitiveCopiers} of the property by model class, null when the property is not primitive.
+     */
+    private final ConcurrentMap<Class<?>, MethodHandle> forwardCopiers;
+
+    private final ConcurrentMap<Class<?>, MethodHandle> reverseCopiers;
+
+    static TransferParams build(final Field field) {
+        return build(field, Assemblae.getDefaultEngine());
+    }
+
+    /**
+     * @param field dto field
+     * @param engine engine providing the transformers, default access type and listener
+     * @return parameters of field
+     */
+    static TransferParams build(final Field field, final AssemblaeEngine engine) {
+        checkNotNull(field);
+        checkNotNull(engine);
+
+        TransformerRegistry registry = engine.getTransformerRegistry();
+
+        final MappedProperty map = field.getAnnotation(MappedProperty.class);
+
+        String dtoPropName = field.getName();
+
+        String modelPropName = null;
+        Transformer<Object, Object> transformer;
+
+        if (map != null) {
+            modelPropName = map.to();
+            transformer = registry.get(map.transformer());
+            if (map.cached() && !TransformerRegistry.isIdentity(transformer)) {
+                // async and primitive transformers would lose their own call paths behind the cache
+                if (transformer instanceof AsyncTransformer || PrimitiveCopiers.isSpecialized(transformer))
+                    throw new AssemblerException(format("Property '%s' of DTO class '%s' can not cache the results of %s, an async or primitive transformer",
+                            field.getName(), field.getDeclaringClass().getName(), transformer.getClass().getName()));
+                transformer = CachingTransformer.of(transformer, map.cacheSize(), map.cacheTtlSeconds());
+            }
+        } else
+            transformer = registry.get(NoTransformation.class);
+
+        if (TransformerRegistry.isIdentity(transformer)) {
+            Transformer<Object, Object> nested = nestedTransformer(field, engine);
+            if (nested != null)
+                transformer = nested;
+        }
+
+        return new TransferParams(dtoPropName, modelPropName,  transformer, field.getDeclaringClass(), field.getType(),
+                accessType(field.getDeclaringClass(), engine.getAccessType()) == AccessType.FIELD, engine.getListener(),
+                map != null && map.nullSafe());
+    }
+
+    /**
+     * @param dtoClass dto class
+     * @param defaultAccessType access type of the engine
+     * @return access type of dtoClass, resolving DEFAULT to the engine one
+     */
+    static AccessType accessType(Class<?> dtoClass, AccessType defaultAccessType) {
+        DataTransferObject annotation = dtoClass.getAnnotation(DataTransferObject.class);
+        AccessType accessType = annotation != null ? annotation.access() : AccessType.DEFAULT;
+        return accessType != AccessType.DEFAULT ? accessType : defaultAccessType;
+    }
+
+    /**
+     * @param field dto field
+     * @param engine engine assembling the nested DTOs
+     * @return transformer assembling the nested DTOs, for DTO typed fields and collections of them, null otherwise
+     */
+    private static Transformer<Object, Object> nestedTransformer(Field field, AssemblaeEngine engine) {
+        Class<?> type = field.getType();
+        if (type.isAnnotationPresent(DataTransferObject.class))
+            return new NestedTransformer(engine, type, null);
+
+        if (Collection.class.isAssignableFrom(type) && field.getGenericType() instanceof ParameterizedType) {
+            Type element = ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+            if (element instanceof Class && ((Class<?>) element).isAnnotationPresent(DataTransferObject.class))
+                return new NestedTransformer(engine, (Class<?>) element, type);
+        }
+        return null;
+    }
+
+    TransferParams(String dtoProperty, String modelProperty, Transformer<Object, Object> transformer) {
+        this(dtoProperty, modelProperty, transformer, null, null, false);
+    }
+
+    TransferParams(String dtoProperty, String modelProperty, Transformer<Object, Object> transformer, Class<?> dtoClass,
+                   Class<?> dtoType, boolean fieldAccess) {
+        this(dtoProperty, modelProperty, transformer, dtoClass, dtoType, fieldAccess, null);
+    }
+
+    TransferParams(String dtoProperty, String modelProperty, Transformer<Object, Object> transformer, Class<?> dtoClass,
+                   Class<?> dtoType, boolean fieldAccess, AssemblyListener listener) {
+        this(dtoProperty, modelProperty, transformer, dtoClass, dtoType, fieldAccess, listener, false);
+    }
+
+    TransferParams(String dtoProperty, String modelProperty, Transformer<Object, Object> transformer, Class<?> dtoClass,
+                   Class<?> dtoType, boolean fieldAccess, AssemblyListener listener, boolean nullSafe) {
+        this.dtoClass = dtoClass;
+        this.nullSafe = nullSafe;
+        this.fieldAccess = fieldAccess;
+        this.listener = listener;
+        this.modelProperty = modelProperty;
+        this.dtoProperty = dtoProperty;
+        this.transformer = transformer;
+        this.identity = TransformerRegistry.isIdentity(transformer);
+        this.batch = transformer instanceof BatchTransformer;
+        this.async = transformer instanceof AsyncTransformer;
+        this.primitive = dtoClass != null && dtoType != null && dtoType.isPrimitive()
+                && (identity || PrimitiveCopiers.isSpecialized(transformer));
+        this.forwardCopiers = primitive ? new ConcurrentHashMap<Class<?>, MethodHandle>(4) : null;
+        this.reverseCopiers = primitive ? new ConcurrentHashMap<Class<?>, MethodHandle>(4) : null;
+
+        // nested, indexed and mapped paths are parsed once, instead of on every copy
+        String path = getModelProperty();
+        this.modelPath = path != null && !PropertyAccessors.isSimple(path) ? PathAccessor.compile(path, fieldAccess, nullSafe) : null;
+    }
+
+    TransferParams() {
+        this(null, null, null);
+    }
+
+    /**
+     * @param transformer transformer
+     * @return a copy of these params using transformer
+     */
+    TransferParams withTransformer(Transformer<Object, Object> transformer) {
+        return new TransferParams(dtoProperty, modelProperty, transformer, dtoClass, null, fieldAccess, listener, nullSafe);
+    }
+
+    String getModelProperty() {
+        if (modelProperty != null && !modelProperty.isEmpty())
+            return modelProperty;
+
+        // By default, if not defined a model name we will return the dto name.
+        return dtoProperty;
+    }
+
+    /**
+     * Gets the accessor of the model property: the compiled path for nested, indexed and mapped properties, the
+     * cached accessor of the model class otherwise.
+     *
+     * @param modelClass model class
+     * @return accessor of the model property
+     * @throws NoSuchMethodException when property does not exists
+     * @throws IllegalAccessException when property accessors cant be accessed
+     */
+    PropertyAccessor modelAccessor(Class<?> modelClass) throws NoSuchMethodException, IllegalAccessException {
+        if (modelPath != null)
+            return modelPath;
+
+        return fieldAccess
+                ? PropertyAccessors.forField(modelClass, getModelProperty())
+                : PropertyAccessors.forProperty(modelClass, getModelProperty());
+    }
+
+    /**
+     * @return compiled model property path, null when the model property is simple
+     */
+    PathAccessor getModelPath() {
+        return modelPath;
+    }
+
+    /**
+     * @return true when a null intermediate value of the model property path is read as null
+     */
+    boolean isNullSafe() {
+        return nullSafe;
+    }
+
+    String getDtoProperty() {
+        return dtoProperty;
+    }
+
+    Transformer<Object, Object> getTransformer() {
+        return transformer;
+    }
+
+    /**
+     * @return true when the value is assembled as a nested DTO, or a collection of them
+     */
+    boolean isNested() {
+        return transformer instanceof NestedTransformer;
+    }
+
+    /**
+     * @return true when the dto property is primitive and copied as is or by a primitive transformer, so it
+     * may be copied without boxing when the model property is primitive too
+     */
+    boolean isPrimitive() {
+        return primitive;
+    }
+
+    /**
+     * @return model to dto copiers of this primitive property, by model class
+     */
+    ConcurrentMap<Class<?>, MethodHandle> getForwardCopiers() {
+        return forwardCopiers;
+    }
+
+    /**
+     * @return dto to model copiers of this primitive property, by model class
+     */
+    ConcurrentMap<Class<?>, MethodHandle> getReverseCopiers() {
+        return reverseCopiers;
+    }
+
+    /**
+     * @return true when the transformer is a {@link BatchTransformer}, transforming the values of a whole
+     * collection at once
+     */
+    boolean isBatch() {
+        return batch;
+    }
+
+    /**
+     * @return true when the transformer is an {@link AsyncTransformer}, able to transform without blocking
+     */
+    boolean isAsync() {
+        return async;
+    }
+
+    /**
+     * @return true when the model and dto properties are fields, instead of JavaBean properties
+     */
+    boolean isFieldAccess() {
+        return fieldAccess;
+    }
+
+    /**
+     * @return true when the value is copied as is, without calling the transformer
+     */
+    boolean isIdentity() {
+        return identity;
+    }
+
+    /**
+     * @return dto class declaring the property, null when not built from a field
+     */
+    Class<?> getDtoClass() {
+        return dtoClass;
+    }
+
+    /**
+     * @param model model, a map is read at the key named after the model property
+     * @return value of the model property
+     * @throws AssemblerException when the property can not be read
+     */
+    Object read(Object model) {
+        if (model instanceof Map)
+            return ((Map<?, ?>) model).get(getModelProperty());
+
+        try {
+            return modelAccessor(model.getClass()).get(model);
+        } catch (IllegalAccessException e) {
+            throw new AssemblerException(format("Property '%s' read error", getModelProperty()), e);
+        } catch (InvocationTargetException e) {
+            throw new AssemblerException(format("Property '%s' read error", getModelProperty()), e);
+        } catch (NoSuchMethodException e) {
+            throw new AssemblerException(format("Property '%s' read error", getModelProperty()), e);
+        }
+    }
+
+    /**
+     * @param dto dto
+     * @param value value of the dto property, already transformed
+     * @throws AssemblerException when the property can not be written
+     */
+    void write(Object dto, Object value) {
+        try {
+            PropertyAccessor accessor = fieldAccess
+                    ? PropertyAccessors.forField(dto.getClass(), dtoProperty)
+                    : PropertyAccessors.forProperty(dto.getClass(), dtoProperty);
+            accessor.set(dto, value);
+        } catch (IllegalAccessException e) {
+            throw new AssemblerException(format("Property '%s' write error", dtoProperty), e);
+        } catch (InvocationTargetException e) {
+            throw new AssemblerException(format("Property '%s' write error", dtoProperty), e);
+        } catch (NoSuchMethodException e) {
+            throw new AssemblerException(format("Property '%s' write error", dtoProperty), e);
+        }
+    }
+
+    Object transform(Object value) {
+        if (identity)
+            return value;
+
+        return transform(value, batch ? BatchContext.results(this) : null);
+    }
+
+    /**
+     * @param value model value
+     * @param results values already transformed by the batch transformer, null when there are none
+     * @return dto value
+     */
+    Object transform(Object value, Map<Object, Object> results) {
+        if (identity)
+            return value;
+
+        if (results != null && results.containsKey(value))
+            return results.get(value);
+
+        if (listener == null)
+            return transformer.transform(value);
+
+        long start = System.nanoTime();
+        try {
+            return transformer.transform(value);
+        } finally {
+            listener.transformed(dtoClass, dtoProperty, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * @param values distinct, non null model values
+     * @return the values transformed by the batch transformer, in a single call
+     */
+    @SuppressWarnings("unchecked")
+    Map<Object, Object> transformAll(Collection<Object> values) {
+        BatchTransformer<Object, Object> batchTransformer = (BatchTransformer<Object, Object>) transformer;
+        if (listener == null)
+            return batchTransformer.transformAll(values);
+
+        long start = System.nanoTime();
+        try {
+            return batchTransformer.transformAll(values);
+        } finally {
+            listener.transformed(dtoClass, dtoProperty, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * @param value model value
+     * @return future of the value transformed by the async transformer
+     */
+    @SuppressWarnings("unchecked")
+    CompletableFuture<Object> transformAsync(Object value) {
+        AsyncTransformer<Object, Object> asyncTransformer = (AsyncTransformer<Object, Object>) transformer;
+        if (listener == null)
+            return asyncTransformer.transformAsync(value);
+
+        final long start = System.nanoTime();
+        return asyncTransformer.transformAsync(value).whenComplete(new BiConsumer<Object, Throwable>() {
+            @Override
+            public void accept(Object result, Throwable failure) {
+                listener.transformed(dtoClass, dtoProperty, System.nanoTime() - start);
+            }
+        });
+    }
+
+    Object reverse(Object value) {
+        if (identity)
+            return value;
+
+        if (listener == null)
+            return transformer.reverse(value);
+
+        long start = System.nanoTime();
+        try {
+            return transformer.reverse(value);
+        } finally {
+            listener.reversed(dtoClass, dtoProperty, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package br.com.machinae.assemblae;
+
+import br.com.machinae.assemblae.annotation.Scope;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Registry of the {@link Transformer} instances used on assemble. Each transformer class is instantiated once,
+ * on first use, according to its {@link TransformerScope}; applications can also register pre-built instances.
+ * Registrations only affect DTO classes not yet assembled, so they should be done on startup.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+public class TransformerRegistry {
+
+    private static final NoTransformation NO_TRANSFORMATION = new NoTransformation();
+
+    private final ConcurrentMap<Class<?>, Transformer<Object, Object>> transformers = new ConcurrentHashMap<Class<?>, Transformer<Object, Object>>();
+
+    public TransformerRegistry() {
+        transformers.put(NoTransformation.class, NO_TRANSFORMATION);
+    }
+
+    /**
+     * Registers a pre-built instance, shared by all properties using its class.
+     *
+     * @param type transformer class, as declared in {@link br.com.machinae.assemblae.annotation.MappedProperty}
+     * @param transformer instance
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Transformer<?, ?>> void register(Class<? super T> type, T transformer) {
+        checkNotNull(type);
+        checkNotNull(transformer);
+        checkArgument(type.isInstance(transformer), "Transformer must be a %s instance", type.getName());
+
+        transformers.put(type, (Transformer<Object, Object>) transformer);
+    }
+
+    /**
+     * Registers the scope of a transformer class, overriding its {@link Scope} annotation.
+     *
+     * @param type transformer class
+     * @param scope instances lifecycle
+     */
+    public void register(Class<? extends Transformer> type, TransformerScope scope) {
+        checkNotNull(type);
+        checkNotNull(scope);
+
+        transformers.put(type, scoped(type, scope));
+    }
+
+    /**
+     * Gets the transformer for a class, instantiating it on the first request.
+     *
+     * @param type transformer class
+     * @return transformer instance, or a scoped proxy for thread and prototype scopes
+     * @throws AssemblerException when transformer can not be instantiated
+     */
+    public Transformer<Object, Object> get(Class<? extends Transformer> type) {
+        checkNotNull(type);
+
+        Transformer<Object, Object> transformer = transformers.get(type);
+        if (transformer == null) {
+            Scope scope = type.getAnnotation(Scope.class);
+            transformer = scoped(type, scope != null ? scope.value() : TransformerScope.SINGLETON);
+
+            Transformer<Object, Object> previous = transformers.putIfAbsent(type, transformer);
+            if (previous != null)
+                transformer = previous;
+        }
+        return transformer;
+    }
+
+    /**
+     * @param transformer transformer
+     * @return true when transformer does nothing, so the transformation call can be skipped
+     */
+    static boolean isIdentity(Transformer<?, ?> transformer) {
+        return transformer == null || transformer.getClass() == NoTransformation.class;
+    }
+
+    /**
+     * Thread and prototype scoped transformers are called through a proxy implementing only {@link Transformer}, so
+     * batch, async and primitive transformers are rejected in those scopes instead of losing their specialization.
+     */
+    private static Transformer<Object, Object> scoped(Class<? extends Transformer> type, TransformerScope scope) {
+        if (scope != TransformerScope.SINGLETON && isSpecialized(type))
+            throw new AssemblerException(String.format(
+                    "Transformer '%s' is a batch, async or primitive transformer, it must be a singleton", type.getName()));
+
+        switch (scope) {
+            case THREAD:
+                return new ThreadScopedTransformer(type);
+            case PROTOTYPE:
+                return new PrototypeTransformer(type);
+            default:
+                return newTransformerInstance(type);
+        }
+    }
+
+    private static boolean isSpecialized(Class<?> type) {
+        return BatchTransformer.class.isAssignableFrom(type) || AsyncTransformer.class.isAssignableFrom(type)
+                || IntTransformer.class.isAssignableFrom(type) || LongTransformer.class.isAssignableFrom(type)
+                || DoubleTransformer.class.isAssignableFrom(type) || LongToDoubleTransformer.class.isAssignableFrom(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    static Transformer<Object, Object> newTransformerInstance(Class<? extends Transformer> clazz) {
+        try {
+            return clazz.newInstance();
+        } catch (InstantiationException e) {
+            throw new AssemblerException("Transformer creation error", e);
+        } catch (IllegalAccessException e) {
+            throw new AssemblerException("Transformer creation error", e);
+        }
+    }
+
+    /**
+     * Delegates to one transformer instance per thread.
+     */
+    private static final class ThreadScopedTransformer implements Transformer<Object, Object> {
+
+        private final ThreadLocal<Transformer<Object, Object>> instances;
+
+        ThreadScopedTransformer(final Class<? extends Transformer> type) {
+            // fails on plan compilation, not on first transformation
+            newTransformerInstance(type);
+            this.instances = new ThreadLocal<Transformer<Object, Object>>() {
+                @Override
+                protected Transformer<Object, Object> initialValue() {
+                    return newTransformerInstance(type);
+                }
+            };
+        }
+
+        @Override
+        public Object transform(Object data) {
+            return instances.get().transform(data);
+        }
+
+        @Override
+        public Object reverse(Object data) {
+            return instances.get().reverse(data);
+        }
+    }
+
+    /**
+     * Delegates to a new transformer instance on each call.
+     */
+    private static final class PrototypeTransformer implements Transformer<Object, Object> {
+
+        private final Class<? extends Transformer> type;
+
+        PrototypeTransformer(Class<? extends Transformer> type) {
+            // fails on plan compilation, not on first transformation
+            newTransformerInstance(type);
+            this.type = type;
+        }
+
+        @Override
+        public Object transform(Object data) {
+            return newTransformerInstance(type).transform(data);
+        }
+
+        @Override
+        public Object reverse(Object data) {
+            return newTransformerInstance(type).reverse(data);
+        }
+    }
+}
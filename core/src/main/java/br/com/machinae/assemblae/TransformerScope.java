@@ -0,0 +1,26 @@
+package br.com.machinae.assemblae;
+
+/**
+ * Lifecycle of the {@link Transformer} instances used by Assemblae. Batch, async and primitive transformers must be
+ * singletons.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+public enum TransformerScope {
+
+    /**
+     * One instance shared by all properties and threads, the transformer must be thread-safe. Default scope.
+     */
+    SINGLETON,
+
+    /**
+     * One instance per thread, for transformers that are not thread-safe but can be reused.
+     */
+    THREAD,
+
+    /**
+     * A new instance for each transformation, for transformers that can not be reused at all.
+     */
+    PROTOTYPE
+}
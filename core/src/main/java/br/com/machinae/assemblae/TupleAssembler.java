@@ -0,0 +1,288 @@
+package br.com.machinae.assemblae;
+
+import com.google.common.base.Function;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * Assembler of DTOs from projection tuples, {@code Map} models and {@code Object[]} rows, instead of beans. The
+ * model property of each plan property is resolved once, to a map key or a row column, and the DTO accessors are
+ * resolved along, so assembling a tuple costs a map lookup or an array read per property. Model properties are
+ * keys or column names as a whole: dots, brackets and parentheses are not parsed as paths.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+abstract class TupleAssembler implements Assembler<Object> {
+
+    private final AssemblyPlan plan;
+
+    private final PropertyAccessor[] dtoAccessors;
+
+    /**
+     * @param plan plan of the DTO class, or of a projection of it
+     * @throws AssemblerException when a DTO property can not be accessed
+     */
+    TupleAssembler(AssemblyPlan plan) {
+        this.plan = checkNotNull(plan);
+
+        Class<?> dtoClass = plan.getDtoClass();
+        dtoAccessors = new PropertyAccessor[plan.size()];
+        for (int i = 0; i < plan.size(); i++) {
+            TransferParams param = plan.get(i);
+            try {
+                dtoAccessors[i] = param.isFieldAccess()
+                        ? PropertyAccessors.forField(dtoClass, param.getDtoProperty())
+                        : PropertyAccessors.forProperty(dtoClass, param.getDtoProperty());
+            } catch (NoSuchMethodException e) {
+                throw new AssemblerException(format("Property '%s' of DTO class '%s' can not be accessed", param.getDtoProperty(), dtoClass.getName()), e);
+            } catch (IllegalAccessException e) {
+                throw new AssemblerException(format("Property '%s' of DTO class '%s' can not be accessed", param.getDtoProperty(), dtoClass.getName()), e);
+            }
+        }
+    }
+
+    /**
+     * @param plan plan of the DTO class, or of a projection of it
+     * @return assembler reading each model property from the map key of the same name
+     */
+    static TupleAssembler forMaps(AssemblyPlan plan) {
+        return new MapAssembler(plan);
+    }
+
+    /**
+     * @param plan plan of the DTO class, or of a projection of it
+     * @param layout columns of the rows
+     * @return assembler reading each model property from the row column of the same name
+     * @throws IllegalArgumentException when a model property has no column in layout
+     */
+    static TupleAssembler forRows(AssemblyPlan plan, TupleLayout layout) {
+        return new RowAssembler(plan, layout);
+    }
+
+    /**
+     * @param model tuple
+     * @param property property position in the plan
+     * @return value of the model property
+     */
+    abstract Object read(Object model, int property);
+
+    /**
+     * @param model tuple
+     * @param property property position in the plan
+     * @param value value of the model property
+     */
+    abstract void write(Object model, int property, Object value);
+
+    /**
+     * @param model tuple
+     * @throws IllegalArgumentException when model can not hold the properties of the plan
+     */
+    void check(Object model) {
+    }
+
+    @Override
+    public Object assemble(Object model, Class<Object> dtoClass) {
+        checkNotNull(model, "Model assembled can not be null");
+        check(model);
+
+        AssemblyContext context = plan.hasNested() ? AssemblyContext.enter() : null;
+        try {
+            DtoConstructor constructor = plan.getConstructor();
+            if (constructor == null) {
+                Object dto = instantiate(dtoClass);
+                // registered before copying, so references back to model resolve to this dto
+                if (context != null)
+                    context.put(model, plan, dto);
+                copy(model, dto);
+                return dto;
+            }
+
+            if (context != null)
+                context.put(model, plan, AssemblyContext.CONSTRUCTING);
+
+            Object[] arguments = constructor.newArguments();
+            for (int i = 0; i < plan.size(); i++)
+                if (constructor.argumentOf(i) >= 0)
+                    arguments[constructor.argumentOf(i)] = plan.get(i).transform(read(model, i));
+
+            Object dto = constructor.newInstance(arguments);
+            if (context != null)
+                context.put(model, plan, dto);
+            for (int i = 0; i < plan.size(); i++)
+                if (constructor.argumentOf(i) < 0)
+                    set(dto, i, plan.get(i).transform(read(model, i)));
+            return dto;
+        } finally {
+            if (context != null)
+                context.exit();
+        }
+    }
+
+    @Override
+    public void assembleInto(Object model, Object dto) {
+        checkNotNull(model, "Model assembled can not be null");
+        checkNotNull(dto, "DTO can not be null");
+        checkArgument(plan.getConstructor() == null, "DTO class '%s' is assembled by its constructor, its instances can not be refilled",
+                dto.getClass().getName());
+        check(model);
+
+        AssemblyContext context = plan.hasNested() ? AssemblyContext.enter() : null;
+        try {
+            if (context != null)
+                context.put(model, plan, dto);
+            copy(model, dto);
+        } finally {
+            if (context != null)
+                context.exit();
+        }
+    }
+
+    @Override
+    public Collection<Object> assembleAll(Collection<Object> models, Class<Object> dtoClass) {
+        checkNotNull(models, "Model list can not be null");
+
+        Collection<Object> dtos = new ArrayList<Object>(models.size());
+        for (Object model : models)
+            dtos.add(assemble(model, dtoClass));
+
+        return dtos;
+    }
+
+    @Override
+    public Collection<Object> assembleAll(Collection<Object> models, final Class<Object> dtoClass, Parallelism parallelism) {
+        return ParallelAssembly.assembleAll(models, new Function<Object, Object>() {
+            @Override
+            public Object apply(Object model) {
+                return assemble(model, dtoClass);
+            }
+        }, parallelism);
+    }
+
+    /**
+     * Writes each mapped property of the DTO back to its key or column, nested DTO ones are not copied.
+     */
+    @Override
+    public void disassemble(Object dto, Object model) {
+        checkNotNull(dto, "DTO disassembled can not be null");
+        checkNotNull(model, "Model can not be null");
+        check(model);
+
+        for (int i = 0; i < plan.size(); i++)
+            if (!plan.get(i).isNested())
+                write(model, i, plan.get(i).reverse(get(dto, i)));
+    }
+
+    private void copy(Object model, Object dto) {
+        for (int i = 0; i < plan.size(); i++)
+            set(dto, i, plan.get(i).transform(read(model, i)));
+    }
+
+    private Object get(Object dto, int property) {
+        try {
+            return dtoAccessors[property].get(dto);
+        } catch (IllegalAccessException e) {
+            throw new AssemblerException(format("Property '%s' read error", plan.get(property).getDtoProperty()), e);
+        } catch (InvocationTargetException e) {
+            throw new AssemblerException(format("Property '%s' read error", plan.get(property).getDtoProperty()), e);
+        } catch (NoSuchMethodException e) {
+            throw new AssemblerException(format("Property '%s' read error", plan.get(property).getDtoProperty()), e);
+        }
+    }
+
+    private void set(Object dto, int property, Object value) {
+        try {
+            dtoAccessors[property].set(dto, value);
+        } catch (IllegalAccessException e) {
+            throw new AssemblerException(format("Property '%s' write error", plan.get(property).getDtoProperty()), e);
+        } catch (InvocationTargetException e) {
+            throw new AssemblerException(format("Property '%s' write error", plan.get(property).getDtoProperty()), e);
+        } catch (NoSuchMethodException e) {
+            throw new AssemblerException(format("Property '%s' write error", plan.get(property).getDtoProperty()), e);
+        }
+    }
+
+    private static Object instantiate(Class<?> dtoClass) {
+        try {
+            return dtoClass.newInstance();
+        } catch (InstantiationException e) {
+            throw new AssemblerException("Failure instantiating dto", e);
+        } catch (IllegalAccessException e) {
+            throw new AssemblerException("Failure instantiating dto", e);
+        }
+    }
+
+    /**
+     * Assembler of {@code Map} models, keyed by the model properties.
+     */
+    private static final class MapAssembler extends TupleAssembler {
+
+        private final String[] keys;
+
+        MapAssembler(AssemblyPlan plan) {
+            super(plan);
+            keys = new String[plan.size()];
+            for (int i = 0; i < plan.size(); i++)
+                keys[i] = plan.get(i).getModelProperty();
+        }
+
+        @Override
+        Object read(Object model, int property) {
+            return ((Map<?, ?>) model).get(keys[property]);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void write(Object model, int property, Object value) {
+            ((Map<String, Object>) model).put(keys[property], value);
+        }
+    }
+
+    /**
+     * Assembler of {@code Object[]} rows, whose model properties are columns of a layout.
+     */
+    private static final class RowAssembler extends TupleAssembler {
+
+        private final int[] columns;
+
+        private final int width;
+
+        RowAssembler(AssemblyPlan plan, TupleLayout layout) {
+            super(plan);
+            checkNotNull(layout);
+
+            columns = new int[plan.size()];
+            int maxColumn = -1;
+            for (int i = 0; i < plan.size(); i++) {
+                columns[i] = layout.indexOf(plan.get(i).getModelProperty());
+                checkArgument(columns[i] >= 0, "Property '%s' of DTO class '%s' is mapped to column '%s', missing from layout [%s]",
+                        plan.get(i).getDtoProperty(), plan.getDtoClass().getName(), plan.get(i).getModelProperty(), layout);
+                maxColumn = Math.max(maxColumn, columns[i]);
+            }
+            width = maxColumn + 1;
+        }
+
+        @Override
+        Object read(Object model, int property) {
+            return ((Object[]) model)[columns[property]];
+        }
+
+        @Override
+        void write(Object model, int property, Object value) {
+            ((Object[]) model)[columns[property]] = value;
+        }
+
+        @Override
+        void check(Object model) {
+            checkArgument(((Object[]) model).length >= width, "Row of %s columns can not hold a column at index %s",
+                    ((Object[]) model).length, width - 1);
+        }
+    }
+}
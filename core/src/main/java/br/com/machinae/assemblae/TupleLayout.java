@@ -0,0 +1,82 @@
+package br.com.machinae.assemblae;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Immutable names of the columns of {@code Object[]} rows, such as the aliases of a projection query, in column
+ * order. Each model property of a DTO is matched with the column of the same name, so rows are assembled reading
+ * values by index. Layouts are value objects: equal layouts share the same compiled assembler.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+public final class TupleLayout {
+
+    private final ImmutableList<String> columns;
+
+    private TupleLayout(List<String> columns) {
+        this.columns = ImmutableList.copyOf(columns);
+    }
+
+    /**
+     * @param columns column names, in row order
+     * @return layout of columns
+     */
+    public static TupleLayout of(String... columns) {
+        checkNotNull(columns);
+
+        return of(Arrays.asList(columns));
+    }
+
+    /**
+     * @param columns column names, in row order
+     * @return layout of columns
+     * @throws IllegalArgumentException when a column is empty or repeated
+     */
+    public static TupleLayout of(List<String> columns) {
+        checkNotNull(columns);
+        for (int i = 0; i < columns.size(); i++) {
+            checkArgument(columns.get(i) != null && !columns.get(i).isEmpty(), "Invalid column name '%s'", columns.get(i));
+            checkArgument(columns.indexOf(columns.get(i)) == i, "Repeated column name '%s'", columns.get(i));
+        }
+
+        return new TupleLayout(columns);
+    }
+
+    /**
+     * @return column names, in row order
+     */
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    /**
+     * @param column column name
+     * @return index of column in rows, -1 when there is no such column
+     */
+    int indexOf(String column) {
+        return columns.indexOf(column);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof TupleLayout && columns.equals(((TupleLayout) o).columns);
+    }
+
+    @Override
+    public int hashCode() {
+        return columns.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return Joiner.on(',').join(columns);
+    }
+}
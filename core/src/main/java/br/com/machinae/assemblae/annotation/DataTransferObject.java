@@ -0,0 +1,48 @@
+package br.com.machinae.assemblae.annotation;
+
+import br.com.machinae.assemblae.AccessType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to Identify Data Transfer Objects.
+ * Only anntated DTOs can be assembled by Assemblae
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ * @since 21/10/2012
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DataTransferObject {
+
+    /**
+     * Model class assembled in this DTO. When defined, the assemblae-processor generates the DTO assembler at
+     * compile time, and mapping errors fail the build instead of the assemble call.
+     */
+    public Class<?> model() default Void.class;
+
+    /**
+     * When true, Assemblae returns a generated subclass of the DTO whose getters read and transform the model
+     * property on first access only, so properties never read cost nothing. The DTO must be a public, non-final
+     * class with a public no-arg constructor; properties with final getters or setters are copied eagerly.
+     */
+    public boolean lazy() default false;
+
+    /**
+     * How the properties of this DTO and of its models are accessed. Field access is reflective only: compiled
+     * assemblers, including the ones generated by the assemblae-processor, are not used.
+     */
+    public AccessType access() default AccessType.DEFAULT;
+
+    /**
+     * When true, assembled DTOs remember the values they were assembled with, and disassembling them writes
+     * back only the properties whose value changed since, so untouched model properties are neither transformed
+     * nor set. Values are compared with equals: values changed in place, like an element added to a list, must be
+     * replaced to be detected. Lazy DTOs are not tracked.
+     */
+    public boolean trackChanges() default false;
+}
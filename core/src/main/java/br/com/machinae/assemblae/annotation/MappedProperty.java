@@ -0,0 +1,48 @@
+package br.com.machinae.assemblae.annotation;
+
+import br.com.machinae.assemblae.NoTransformation;
+import br.com.machinae.assemblae.Transformer;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotations for mapping configuration on copy from/to model.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ * @since 21/10/2012
+ */
+
+@Target({ElementType.METHOD, ElementType.FIELD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MappedProperty {
+
+    public String to() default "";
+
+    public Class<? extends Transformer> transformer() default NoTransformation.class;
+
+    /**
+     * When true, the transformer is treated as a pure function and its results are memoized for this property, so
+     * repeated values are transformed once. Null values are transformed on every call.
+     */
+    public boolean cached() default false;
+
+    /**
+     * Maximum number of values cached in each direction, the least recently used ones are evicted first.
+     */
+    public long cacheSize() default 1024;
+
+    /**
+     * Seconds a cached result is kept after being computed, 0 to keep it until evicted by size.
+     */
+    public long cacheTtlSeconds() default 0;
+
+    /**
+     * When true, a nested model property path ({@code to = "customer.address.city"}) with a null intermediate value
+     * is read as null, and not written, instead of failing.
+     */
+    public boolean nullSafe() default false;
+}
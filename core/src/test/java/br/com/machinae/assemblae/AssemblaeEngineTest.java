@@ -0,0 +1,195 @@
+package br.com.machinae.assemblae;
+
+import br.com.machinae.assemblae.tests.DTOWithOneProperty;
+import br.com.machinae.assemblae.tests.DTOWithTransformerMappedProperty;
+import br.com.machinae.assemblae.tests.DummyTransformer;
+import br.com.machinae.assemblae.tests.ModelWithProperties;
+import com.google.common.io.ByteStreams;
+import org.apache.commons.beanutils.PropertyUtils;
+import org.junit.Test;
+
+import java.beans.Introspector;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for AssemblaeEngine
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+public class AssemblaeEngineTest {
+
+    @Test
+    public void enginesShouldOwnTheirPlans() {
+        // Arrange
+        AssemblaeEngine engine = AssemblaeEngine.builder().build();
+        AssemblaeEngine another = AssemblaeEngine.builder().build();
+
+        // Act
+        AssemblyPlan plan = engine.loadPlan(DTOWithOneProperty.class);
+
+        // Assert
+        assertSame(plan, engine.loadPlan(DTOWithOneProperty.class));
+        assertNotSame(plan, another.loadPlan(DTOWithOneProperty.class));
+        assertSame(engine, plan.getEngine());
+    }
+
+    @Test
+    public void engineShouldUseItsTransformerRegistry() {
+        // Arrange
+        TransformerRegistry registry = new TransformerRegistry();
+        registry.register(DummyTransformer.class, new DummyTransformer() {
+            @Override
+            public Object transform(Object data) {
+                return 42;
+            }
+        });
+        AssemblaeEngine engine = AssemblaeEngine.builder().withTransformerRegistry(registry).build();
+
+        // Act
+        DTOWithTransformerMappedProperty dto = engine.assemble(new ModelWithProperties(1, 2, 3), DTOWithTransformerMappedProperty.class);
+
+        // Assert
+        assertEquals(Integer.valueOf(42), dto.getField());
+        assertNull(AssemblaeEngine.builder().build().assemble(new ModelWithProperties(1, 2, 3), DTOWithTransformerMappedProperty.class).getField());
+    }
+
+    @Test
+    public void engineShouldResolveDefaultAccessTypeToItsOwn() {
+        // Arrange
+        AssemblaeEngine engine = AssemblaeEngine.builder().withAccessType(AccessType.FIELD).build();
+
+        // Act
+        AssemblyPlan plan = engine.loadPlan(DTOWithOneProperty.class);
+
+        // Assert
+        assertTrue(plan.isFieldAccess());
+        assertFalse(AssemblaeEngine.builder().build().loadPlan(DTOWithOneProperty.class).isFieldAccess());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void withAccessTypeShouldThrowsIllegalArgumentExceptionForDefault() {
+        // Act
+        AssemblaeEngine.builder().withAccessType(AccessType.DEFAULT);
+    }
+
+    @Test
+    public void engineShouldNotifyEveryListener() {
+        // Arrange
+        MetricsListener metrics = new MetricsListener();
+        MetricsListener another = new MetricsListener();
+        AssemblaeEngine engine = AssemblaeEngine.builder().withListener(metrics).withListener(another).build();
+
+        // Act
+        engine.assemble(new ModelWithProperties(1, 2, 3), DTOWithOneProperty.class);
+
+        // Assert
+        assertEquals(1, metrics.getAssembleLatency(DTOWithOneProperty.class).getCount());
+        assertEquals(1, another.getAssembleLatency(DTOWithOneProperty.class).getCount());
+        assertEquals(1, metrics.getPlanCacheMisses());
+    }
+
+    @Test
+    public void toBuilderShouldKeepConfiguration() {
+        // Arrange
+        AssemblaeEngine engine = AssemblaeEngine.builder().withAccessType(AccessType.FIELD).build();
+
+        // Act
+        AssemblaeEngine copy = engine.toBuilder().build();
+
+        // Assert
+        assertSame(engine.getTransformerRegistry(), copy.getTransformerRegistry());
+        assertSame(engine.getExecutor(), copy.getExecutor());
+        assertEquals(AccessType.FIELD, copy.getAccessType());
+        assertNotSame(engine.loadPlan(DTOWithOneProperty.class), copy.loadPlan(DTOWithOneProperty.class));
+    }
+
+    @Test
+    public void unusedEngineShouldBeCollectable() throws Exception {
+        // Arrange
+        AssemblaeEngine engine = AssemblaeEngine.builder().withListener(new MetricsListener()).build();
+        engine.assemble(new ModelWithProperties(1, 2, 3), DTOWithOneProperty.class);
+        engine.assemble(new ModelWithProperties(1, 2, 3), DTOWithTransformerMappedProperty.class);
+        WeakReference<AssemblaeEngine> reference = new WeakReference<AssemblaeEngine>(engine);
+
+        // Act
+        engine = null;
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        // Assert
+        assertNull("Plans and assemblers of the engine should not keep it reachable", reference.get());
+    }
+
+    @Test
+    public void engineShouldNotKeepDiscardedClassLoadersReachable() throws Exception {
+        // Arrange
+        AssemblaeEngine engine = AssemblaeEngine.builder().withListener(new MetricsListener()).build();
+        WeakReference<ClassLoader> reference = assembleInDiscardedLoader(engine);
+        // bean descriptors are softly cached by java.beans and commons-beanutils, until memory runs low
+        Introspector.flushCaches();
+        PropertyUtils.clearDescriptors();
+
+        // Act
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        // Assert
+        assertNull("Plans and assemblers of a live engine should not keep DTO classes reachable", reference.get());
+        assertEquals(Integer.valueOf(1), engine.assemble(new ModelWithProperties(1, 2, 3), DTOWithOneProperty.class).getField());
+    }
+
+    private static WeakReference<ClassLoader> assembleInDiscardedLoader(AssemblaeEngine engine) throws Exception {
+        ClassLoader loader = new ChildFirstClassLoader(ModelWithProperties.class, DTOWithOneProperty.class,
+                DTOWithTransformerMappedProperty.class);
+        Class<?> modelClass = loader.loadClass(ModelWithProperties.class.getName());
+        Object model = modelClass.getConstructor(Integer.class, Integer.class, Integer.class).newInstance(1, 2, 3);
+
+        for (String dtoClass : new String[]{DTOWithOneProperty.class.getName(), DTOWithTransformerMappedProperty.class.getName()}) {
+            Object dto = engine.assemble(model, loader.loadClass(dtoClass));
+            assertSame(loader, dto.getClass().getClassLoader());
+            engine.disassemble(dto, model);
+        }
+        return new WeakReference<ClassLoader>(loader);
+    }
+
+    /**
+     * Defines its own copy of the given test classes, delegating the others to the test class loader.
+     */
+    private static final class ChildFirstClassLoader extends ClassLoader {
+
+        private final Set<String> names = new HashSet<String>();
+
+        ChildFirstClassLoader(Class<?>... classes) {
+            super(AssemblaeEngineTest.class.getClassLoader());
+            for (Class<?> type : classes)
+                names.add(type.getName());
+        }
+
+        @Override
+        protected synchronized Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!names.contains(name))
+                return super.loadClass(name, resolve);
+
+            Class<?> type = findLoadedClass(name);
+            if (type == null) {
+                try {
+                    byte[] bytecode = ByteStreams.toByteArray(getParent().getResourceAsStream(name.replace('.', '/') + ".class"));
+                    type = defineClass(name, bytecode, 0, bytecode.length);
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+            return type;
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package br.com.machinae.assemblae;
+
+import br.com.machinae.assemblae.tests.CountingTransformer;
+import br.com.machinae.assemblae.tests.DTOWithOneIgnoredProperty;
+import br.com.machinae.assemblae.tests.DTOWithOneNamedMappedProperty;
+import br.com.machinae.assemblae.tests.DTOWithOneProperty;
+import br.com.machinae.assemblae.tests.FieldDTO;
+import br.com.machinae.assemblae.tests.FieldModel;
+import br.com.machinae.assemblae.tests.LazyDTO;
+import br.com.machinae.assemblae.tests.ModelWithProperties;
+import br.com.machinae.assemblae.tests.NodeDTO;
+import br.com.machinae.assemblae.tests.NodeModel;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for Assemblae
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+public class AssemblaeTest {
+
+    @Test(expected = NullPointerException.class)
+    public void disassembleShouldThrowsNullPointerExceptionForNullDTO() {
+        // Act
+        Assemblae.disassemble(null, new ModelWithProperties());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void disassembleShouldThrowsNullPointerExceptionForNullModel() {
+        // Act
+        Assemblae.disassemble(new DTOWithOneProperty(), null);
+    }
+
+    @Test
+    public void disassembleShouldCopyPropertyByName() {
+        // Arrange
+        DTOWithOneProperty dto = new DTOWithOneProperty();
+        dto.setField(10);
+        ModelWithProperties model = new ModelWithProperties(1, 2, 3);
+
+        // Act
+        ModelWithProperties result = Assemblae.disassemble(dto, model);
+
+        // Assert
+        assertSame(model, result);
+        assertEquals(Integer.valueOf(10), model.getField());
+        assertEquals(Integer.valueOf(2), model.getAnotherField());
+    }
+
+    @Test
+    public void disassembleShouldCopyToMappedProperty() {
+        // Arrange
+        DTOWithOneNamedMappedProperty dto = new DTOWithOneNamedMappedProperty();
+        dto.setField(10);
+        ModelWithProperties model = new ModelWithProperties(1, 2, 3);
+
+        // Act
+        Assemblae.disassemble(dto, model);
+
+        // Assert
+        assertEquals(Integer.valueOf(1), model.getField());
+        assertEquals(Integer.valueOf(10), model.getAnotherField());
+    }
+
+    @Test
+    public void disassembleShouldNotCopyIgnoredProperty() {
+        // Arrange
+        DTOWithOneIgnoredProperty dto = new DTOWithOneIgnoredProperty();
+        dto.setField(10);
+        ModelWithProperties model = new ModelWithProperties(1, 2, 3);
+
+        // Act
+        Assemblae.disassemble(dto, model);
+
+        // Assert
+        assertEquals(Integer.valueOf(1), model.getField());
+    }
+
+    @Test
+    public void disassembleAllShouldUpdateEachModelFromDTOAtSamePosition() {
+        // Arrange
+        DTOWithOneProperty dto1 = new DTOWithOneProperty();
+        dto1.setField(10);
+        DTOWithOneProperty dto2 = new DTOWithOneProperty();
+        dto2.setField(20);
+        List<ModelWithProperties> models = Arrays.asList(new ModelWithProperties(1, 2, 3), new ModelWithProperties(4, 5, 6));
+
+        // Act
+        Collection<ModelWithProperties> result = Assemblae.disassembleAll(Arrays.asList(dto1, dto2), models);
+
+        // Assert
+        assertSame(models, result);
+        assertEquals(Integer.valueOf(10), models.get(0).getField());
+        assertEquals(Integer.valueOf(20), models.get(1).getField());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void disassembleAllShouldThrowsIllegalArgumentExceptionForDifferentSizes() {
+        // Act
+        Assemblae.disassembleAll(Arrays.asList(new DTOWithOneProperty()), Collections.<ModelWithProperties>emptyList());
+    }
+
+    @Test
+    public void assembleShouldAssembleNestedDTOs() {
+        // Arrange
+        NodeModel root = new NodeModel("root");
+        root.addChild(new NodeModel("child"));
+
+        // Act
+        NodeDTO dto = Assemblae.assemble(root, NodeDTO.class);
+
+        // Assert
+        assertEquals("root", dto.getName());
+        assertNull(dto.getParent());
+        assertEquals(1, dto.getChildren().size());
+        assertEquals("child", dto.getChildren().get(0).getName());
+    }
+
+    @Test
+    public void assembleShouldResolveCyclesToTheSameDTO() {
+        // Arrange
+        NodeModel root = new NodeModel("root");
+        root.addChild(new NodeModel("child"));
+        root.setOwner(root);
+
+        // Act
+        NodeDTO dto = Assemblae.assemble(root, NodeDTO.class);
+
+        // Assert
+        assertSame(dto, dto.getOwner());
+        assertSame(dto, dto.getChildren().get(0).getParent());
+    }
+
+    @Test
+    public void assembleShouldKeepSharedReferencesShared() {
+        // Arrange
+        NodeModel shared = new NodeModel("shared");
+        NodeModel root = new NodeModel("root");
+        root.addChild(new NodeModel("child1")).setOwner(shared);
+        root.addChild(new NodeModel("child2")).setOwner(shared);
+
+        // Act
+        NodeDTO dto = Assemblae.assemble(root, NodeDTO.class);
+
+        // Assert
+        assertEquals("shared", dto.getChildren().get(0).getOwner().getName());
+        assertSame(dto.getChildren().get(0).getOwner(), dto.getChildren().get(1).getOwner());
+    }
+
+    @Test
+    public void assembleAllShouldShareNestedDTOsAcrossModels() {
+        // Arrange
+        NodeModel shared = new NodeModel("shared");
+        NodeModel model1 = new NodeModel("model1");
+        model1.setOwner(shared);
+        NodeModel model2 = new NodeModel("model2");
+        model2.setOwner(shared);
+
+        // Act
+        List<NodeDTO> dtos = new ArrayList<NodeDTO>(Assemblae.assembleAll(Arrays.<Object>asList(model1, model2), NodeDTO.class));
+
+        // Assert
+        assertSame(dtos.get(0).getOwner(), dtos.get(1).getOwner());
+    }
+
+    @Test
+    public void assembleShouldNotShareDTOsBetweenCalls() {
+        // Arrange
+        NodeModel shared = new NodeModel("shared");
+        NodeModel model = new NodeModel("model");
+        model.setOwner(shared);
+
+        // Act
+        NodeDTO dto1 = Assemblae.assemble(model, NodeDTO.class);
+        NodeDTO dto2 = Assemblae.assemble(model, NodeDTO.class);
+
+        // Assert
+        assertNotSame(dto1.getOwner(), dto2.getOwner());
+    }
+
+    @Test
+    public void disassembleShouldNotCopyNestedDTOs() {
+        // Arrange
+        NodeModel owner = new NodeModel("owner");
+        NodeModel model = new NodeModel("model");
+        model.setOwner(owner);
+        NodeDTO dto = Assemblae.assemble(model, NodeDTO.class);
+        dto.setName("renamed");
+
+        // Act
+        Assemblae.disassemble(dto, model);
+
+        // Assert
+        assertEquals("renamed", model.getName());
+        assertSame(owner, model.getOwner());
+    }
+
+    @Test
+    public void assembleShouldAccessFieldsOfFieldAccessDTO() {
+        // Act
+        FieldDTO dto = Assemblae.assemble(new FieldModel(1, "name", 3, "code"), FieldDTO.class);
+
+        // Assert
+        assertEquals(Integer.valueOf(1), dto.id());
+        assertEquals("name", dto.label());
+        assertEquals(3, dto.count());
+    }
+
+    @Test
+    public void disassembleShouldWriteFieldsOfModel() {
+        // Arrange
+        FieldModel model = new FieldModel(1, "name", 3, "code");
+        FieldDTO dto = Assemblae.assemble(model, FieldDTO.class).label("renamed");
+
+        // Act
+        Assemblae.disassemble(dto, model);
+
+        // Assert
+        assertEquals("renamed", model.name());
+        assertEquals(3, model.count());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setDefaultAccessTypeShouldThrowsIllegalArgumentExceptionForDefault() {
+        // Act
+        Assemblae.setDefaultAccessType(AccessType.DEFAULT);
+    }
+
+    @Test
+    public void assembleWithSelectionShouldCopyOnlySelectedProperties() {
+        // Arrange
+        int calls = CountingTransformer.CALLS.get();
+
+        // Act
+        LazyDTO dto = Assemblae.assemble(new ModelWithProperties(1, 2, 3), LazyDTO.class, FieldSelection.of("field"));
+
+        // Assert
+        assertEquals(Integer.valueOf(1), dto.getField());
+        assertNull(dto.getAnotherField());
+        assertNull(dto.getCounted());
+        assertEquals(calls, CountingTransformer.CALLS.get());
+    }
+
+    @Test
+    public void assembleWithSelectionShouldCopyNestedPaths() {
+        // Arrange
+        NodeModel root = new NodeModel("root");
+        root.setOwner(new NodeModel("owner"));
+        root.addChild(new NodeModel("child")).addChild(new NodeModel("grandchild"));
+
+        // Act
+        NodeDTO dto = Assemblae.assemble(root, NodeDTO.class, FieldSelection.parse("name,children.name,owner"));
+
+        // Assert
+        assertEquals("root", dto.getName());
+        assertEquals("owner", dto.getOwner().getName());
+        assertEquals(1, dto.getChildren().size());
+        assertEquals("child", dto.getChildren().get(0).getName());
+        assertNull(dto.getChildren().get(0).getParent());
+        assertNull(dto.getChildren().get(0).getChildren());
+        assertNull(dto.getParent());
+    }
+
+    @Test
+    public void assembleWithSelectionShouldReuseProjectionOfEqualSelections() {
+        // Act
+        AssemblyPlan plan = Assemblae.planFor(NodeDTO.class, FieldSelection.parse("name,owner.name"));
+
+        // Assert
+        assertSame(plan, Assemblae.planFor(NodeDTO.class, FieldSelection.of("owner.name", "name")));
+        assertEquals(2, plan.size());
+        assertTrue(plan.isProjection());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void assembleWithSelectionShouldThrowsIllegalArgumentExceptionForUnknownProperty() {
+        // Act
+        Assemblae.assemble(new NodeModel("root"), NodeDTO.class, FieldSelection.of("owner.unknown"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void assembleWithSelectionShouldThrowsIllegalArgumentExceptionForPathsOfNotNestedProperty() {
+        // Act
+        Assemblae.assemble(new NodeModel("root"), NodeDTO.class, FieldSelection.of("name.length"));
+    }
+
+    @Test
+    public void assembleIntoShouldOverwriteMappedProperties() {
+        // Arrange
+        DTOWithOneProperty dto = Assemblae.assemble(new ModelWithProperties(1, 2, 3), DTOWithOneProperty.class);
+
+        // Act
+        DTOWithOneProperty refilled = Assemblae.assembleInto(new ModelWithProperties(10, 20, 30), dto);
+
+        // Assert
+        assertSame(dto, refilled);
+        assertEquals(Integer.valueOf(10), dto.getField());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void assembleIntoShouldThrowsIllegalArgumentExceptionForLazyProxy() {
+        // Arrange
+        LazyDTO dto = Assemblae.assemble(new ModelWithProperties(1, 2, 3), LazyDTO.class);
+
+        // Act
+        Assemblae.assembleInto(new ModelWithProperties(10, 20, 30), dto);
+    }
+
+    @Test
+    public void assembleAllShouldRefillDtosAtSamePosition() {
+        // Arrange
+        List<DTOWithOneProperty> dtos = Arrays.asList(new DTOWithOneProperty(), new DTOWithOneProperty(), new DTOWithOneProperty());
+        List<Object> models = Arrays.<Object>asList(new ModelWithProperties(1, 2, 3), new ModelWithProperties(4, 5, 6));
+
+        // Act
+        List<DTOWithOneProperty> refilled = Assemblae.assembleAll(models, dtos);
+
+        // Assert
+        assertSame(dtos, refilled);
+        assertEquals(Integer.valueOf(1), dtos.get(0).getField());
+        assertEquals(Integer.valueOf(4), dtos.get(1).getField());
+        assertNull(dtos.get(2).getField());
+    }
+
+    @Test
+    public void assembleAllShouldRefillDtoArray() {
+        // Arrange
+        DTOWithOneProperty[] dtos = {new DTOWithOneProperty(), new DTOWithOneProperty()};
+        List<Object> models = Arrays.<Object>asList(new ModelWithProperties(1, 2, 3), new ModelWithProperties(4, 5, 6));
+
+        // Act
+        Assemblae.assembleAll(models, dtos);
+
+        // Assert
+        assertEquals(Integer.valueOf(4), dtos[1].getField());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void assembleAllShouldThrowsIllegalArgumentExceptionWhenDtosAreFewerThanModels() {
+        // Arrange
+        List<Object> models = Arrays.<Object>asList(new ModelWithProperties(1, 2, 3), new ModelWithProperties(4, 5, 6));
+
+        // Act
+        Assemblae.assembleAll(models, Arrays.asList(new DTOWithOneProperty()));
+    }
+}
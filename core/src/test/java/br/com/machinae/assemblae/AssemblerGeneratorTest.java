@@ -0,0 +1,239 @@
+package br.com.machinae.assemblae;
+
+import br.com.machinae.assemblae.tests.DTOWithFailingTransformer;
+import br.com.machinae.assemblae.tests.DTOWithNullTransformedPrimitive;
+import br.com.machinae.assemblae.tests.DTOWithOneMappedAndOneNotAnnotatedProperty;
+import br.com.machinae.assemblae.tests.DTOWithOneNamedMappedProperty;
+import br.com.machinae.assemblae.tests.DTOWithOneProperty;
+import br.com.machinae.assemblae.tests.DTOWithTransformerMappedProperty;
+import br.com.machinae.assemblae.tests.FailingModel;
+import br.com.machinae.assemblae.tests.ModelWithProperties;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for AssemblerGenerator and the generated CompiledAssembler.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+public class AssemblerGeneratorTest {
+
+    private final AssemblerImpl<Object> ae = new AssemblerImpl<Object>();
+
+    @Test
+    public void generateShouldCopyPropertiesByName() {
+        // Arrange
+        AssemblyPlan plan = ae.loadPlan(DTOWithOneMappedAndOneNotAnnotatedProperty.class);
+        ModelWithProperties model = new ModelWithProperties(1, 2, 3);
+
+        // Act
+        @SuppressWarnings("unchecked")
+        CompiledAssembler<ModelWithProperties, DTOWithOneMappedAndOneNotAnnotatedProperty> assembler =
+                (CompiledAssembler<ModelWithProperties, DTOWithOneMappedAndOneNotAnnotatedProperty>) AssemblerGenerator.generate(ModelWithProperties.class, plan);
+        DTOWithOneMappedAndOneNotAnnotatedProperty dto = assembler.assemble(model, DTOWithOneMappedAndOneNotAnnotatedProperty.class);
+
+        // Assert
+        assertEquals(Integer.valueOf(1), dto.getField());
+        assertEquals(Integer.valueOf(3), dto.getMapped());
+    }
+
+    @Test
+    public void generateShouldCopyMappedPropertyName() {
+        // Arrange
+        AssemblyPlan plan = ae.loadPlan(DTOWithOneNamedMappedProperty.class);
+        ModelWithProperties model = new ModelWithProperties(1, 2, 3);
+
+        // Act
+        @SuppressWarnings("unchecked")
+        CompiledAssembler<ModelWithProperties, DTOWithOneNamedMappedProperty> assembler =
+                (CompiledAssembler<ModelWithProperties, DTOWithOneNamedMappedProperty>) AssemblerGenerator.generate(ModelWithProperties.class, plan);
+        DTOWithOneNamedMappedProperty dto = assembler.assemble(model, DTOWithOneNamedMappedProperty.class);
+
+        // Assert
+        assertEquals(Integer.valueOf(2), dto.getField());
+    }
+
+    @Test
+    public void generateShouldApplyTransformer() {
+        // Arrange
+        AssemblyPlan plan = ae.loadPlan(DTOWithTransformerMappedProperty.class);
+        ModelWithProperties model = new ModelWithProperties(1, 2, 3);
+
+        // Act
+        @SuppressWarnings("unchecked")
+        CompiledAssembler<ModelWithProperties, DTOWithTransformerMappedProperty> assembler =
+                (CompiledAssembler<ModelWithProperties, DTOWithTransformerMappedProperty>) AssemblerGenerator.generate(ModelWithProperties.class, plan);
+        DTOWithTransformerMappedProperty dto = assembler.assemble(model, DTOWithTransformerMappedProperty.class);
+
+        // Assert
+        assertNull("DummyTransformer always transform to null", dto.getField());
+    }
+
+    @Test
+    public void generateShouldCompileReverseCopy() throws Exception {
+        // Arrange
+        AssemblyPlan plan = ae.loadPlan(DTOWithOneNamedMappedProperty.class);
+        ModelWithProperties model = new ModelWithProperties(1, 2, 3);
+        DTOWithOneNamedMappedProperty dto = new DTOWithOneNamedMappedProperty();
+        dto.setField(5);
+
+        // Act
+        @SuppressWarnings("unchecked")
+        CompiledAssembler<ModelWithProperties, DTOWithOneNamedMappedProperty> assembler =
+                (CompiledAssembler<ModelWithProperties, DTOWithOneNamedMappedProperty>) AssemblerGenerator.generate(ModelWithProperties.class, plan);
+        assembler.disassemble(dto, model);
+
+        // Assert
+        assertNotNull(assembler.getClass().getDeclaredMethod("copyBack", Object.class, Object.class));
+        assertEquals(Integer.valueOf(5), model.getAnotherField());
+        assertEquals(Integer.valueOf(1), model.getField());
+    }
+
+    @Test
+    public void generateShouldReturnNullForNotPublicModel() {
+        // Arrange
+        AssemblyPlan plan = ae.loadPlan(DTOWithOneProperty.class);
+        Object model = new Object() {
+            public Integer getField() {
+                return 1;
+            }
+        };
+
+        // Act
+        CompiledAssembler<?, ?> assembler = AssemblerGenerator.generate(model.getClass(), plan);
+
+        // Assert
+        assertNull(assembler);
+    }
+
+    @Test
+    public void generateShouldReturnNullForMissingModelProperty() {
+        // Arrange
+        AssemblyPlan plan = ae.loadPlan(DTOWithOneProperty.class);
+
+        // Act
+        CompiledAssembler<?, ?> assembler = AssemblerGenerator.generate(Object.class, plan);
+
+        // Assert
+        assertNull(assembler);
+    }
+
+    @Test
+    public void assemblerForShouldFallbackToAssemblerImplWhenGenerationIsImpossible() {
+        // Act
+        Assembler<DTOWithOneProperty> assembler = Assemblae.assemblerFor(Object.class, DTOWithOneProperty.class);
+
+        // Assert
+        assertTrue(assembler instanceof AssemblerImpl);
+    }
+
+    @Test
+    public void assemblerForShouldCacheCompiledAssemblerPerModelClass() {
+        // Act
+        Assembler<DTOWithOneProperty> assembler1 = Assemblae.assemblerFor(ModelWithProperties.class, DTOWithOneProperty.class);
+        Assembler<DTOWithOneProperty> assembler2 = Assemblae.assemblerFor(ModelWithProperties.class, DTOWithOneProperty.class);
+
+        // Assert
+        assertTrue(assembler1 instanceof CompiledAssembler);
+        assertSame(assembler1, assembler2);
+    }
+
+    @Test
+    public void compiledAssemblerShouldDelegateOtherModelClasses() {
+        // Arrange
+        Assembler<DTOWithOneProperty> assembler = Assemblae.assemblerFor(ModelWithProperties.class, DTOWithOneProperty.class);
+        Collection<Object> models = Arrays.<Object>asList(new ModelWithProperties(1, 2, 3), new DTOWithOneProperty());
+
+        // Act
+        Collection<DTOWithOneProperty> dtos = assembler.assembleAll(models, DTOWithOneProperty.class);
+
+        // Assert
+        assertEquals(2, dtos.size());
+        assertEquals(Integer.valueOf(1), dtos.iterator().next().getField());
+    }
+
+    @Test
+    public void compiledAssemblerShouldDelegateOtherModelClassesToItsEngine() {
+        // Arrange
+        MetricsListener metrics = new MetricsListener();
+        AssemblaeEngine engine = AssemblaeEngine.builder().withListener(metrics).build();
+        Assembler<DTOWithOneProperty> assembler = engine.assemblerFor(ModelWithProperties.class, DTOWithOneProperty.class);
+
+        // Act
+        DTOWithOneProperty dto = assembler.assemble(new DTOWithOneProperty(), DTOWithOneProperty.class);
+
+        // Assert
+        assertTrue(assembler instanceof CompiledAssembler);
+        assertNotNull(dto);
+        assertEquals(1, metrics.getAssembleLatency(DTOWithOneProperty.class).getCount());
+    }
+
+    @Test
+    public void compiledAndReflectiveAssemblersShouldWrapGetterFailures() {
+        // Arrange
+        Object[] models = {new FailingModel(), new NotPublicFailingModel()};
+
+        // Assert
+        assertTrue(Assemblae.assemblerFor(FailingModel.class, DTOWithOneProperty.class) instanceof CompiledAssembler);
+        assertTrue(Assemblae.assemblerFor(NotPublicFailingModel.class, DTOWithOneProperty.class) instanceof AssemblerImpl);
+        for (Object model : models) {
+            try {
+                // Act
+                Assemblae.assemble(model, DTOWithOneProperty.class);
+                fail();
+            } catch (AssemblerException e) {
+                assertTrue(e.getCause() instanceof IllegalStateException || e.getCause().getCause() instanceof IllegalStateException);
+            }
+        }
+    }
+
+    @Test
+    public void compiledAndReflectiveAssemblersShouldRejectMismatchedValues() {
+        // Arrange
+        Object[] models = {new ModelWithProperties(1, 2, 3), new NotPublicModel()};
+
+        // Assert
+        assertTrue(Assemblae.assemblerFor(ModelWithProperties.class, DTOWithNullTransformedPrimitive.class) instanceof CompiledAssembler);
+        assertTrue(Assemblae.assemblerFor(NotPublicModel.class, DTOWithNullTransformedPrimitive.class) instanceof AssemblerImpl);
+        for (Object model : models) {
+            try {
+                // Act
+                Assemblae.assemble(model, DTOWithNullTransformedPrimitive.class);
+                fail();
+            } catch (IllegalArgumentException e) {
+                assertEquals("Argument type mismatch setting property 'field' in class '" + DTOWithNullTransformedPrimitive.class.getName() + "'",
+                        e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void compiledAndReflectiveAssemblersShouldNotWrapTransformerFailures() {
+        // Arrange
+        Object[] models = {new ModelWithProperties(1, 2, 3), new NotPublicModel()};
+
+        // Assert
+        assertTrue(Assemblae.assemblerFor(ModelWithProperties.class, DTOWithFailingTransformer.class) instanceof CompiledAssembler);
+        assertTrue(Assemblae.assemblerFor(NotPublicModel.class, DTOWithFailingTransformer.class) instanceof AssemblerImpl);
+        for (Object model : models) {
+            try {
+                // Act
+                Assemblae.assemble(model, DTOWithFailingTransformer.class);
+                fail();
+            } catch (UnsupportedOperationException e) {
+                assertEquals("Transformation failure", e.getMessage());
+            }
+        }
+    }
+
+    static class NotPublicFailingModel extends FailingModel {
+    }
+
+    static class NotPublicModel extends ModelWithProperties {
+    }
+}
@@ -593,14 +593,14 @@ public class AssemblerImplTest {
 
         AssemblerImpl<DTOWithOneProperty> ae = new AssemblerImpl<DTOWithOneProperty>();
         ae = spy(ae);
-        doReturn(new ArrayList()).when(ae).loadPropertyTransferParams(dtoClass);
+        doReturn(new AssemblyPlan(dtoClass, new ArrayList<TransferParams>())).when(ae).loadPlan(dtoClass);
 
         // Act
         DTOWithOneProperty dto = ae.assemble(model, DTOWithOneProperty.class);
 
         // Assert
         assertNotNull(dto);
-        verify(ae, times(1)).loadPropertyTransferParams(dtoClass);
+        verify(ae, times(1)).loadPlan(dtoClass);
         verify(ae, never()).copyPropertyFromModelToDTO(eq(model), any(), (TransferParams) any());
     }
 
@@ -617,7 +617,7 @@ public class AssemblerImplTest {
 
         AssemblerImpl<DTOWithOneProperty> ae = new AssemblerImpl<DTOWithOneProperty>();
         ae = spy(ae);
-        doReturn(Arrays.asList(params)).when(ae).loadPropertyTransferParams(dtoClass);
+        doReturn(new AssemblyPlan(dtoClass, Arrays.asList(params))).when(ae).loadPlan(dtoClass);
         doNothing().when(ae).copyPropertyFromModelToDTO(eq(model), any(), eq(params));
 
         // Act
@@ -625,7 +625,7 @@ public class AssemblerImplTest {
 
         // Assert
         assertNotNull(dto);
-        verify(ae, times(1)).loadPropertyTransferParams(dtoClass);
+        verify(ae, times(1)).loadPlan(dtoClass);
         verify(ae, times(1)).copyPropertyFromModelToDTO(eq(model), any(), eq(params));
     }
 
@@ -645,7 +645,7 @@ public class AssemblerImplTest {
 
         AssemblerImpl<DTOWithOneProperty> ae = new AssemblerImpl<DTOWithOneProperty>();
         ae = spy(ae);
-        doReturn(Arrays.asList(params1, params2)).when(ae).loadPropertyTransferParams(dtoClass);
+        doReturn(new AssemblyPlan(dtoClass, Arrays.asList(params1, params2))).when(ae).loadPlan(dtoClass);
         doNothing().when(ae).copyPropertyFromModelToDTO(eq(model), any(), eq(params1));
         doNothing().when(ae).copyPropertyFromModelToDTO(eq(model), any(), eq(params2));
 
@@ -654,7 +654,7 @@ public class AssemblerImplTest {
 
         // Assert
         assertNotNull(dto);
-        verify(ae, times(1)).loadPropertyTransferParams(dtoClass);
+        verify(ae, times(1)).loadPlan(dtoClass);
         verify(ae, times(1)).copyPropertyFromModelToDTO(eq(model), any(), eq(params1));
         verify(ae, times(1)).copyPropertyFromModelToDTO(eq(model), any(), eq(params2));
     }
@@ -670,14 +670,14 @@ public class AssemblerImplTest {
 
         AssemblerImpl<DTOWithOneProperty> ae = new AssemblerImpl<DTOWithOneProperty>();
         ae = spy(ae);
-        doReturn(new ArrayList()).when(ae).loadPropertyTransferParams(dtoClass);
+        doReturn(new AssemblyPlan(dtoClass, new ArrayList<TransferParams>())).when(ae).loadPlan(dtoClass);
 
         // Act
         DTOWithOneProperty dto = ae.assemble(model, DTOWithOneProperty.class);
 
         // Assert
         assertNotNull(dto);
-        verify(ae, times(1)).loadPropertyTransferParams(dtoClass);
+        verify(ae, times(1)).loadPlan(dtoClass);
         verify(ae, never()).copyPropertyFromModelToDTO(eq(model), any(), (TransferParams) any());
     }
 
@@ -714,4 +714,43 @@ public class AssemblerImplTest {
         verify(ae, times(1)).assemble(model2, DTOWithOneProperty.class);
     }
 
+    @Test
+    public void loadPlanShouldReturnTheSamePlanForTheSameDTOClass() {
+        // Arrange
+        AssemblerImpl<DTOWithOneProperty> ae1 = new AssemblerImpl<DTOWithOneProperty>();
+        AssemblerImpl<DTOWithOneProperty> ae2 = new AssemblerImpl<DTOWithOneProperty>();
+
+        // Act
+        AssemblyPlan plan1 = ae1.loadPlan(DTOWithOneProperty.class);
+        AssemblyPlan plan2 = ae2.loadPlan(DTOWithOneProperty.class);
+
+        // Assert
+        assertSame(plan1, plan2);
+        assertEquals(1, plan1.size());
+    }
+
+    @Test
+    public void loadPlanShouldKeepFieldDeclarationOrder() {
+        // Arrange
+        AssemblerImpl<DTOWithOneMappedAndOneNotAnnotatedProperty> ae = new AssemblerImpl<DTOWithOneMappedAndOneNotAnnotatedProperty>();
+        Field[] fields = DTOWithOneMappedAndOneNotAnnotatedProperty.class.getDeclaredFields();
+
+        // Act
+        AssemblyPlan plan = ae.loadPlan(DTOWithOneMappedAndOneNotAnnotatedProperty.class);
+
+        // Assert
+        assertEquals(fields.length, plan.size());
+        for (int i = 0; i < fields.length; i++)
+            assertEquals(fields[i].getName(), plan.get(i).getDtoProperty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void loadPlanShouldThrowsIllegalArgumentExceptionForANotDTOClass() {
+        // Arrange
+        AssemblerImpl ae = new AssemblerImpl();
+
+        // Act
+        ae.loadPlan(Object.class);
+    }
+
 }
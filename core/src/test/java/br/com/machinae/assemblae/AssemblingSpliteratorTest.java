@@ -0,0 +1,116 @@
+package br.com.machinae.assemblae;
+
+import br.com.machinae.assemblae.tests.DTOWithOneProperty;
+import br.com.machinae.assemblae.tests.ModelWithProperties;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for AssemblingSpliterator and the Assemblae streaming API
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+public class AssemblingSpliteratorTest {
+
+    @Test
+    public void characteristicsShouldKeepSourceSize() {
+        // Arrange
+        Spliterator<Object> source = models(10).spliterator();
+
+        // Act
+        AssemblingSpliterator<DTOWithOneProperty> spliterator = new AssemblingSpliterator<DTOWithOneProperty>(source, DTOWithOneProperty.class);
+
+        // Assert
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.NONNULL));
+        assertEquals(10, spliterator.getExactSizeIfKnown());
+    }
+
+    @Test
+    public void trySplitShouldSplitSource() {
+        // Arrange
+        AssemblingSpliterator<DTOWithOneProperty> spliterator = new AssemblingSpliterator<DTOWithOneProperty>(models(10).spliterator(), DTOWithOneProperty.class);
+
+        // Act
+        Spliterator<DTOWithOneProperty> prefix = spliterator.trySplit();
+
+        // Assert
+        assertNotNull(prefix);
+        assertEquals(10, prefix.getExactSizeIfKnown() + spliterator.getExactSizeIfKnown());
+    }
+
+    @Test
+    public void streamShouldAssembleLazily() {
+        // Arrange
+        final AtomicInteger read = new AtomicInteger();
+        Iterable<Object> models = new Iterable<Object>() {
+            @Override
+            public Iterator<Object> iterator() {
+                final Iterator<Object> iterator = models(10).iterator();
+                return new Iterator<Object>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Object next() {
+                        read.incrementAndGet();
+                        return iterator.next();
+                    }
+                };
+            }
+        };
+
+        // Act
+        DTOWithOneProperty first = Assemblae.stream(models, DTOWithOneProperty.class).findFirst().get();
+
+        // Assert
+        assertEquals(Integer.valueOf(0), first.getField());
+        assertEquals(1, read.get());
+    }
+
+    @Test
+    public void streamShouldAssembleParallelStreamsInOrder() {
+        // Arrange
+        Stream<Object> models = models(1000).parallelStream();
+
+        // Act
+        List<Integer> fields = Assemblae.stream(models, DTOWithOneProperty.class)
+                .map(DTOWithOneProperty::getField).collect(Collectors.toList());
+
+        // Assert
+        for (int i = 0; i < fields.size(); i++)
+            assertEquals(Integer.valueOf(i), fields.get(i));
+        assertEquals(1000, fields.size());
+    }
+
+    @Test
+    public void assemblingShouldCollectAssembledDTOs() {
+        // Act
+        List<DTOWithOneProperty> dtos = models(10).stream().collect(Assemblae.assembling(DTOWithOneProperty.class));
+
+        // Assert
+        assertEquals(10, dtos.size());
+        assertEquals(Integer.valueOf(9), dtos.get(9).getField());
+    }
+
+    private static List<Object> models(int size) {
+        List<Object> models = new ArrayList<Object>(size);
+        for (int i = 0; i < size; i++)
+            models.add(new ModelWithProperties(i, null, null));
+        return models;
+    }
+}
@@ -0,0 +1,164 @@
+package br.com.machinae.assemblae;
+
+import br.com.machinae.assemblae.tests.AsyncDTO;
+import br.com.machinae.assemblae.tests.DTOWithOneProperty;
+import br.com.machinae.assemblae.tests.DelayedTransformer;
+import br.com.machinae.assemblae.tests.ImmutableAsyncDTO;
+import br.com.machinae.assemblae.tests.LazyAsyncDTO;
+import br.com.machinae.assemblae.tests.ModelWithProperties;
+import br.com.machinae.assemblae.tests.TrackedAsyncDTO;
+import com.google.common.util.concurrent.MoreExecutors;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for AsyncAssembly
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+public class AsyncAssemblyTest {
+
+    @After
+    public void tearDown() {
+        DelayedTransformer.BARRIER.set(null);
+    }
+
+    private static List<Object> models(int count) {
+        List<Object> models = new ArrayList<Object>();
+        for (int i = 0; i < count; i++)
+            models.add(new ModelWithProperties(i, i + 1, i + 2));
+        return models;
+    }
+
+    @Test
+    public void assembleAsyncShouldTransformAsyncPropertiesConcurrently() throws Exception {
+        // Arrange
+        DelayedTransformer.MAX_ACTIVE.set(0);
+        // both transformations must be waiting at once to trip the barrier
+        DelayedTransformer.BARRIER.set(new CyclicBarrier(2));
+
+        // Act
+        AsyncDTO dto = Assemblae.assembleAsync(new ModelWithProperties(1, 2, 3), AsyncDTO.class).get();
+
+        // Assert
+        assertEquals(Integer.valueOf(10), dto.getFirst());
+        assertEquals(Integer.valueOf(20), dto.getSecond());
+        assertEquals(Integer.valueOf(3), dto.getMapped());
+        assertEquals(2, DelayedTransformer.MAX_ACTIVE.get());
+    }
+
+    @Test
+    public void assembleAsyncShouldAssembleDtoWithoutAsyncProperties() throws Exception {
+        // Act
+        DTOWithOneProperty dto = Assemblae.assembleAsync(new ModelWithProperties(1, 2, 3), DTOWithOneProperty.class).get();
+
+        // Assert
+        assertEquals(Integer.valueOf(1), dto.getField());
+    }
+
+    @Test
+    public void assembleAsyncShouldCompleteExceptionallyWhenTransformerFails() throws Exception {
+        try {
+            // Act
+            Assemblae.assembleAsync(new ModelWithProperties(-1, 2, 3), AsyncDTO.class).get();
+            fail();
+        } catch (ExecutionException e) {
+            // Assert
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+        }
+    }
+
+    @Test
+    public void assembleAllAsyncShouldKeepModelsOrder() throws Exception {
+        // Act
+        Collection<AsyncDTO> dtos = Assemblae.assembleAllAsync(models(20), AsyncDTO.class, 4).get();
+
+        // Assert
+        assertEquals(20, dtos.size());
+        Iterator<AsyncDTO> iterator = dtos.iterator();
+        for (int i = 0; i < 20; i++)
+            assertEquals(Integer.valueOf(i * 10), iterator.next().getFirst());
+    }
+
+    @Test
+    public void assembleAllAsyncShouldLimitModelsInFlight() throws Exception {
+        // Arrange
+        DelayedTransformer.MAX_ACTIVE.set(0);
+        DelayedTransformer.BARRIER.set(new CyclicBarrier(2));
+
+        // Act
+        Assemblae.assembleAllAsync(models(10), AsyncDTO.class, 1).get();
+
+        // Assert
+        assertEquals(2, DelayedTransformer.MAX_ACTIVE.get());
+    }
+
+    @Test
+    public void assembleAllAsyncShouldNotRecurseOnDirectExecutor() throws Exception {
+        // Arrange
+        AssemblaeEngine engine = AssemblaeEngine.builder().withExecutor(MoreExecutors.sameThreadExecutor()).build();
+
+        // Act
+        Collection<DTOWithOneProperty> dtos = engine.assembleAllAsync(models(100000), DTOWithOneProperty.class, 4).get();
+
+        // Assert
+        assertEquals(100000, dtos.size());
+    }
+
+    @Test
+    public void assembleAsyncShouldTrackChangesOfTrackedDtos() throws Exception {
+        // Act
+        TrackedAsyncDTO dto = Assemblae.assembleAsync(new ModelWithProperties(1, 2, 3), TrackedAsyncDTO.class).get();
+
+        // Assert
+        assertEquals(Integer.valueOf(10), dto.getFirst());
+        assertTrue(Assemblae.getChangedProperties(dto).isEmpty());
+    }
+
+    @Test
+    public void assembleAsyncShouldAssembleLazyDtosAsProxies() throws Exception {
+        // Act
+        LazyAsyncDTO dto = Assemblae.assembleAsync(new ModelWithProperties(1, 2, 3), LazyAsyncDTO.class).get();
+
+        // Assert
+        assertTrue(LazyProxyGenerator.isProxy(dto.getClass()));
+        assertEquals(Integer.valueOf(10), dto.getFirst());
+        assertEquals(Integer.valueOf(3), dto.getMapped());
+    }
+
+    @Test
+    public void assembleAsyncShouldConstructImmutableDtos() throws Exception {
+        // Act
+        ImmutableAsyncDTO dto = Assemblae.assembleAsync(new ModelWithProperties(1, 2, 3), ImmutableAsyncDTO.class).get();
+
+        // Assert
+        assertEquals(Integer.valueOf(10), dto.getFirst());
+        assertEquals(Integer.valueOf(3), dto.getMapped());
+    }
+
+    @Test
+    public void assembleAllAsyncShouldCompleteEmptyCollection() throws Exception {
+        // Act
+        Collection<AsyncDTO> dtos = Assemblae.assembleAllAsync(Collections.emptyList(), AsyncDTO.class, 1).get();
+
+        // Assert
+        assertTrue(dtos.isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void assembleAllAsyncShouldThrowsIllegalArgumentExceptionWhenConcurrencyIsNotPositive() {
+        // Act
+        Assemblae.assembleAllAsync(models(1), AsyncDTO.class, 0);
+    }
+}
@@ -0,0 +1,174 @@
+package br.com.machinae.assemblae;
+
+import br.com.machinae.assemblae.tests.BatchDTO;
+import br.com.machinae.assemblae.tests.LazyBatchDTO;
+import br.com.machinae.assemblae.tests.LookupTransformer;
+import br.com.machinae.assemblae.tests.ModelWithProperties;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for BatchContext
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+public class BatchContextTest {
+
+    private static final Collection<Object> MODELS = Arrays.<Object>asList(new ModelWithProperties(10, 0, 1),
+            new ModelWithProperties(20, 0, 2), new ModelWithProperties(30, 0, 1), new ModelWithProperties(40, 0, 9));
+
+    @Test
+    public void assembleAllShouldTransformBatchPropertiesInOneCall() {
+        // Arrange
+        int lookups = LookupTransformer.LOOKUPS.get();
+
+        // Act
+        Collection<BatchDTO> dtos = Assemblae.assembleAll(MODELS, BatchDTO.class);
+
+        // Assert
+        assertEquals(lookups + 1, LookupTransformer.LOOKUPS.get());
+        Iterator<BatchDTO> iterator = dtos.iterator();
+        assertEquals("one", iterator.next().getName());
+        assertEquals("two", iterator.next().getName());
+        assertEquals("one", iterator.next().getName());
+        BatchDTO last = iterator.next();
+        assertNull(last.getName());
+        assertEquals(Integer.valueOf(40), last.getField());
+    }
+
+    @Test
+    public void assembleAllShouldTransformNullValuesOnce() {
+        // Arrange
+        Collection<Object> models = Arrays.<Object>asList(new ModelWithProperties(10, 0, null),
+                new ModelWithProperties(20, 0, null), new ModelWithProperties(30, 0, 1));
+        int lookups = LookupTransformer.LOOKUPS.get();
+
+        // Act
+        Collection<BatchDTO> dtos = Assemblae.assembleAll(models, BatchDTO.class);
+
+        // Assert
+        assertEquals(lookups + 2, LookupTransformer.LOOKUPS.get());
+        assertNull(dtos.iterator().next().getName());
+    }
+
+    @Test
+    public void assembleAllShouldReportNullValueTransformsToListener() {
+        // Arrange
+        MetricsListener metrics = new MetricsListener();
+        AssemblaeEngine engine = AssemblaeEngine.builder().withListener(metrics).build();
+        Collection<Object> models = Arrays.<Object>asList(new ModelWithProperties(10, 0, null), new ModelWithProperties(20, 0, 1));
+
+        // Act
+        engine.assembleAll(models, BatchDTO.class);
+
+        // Assert
+        assertEquals(2, metrics.getTransformLatency(BatchDTO.class, "name").getCount());
+    }
+
+    @Test
+    public void assembleAllShouldTransformSelectedBatchPropertiesInOneCall() {
+        // Arrange
+        int lookups = LookupTransformer.LOOKUPS.get();
+
+        // Act
+        Collection<BatchDTO> dtos = Assemblae.assembleAll(MODELS, BatchDTO.class, FieldSelection.of("name"));
+
+        // Assert
+        assertEquals(lookups + 1, LookupTransformer.LOOKUPS.get());
+        assertEquals("two", dtos.toArray(new BatchDTO[0])[1].getName());
+    }
+
+    @Test
+    public void parallelAssembleAllShouldTransformBatchPropertiesInOneCall() {
+        // Arrange
+        Parallelism parallelism = Parallelism.defaults().withExecutor(new ForkJoinPool(2)).withChunkSize(1).withThreshold(0);
+        int lookups = LookupTransformer.LOOKUPS.get();
+
+        // Act
+        Collection<BatchDTO> dtos = Assemblae.assembleAll(MODELS, BatchDTO.class, parallelism);
+
+        // Assert
+        assertEquals(lookups + 1, LookupTransformer.LOOKUPS.get());
+        BatchDTO[] array = dtos.toArray(new BatchDTO[0]);
+        assertEquals("one", array[0].getName());
+        assertEquals("two", array[1].getName());
+        assertNull(array[3].getName());
+    }
+
+    @Test
+    public void parallelAssembleAllShouldBindBatchResultsToExecutorThreads() {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Parallelism parallelism = Parallelism.defaults().withExecutor(executor).withChunkSize(1).withThreshold(0);
+        int lookups = LookupTransformer.LOOKUPS.get();
+
+        // Act
+        Collection<BatchDTO> dtos;
+        try {
+            dtos = Assemblae.assembleAll(MODELS, BatchDTO.class, parallelism);
+        } finally {
+            executor.shutdown();
+        }
+
+        // Assert
+        assertEquals(lookups + 1, LookupTransformer.LOOKUPS.get());
+        assertEquals("one", dtos.toArray(new BatchDTO[0])[2].getName());
+        assertNull(BatchContext.current());
+    }
+
+    @Test
+    public void lazyGettersShouldUseTheBatchResultsOfTheirCollection() {
+        // Arrange
+        int lookups = LookupTransformer.LOOKUPS.get();
+
+        // Act
+        Collection<LazyBatchDTO> dtos = Assemblae.assembleAll(MODELS, LazyBatchDTO.class);
+        Iterator<LazyBatchDTO> iterator = dtos.iterator();
+        String first = iterator.next().getName();
+        String second = iterator.next().getName();
+        iterator.next().getName();
+        String last = iterator.next().getName();
+
+        // Assert
+        assertEquals(lookups + 1, LookupTransformer.LOOKUPS.get());
+        assertEquals("one", first);
+        assertEquals("two", second);
+        assertNull(last);
+    }
+
+    @Test
+    public void assembleShouldTransformSingleValues() {
+        // Arrange
+        int lookups = LookupTransformer.LOOKUPS.get();
+
+        // Act
+        BatchDTO dto = Assemblae.assemble(new ModelWithProperties(1, 0, 3), BatchDTO.class);
+
+        // Assert
+        assertEquals("three", dto.getName());
+        assertEquals(lookups + 1, LookupTransformer.LOOKUPS.get());
+    }
+
+    @Test
+    public void resultsShouldBeNullOutsideAssembleAll() {
+        // Arrange
+        AssemblyPlan plan = Assemblae.getDefaultEngine().loadPlan(BatchDTO.class);
+
+        // Act
+        BatchContext context = BatchContext.enter(plan, MODELS);
+        context.exit();
+
+        // Assert
+        for (int i = 0; i < plan.size(); i++)
+            assertNull(BatchContext.results(plan.get(i)));
+    }
+}
@@ -0,0 +1,166 @@
+package br.com.machinae.assemblae;
+
+import br.com.machinae.assemblae.tests.CachedBatchDTO;
+import br.com.machinae.assemblae.tests.CachedDTO;
+import br.com.machinae.assemblae.tests.CountingTransformer;
+import br.com.machinae.assemblae.tests.DTOWithOneProperty;
+import br.com.machinae.assemblae.tests.LookupTransformer;
+import br.com.machinae.assemblae.tests.ModelWithProperties;
+import br.com.machinae.assemblae.tests.invalid.DTOWithCachedAsyncTransformer;
+import com.google.common.cache.CacheStats;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for CachingTransformer
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+public class CachingTransformerTest {
+
+    @SuppressWarnings("unchecked")
+    private static Transformer<Object, Object> counting() {
+        return (Transformer) new CountingTransformer();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorShouldThrowsIllegalArgumentExceptionWhenSizeIsNotPositive() {
+        // Act
+        new CachingTransformer(counting(), 0, 0);
+    }
+
+    @Test
+    public void transformShouldCallTransformerOncePerValue() {
+        // Arrange
+        CachingTransformer transformer = new CachingTransformer(counting(), 16, 0);
+        int calls = CountingTransformer.CALLS.get();
+
+        // Act
+        Object first = transformer.transform(1);
+        Object second = transformer.transform(1);
+
+        // Assert
+        assertEquals(2, first);
+        assertEquals(2, second);
+        assertEquals(calls + 1, CountingTransformer.CALLS.get());
+        assertEquals(1, transformer.stats().hitCount());
+    }
+
+    @Test
+    public void reverseShouldBeCachedApartFromTransform() {
+        // Arrange
+        CachingTransformer transformer = new CachingTransformer(counting(), 16, 0);
+        transformer.transform(1);
+
+        // Act
+        Object reversed = transformer.reverse(1);
+
+        // Assert
+        assertEquals(0, reversed);
+        assertEquals(2, transformer.stats().missCount());
+    }
+
+    @Test
+    public void transformShouldNotCacheNull() {
+        // Arrange
+        CachingTransformer transformer = new CachingTransformer(counting(), 16, 0);
+        int calls = CountingTransformer.CALLS.get();
+
+        // Act
+        transformer.transform(null);
+        transformer.transform(null);
+
+        // Assert
+        assertEquals(calls + 2, CountingTransformer.CALLS.get());
+        assertEquals(0, transformer.stats().requestCount());
+    }
+
+    @Test
+    public void transformShouldEvictBeyondMaximumSize() {
+        // Arrange
+        CachingTransformer transformer = new CachingTransformer(counting(), 1, 0);
+
+        // Act
+        transformer.transform(1);
+        transformer.transform(2);
+
+        // Assert
+        assertEquals(1, transformer.stats().evictionCount());
+    }
+
+    @Test
+    public void assembleAllShouldTransformRepeatedValuesOnce() {
+        // Arrange
+        Collection<Object> models = Arrays.<Object>asList(new ModelWithProperties(1, 2, 7),
+                new ModelWithProperties(3, 4, 7), new ModelWithProperties(5, 6, 7));
+        AssemblaeEngine engine = AssemblaeEngine.builder().build();
+        int calls = CountingTransformer.CALLS.get();
+
+        // Act
+        Collection<CachedDTO> dtos = engine.assembleAll(models, CachedDTO.class);
+
+        // Assert
+        for (CachedDTO dto : dtos)
+            assertEquals(Integer.valueOf(8), dto.getCounted());
+        assertEquals(calls + 1, CountingTransformer.CALLS.get());
+        CacheStats stats = engine.getTransformerCacheStats(CachedDTO.class, "counted");
+        assertEquals(2, stats.hitCount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void transformAllShouldBatchOnlyValuesMissingFromCache() {
+        // Arrange
+        CachingTransformer transformer = CachingTransformer.of((Transformer) new LookupTransformer(), 16, 0);
+        BatchTransformer<Object, Object> batch = (BatchTransformer<Object, Object>) transformer;
+        transformer.transform(1);
+        int lookups = LookupTransformer.LOOKUPS.get();
+
+        // Act
+        Map<Object, Object> names = batch.transformAll(Arrays.<Object>asList(1, 2, 9));
+
+        // Assert
+        assertEquals("one", names.get(1));
+        assertEquals("two", names.get(2));
+        assertNull(names.get(9));
+        assertEquals(lookups + 1, LookupTransformer.LOOKUPS.get());
+        assertEquals(names, batch.transformAll(Arrays.<Object>asList(1, 2, 9)));
+        assertEquals(lookups + 1, LookupTransformer.LOOKUPS.get());
+    }
+
+    @Test
+    public void assembleAllShouldBatchCachedBatchTransformers() {
+        // Arrange
+        Collection<Object> models = Arrays.<Object>asList(new ModelWithProperties(1, 2, 1),
+                new ModelWithProperties(3, 4, 2), new ModelWithProperties(5, 6, 1));
+        AssemblaeEngine engine = AssemblaeEngine.builder().build();
+        int lookups = LookupTransformer.LOOKUPS.get();
+
+        // Act
+        engine.assembleAll(models, CachedBatchDTO.class);
+        Collection<CachedBatchDTO> dtos = engine.assembleAll(models, CachedBatchDTO.class);
+
+        // Assert
+        assertEquals(lookups + 1, LookupTransformer.LOOKUPS.get());
+        assertEquals("two", dtos.toArray(new CachedBatchDTO[0])[1].getName());
+        assertTrue(engine.loadPlan(CachedBatchDTO.class).hasBatch());
+    }
+
+    @Test(expected = AssemblerException.class)
+    public void assembleShouldThrowsAssemblerExceptionWhenAsyncTransformerIsCached() {
+        // Act
+        AssemblaeEngine.builder().build().assemble(new ModelWithProperties(1, 2, 3), DTOWithCachedAsyncTransformer.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getTransformerCacheStatsShouldThrowsIllegalArgumentExceptionWhenTransformerIsNotCached() {
+        // Act
+        Assemblae.getTransformerCacheStats(DTOWithOneProperty.class, "field");
+    }
+}
@@ -0,0 +1,104 @@
+package br.com.machinae.assemblae;
+
+import br.com.machinae.assemblae.tests.AllArgsDTO;
+import br.com.machinae.assemblae.tests.DTOWithOneProperty;
+import br.com.machinae.assemblae.tests.ImmutableDTO;
+import br.com.machinae.assemblae.tests.ModelWithProperties;
+import br.com.machinae.assemblae.tests.invalid.DTOWithoutDefaultConstructor;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for DtoConstructor
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+public class DtoConstructorTest {
+
+    @Test
+    public void findShouldReturnNullForDtoWithNoArgConstructor() {
+        // Act
+        DtoConstructor constructor = Assemblae.getDefaultEngine().loadPlan(DTOWithOneProperty.class).getConstructor();
+
+        // Assert
+        assertNull(constructor);
+    }
+
+    @Test
+    public void findShouldReturnNullWhenConstructorDoesNotTakeProperties() {
+        // Act
+        DtoConstructor constructor = DtoConstructor.find(DTOWithoutDefaultConstructor.class, new TransferParams[0]);
+
+        // Assert
+        assertNull(constructor);
+    }
+
+    @Test
+    public void findShouldMapConstructorPropertiesByName() {
+        // Arrange
+        AssemblyPlan plan = Assemblae.getDefaultEngine().loadPlan(ImmutableDTO.class);
+
+        // Act
+        DtoConstructor constructor = plan.getConstructor();
+
+        // Assert
+        assertNotNull(constructor);
+        for (int i = 0; i < plan.size(); i++) {
+            String property = plan.get(i).getDtoProperty();
+            assertEquals(property, property.equals("anotherField") ? 0 : property.equals("field") ? 1 : -1, constructor.argumentOf(i));
+        }
+    }
+
+    @Test
+    public void newArgumentsShouldHoldZeroForPrimitives() {
+        // Act
+        Object[] arguments = Assemblae.getDefaultEngine().loadPlan(ImmutableDTO.class).getConstructor().newArguments();
+
+        // Assert
+        assertEquals(0, arguments[0]);
+        assertNull(arguments[1]);
+    }
+
+    @Test
+    public void assembleShouldCallAnnotatedConstructorAndSetOtherProperties() {
+        // Act
+        ImmutableDTO dto = Assemblae.assemble(new ModelWithProperties(1, 2, 3), ImmutableDTO.class);
+
+        // Assert
+        assertEquals(Integer.valueOf(1), dto.getField());
+        assertEquals(2, dto.getAnotherField());
+        assertEquals(Integer.valueOf(4), dto.getCounted());
+    }
+
+    @Test
+    public void assembleShouldCallAllArgsConstructor() {
+        // Act
+        AllArgsDTO dto = Assemblae.assemble(new ModelWithProperties(1, 2, 3), AllArgsDTO.class);
+
+        // Assert
+        assertEquals(Integer.valueOf(1), dto.getField());
+        assertEquals(Integer.valueOf(3), dto.getMapped());
+    }
+
+    @Test(expected = AssemblerException.class)
+    public void assembleShouldThrowsAssemblerExceptionForNullPrimitiveArgument() {
+        // Act
+        Assemblae.assemble(new ModelWithProperties(1, null, 3), ImmutableDTO.class);
+    }
+
+    @Test
+    public void disassembleShouldReadConstructedDto() {
+        // Arrange
+        ModelWithProperties model = new ModelWithProperties(1, 2, 3);
+        AllArgsDTO dto = Assemblae.assemble(new ModelWithProperties(10, 20, 30), AllArgsDTO.class);
+
+        // Act
+        Assemblae.disassemble(dto, model);
+
+        // Assert
+        assertEquals(Integer.valueOf(10), model.getField());
+        assertEquals(Integer.valueOf(30), model.getMapped());
+    }
+}
@@ -0,0 +1,103 @@
+package br.com.machinae.assemblae;
+
+import br.com.machinae.assemblae.tests.AllArgsDTO;
+import br.com.machinae.assemblae.tests.DTOWithOneProperty;
+import br.com.machinae.assemblae.tests.LazyDTO;
+import br.com.machinae.assemblae.tests.ModelWithProperties;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for DtoPool
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+public class DtoPoolTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void poolShouldThrowsIllegalArgumentExceptionWhenCapacityIsNotPositive() {
+        // Act
+        Assemblae.pool(DTOWithOneProperty.class, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void poolShouldThrowsIllegalArgumentExceptionForLazyDto() {
+        // Act
+        Assemblae.pool(LazyDTO.class, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void poolShouldThrowsIllegalArgumentExceptionForConstructedDto() {
+        // Act
+        Assemblae.pool(AllArgsDTO.class, 1);
+    }
+
+    @Test
+    public void assembleShouldReuseReleasedDto() {
+        // Arrange
+        DtoPool<DTOWithOneProperty> pool = Assemblae.pool(DTOWithOneProperty.class, 1);
+        DTOWithOneProperty first = pool.assemble(new ModelWithProperties(1, 2, 3));
+        pool.release(first);
+
+        // Act
+        DTOWithOneProperty second = pool.assemble(new ModelWithProperties(4, 5, 6));
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(Integer.valueOf(4), second.getField());
+        assertEquals(0, pool.getIdleCount());
+    }
+
+    @Test
+    public void releaseShouldDropDtosBeyondCapacity() {
+        // Arrange
+        DtoPool<DTOWithOneProperty> pool = Assemblae.pool(DTOWithOneProperty.class, 1);
+
+        // Act
+        pool.release(new DTOWithOneProperty());
+        pool.release(new DTOWithOneProperty());
+
+        // Assert
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void releaseShouldThrowsIllegalStateExceptionWhenDtoIsReleasedTwice() {
+        // Arrange
+        DtoPool<DTOWithOneProperty> pool = Assemblae.pool(DTOWithOneProperty.class, 2);
+        DTOWithOneProperty dto = pool.acquire();
+        pool.release(dto);
+
+        // Act
+        pool.release(dto);
+    }
+
+    @Test
+    public void releaseShouldAcceptDtoAcquiredAgain() {
+        // Arrange
+        DtoPool<DTOWithOneProperty> pool = Assemblae.pool(DTOWithOneProperty.class, 2);
+        DTOWithOneProperty dto = pool.acquire();
+        pool.release(dto);
+        assertSame(dto, pool.acquire());
+
+        // Act
+        pool.release(dto);
+
+        // Assert
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    @Test
+    public void acquireShouldInstantiateWhenPoolIsEmpty() {
+        // Arrange
+        DtoPool<DTOWithOneProperty> pool = Assemblae.pool(DTOWithOneProperty.class, 1);
+
+        // Act
+        DTOWithOneProperty dto = pool.acquire();
+
+        // Assert
+        assertNotNull(dto);
+    }
+}
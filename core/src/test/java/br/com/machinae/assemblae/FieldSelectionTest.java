@@ -0,0 +1,70 @@
+package br.com.machinae.assemblae;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for FieldSelection
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+public class FieldSelectionTest {
+
+    @Test
+    public void parseShouldSplitTrimmedFields() {
+        // Act
+        FieldSelection selection = FieldSelection.parse(" name, owner.name,,name ");
+
+        // Assert
+        assertEquals(ImmutableSet.of("name", "owner.name"), selection.getPaths());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void ofShouldThrowsIllegalArgumentExceptionForInvalidPath() {
+        // Act
+        FieldSelection.of("owner..name");
+    }
+
+    @Test
+    public void includesShouldMatchPropertiesAndNestedPaths() {
+        // Arrange
+        FieldSelection selection = FieldSelection.of("name", "owner-id", "owner.name");
+
+        // Assert
+        assertTrue(selection.includes("name"));
+        assertTrue(selection.includes("owner"));
+        assertFalse(selection.includes("own"));
+        assertFalse(selection.includes("parent"));
+    }
+
+    @Test
+    public void nestedShouldSelectPathsOfProperty() {
+        // Arrange
+        FieldSelection selection = FieldSelection.of("name", "owner.name", "owner.parent.name", "ownerId");
+
+        // Act
+        FieldSelection nested = selection.nested("owner");
+
+        // Assert
+        assertEquals(FieldSelection.of("name", "parent.name"), nested);
+    }
+
+    @Test
+    public void nestedShouldReturnNullForPropertySelectedWhole() {
+        // Act
+        FieldSelection nested = FieldSelection.of("owner", "owner.name").nested("owner");
+
+        // Assert
+        assertNull(nested);
+    }
+
+    @Test
+    public void equalsShouldIgnoreOrder() {
+        // Assert
+        assertEquals(FieldSelection.parse("name,owner.name"), FieldSelection.of("owner.name", "name"));
+        assertEquals(FieldSelection.parse("name,owner.name").hashCode(), FieldSelection.of("owner.name", "name").hashCode());
+    }
+}
@@ -0,0 +1,132 @@
+package br.com.machinae.assemblae;
+
+import br.com.machinae.assemblae.annotation.DataTransferObject;
+import br.com.machinae.assemblae.tests.CountingTransformer;
+import br.com.machinae.assemblae.tests.DTOWithOneProperty;
+import br.com.machinae.assemblae.tests.LazyDTO;
+import br.com.machinae.assemblae.tests.ModelWithProperties;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for LazyProxyGenerator and the lazy DTOs it generates.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+public class LazyProxyGeneratorTest {
+
+    @Before
+    public void setUp() {
+        CountingTransformer.CALLS.set(0);
+    }
+
+    @Test
+    public void isLazyShouldReturnTrueOnlyForLazyDTOs() {
+        // Assert
+        assertTrue(LazyProxyGenerator.isLazy(LazyDTO.class));
+        assertFalse(LazyProxyGenerator.isLazy(DTOWithOneProperty.class));
+    }
+
+    @Test
+    public void assembleShouldReturnDTOSubclass() {
+        // Act
+        LazyDTO dto = Assemblae.assemble(new ModelWithProperties(1, 2, 3), LazyDTO.class);
+
+        // Assert
+        assertNotSame(LazyDTO.class, dto.getClass());
+        assertTrue(LazyProxyGenerator.isProxy(dto.getClass()));
+    }
+
+    @Test
+    public void assembleShouldNotTransformBeforeFirstAccess() {
+        // Act
+        Assemblae.assemble(new ModelWithProperties(1, 2, 3), LazyDTO.class);
+
+        // Assert
+        assertEquals(0, CountingTransformer.CALLS.get());
+    }
+
+    @Test
+    public void getterShouldTransformOnceOnFirstAccess() {
+        // Arrange
+        LazyDTO dto = Assemblae.assemble(new ModelWithProperties(1, 2, 3), LazyDTO.class);
+
+        // Act
+        Integer first = dto.getCounted();
+        Integer second = dto.getCounted();
+
+        // Assert
+        assertEquals(Integer.valueOf(4), first);
+        assertEquals(Integer.valueOf(4), second);
+        assertEquals(1, CountingTransformer.CALLS.get());
+    }
+
+    @Test
+    public void getterShouldReadModelProperty() {
+        // Act
+        LazyDTO dto = Assemblae.assemble(new ModelWithProperties(1, 2, 3), LazyDTO.class);
+
+        // Assert
+        assertEquals(Integer.valueOf(1), dto.getField());
+    }
+
+    @Test
+    public void finalGetterPropertyShouldBeCopiedEagerly() {
+        // Act
+        LazyDTO dto = Assemblae.assemble(new ModelWithProperties(1, 2, 3), LazyDTO.class);
+
+        // Assert
+        assertEquals(Integer.valueOf(2), dto.getAnotherField());
+    }
+
+    @Test
+    public void setterShouldWinOverPendingModelValue() {
+        // Arrange
+        LazyDTO dto = Assemblae.assemble(new ModelWithProperties(1, 2, 3), LazyDTO.class);
+
+        // Act
+        dto.setCounted(10);
+
+        // Assert
+        assertEquals(Integer.valueOf(10), dto.getCounted());
+        assertEquals(0, CountingTransformer.CALLS.get());
+    }
+
+    @Test
+    public void disassembleShouldUpdateModelFromLazyDTO() {
+        // Arrange
+        ModelWithProperties model = new ModelWithProperties(1, 2, 3);
+        LazyDTO dto = Assemblae.assemble(model, LazyDTO.class);
+        dto.setField(7);
+
+        // Act
+        Assemblae.disassemble(dto, model);
+
+        // Assert
+        assertEquals(Integer.valueOf(7), model.getField());
+        assertEquals(Integer.valueOf(3), model.getMapped());
+    }
+
+    @Test(expected = AssemblerException.class)
+    public void assembleShouldThrowsAssemblerExceptionForFinalLazyDTO() {
+        // Act
+        Assemblae.assemble(new ModelWithProperties(1, 2, 3), FinalLazyDTO.class);
+    }
+
+    @DataTransferObject(lazy = true)
+    public static final class FinalLazyDTO {
+
+        private Integer field;
+
+        public Integer getField() {
+            return field;
+        }
+
+        public void setField(Integer field) {
+            this.field = field;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package br.com.machinae.assemblae;
+
+import br.com.machinae.assemblae.tests.DTOWithOneProperty;
+import br.com.machinae.assemblae.tests.DTOWithTransformerMappedProperty;
+import br.com.machinae.assemblae.tests.ModelWithProperties;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for MetricsListener
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+public class MetricsListenerTest {
+
+    @After
+    public void tearDown() {
+        Assemblae.setAssemblyListener(null);
+    }
+
+    @Test
+    public void histogramShouldBeEmptyBeforeRecording() {
+        // Act
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // Assert
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileNanos(0.99));
+        assertEquals(0.0, histogram.getMeanNanos(), 0.0);
+    }
+
+    @Test
+    public void histogramShouldTrackCountMeanMaxAndPercentiles() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // Act
+        for (int i = 0; i < 99; i++)
+            histogram.record(100);
+        histogram.record(10000);
+
+        // Assert
+        assertEquals(100, histogram.getCount());
+        assertEquals(10000, histogram.getMaxNanos());
+        assertEquals(199.0, histogram.getMeanNanos(), 0.0);
+        assertTrue(histogram.getPercentileNanos(0.5) >= 100);
+        assertTrue(histogram.getPercentileNanos(0.5) < 200);
+        assertEquals(10000, histogram.getPercentileNanos(1.0));
+    }
+
+    @Test
+    public void listenerShouldCountPlanCacheHitsAndMisses() {
+        // Arrange
+        MetricsListener metrics = new MetricsListener();
+
+        // Act
+        metrics.planLoaded(DTOWithOneProperty.class);
+        metrics.planCompiled(DTOWithOneProperty.class, 1000);
+        metrics.planCacheHit(DTOWithOneProperty.class);
+        metrics.planLoaded(ModelWithProperties.class);
+
+        // Assert
+        assertEquals(1, metrics.getPlanCacheHits());
+        assertEquals(2, metrics.getPlanCacheMisses());
+        assertEquals(1, metrics.getPlanCompileLatency().getCount());
+    }
+
+    @Test
+    public void gettersShouldNotCreateHistograms() {
+        // Arrange
+        MetricsListener metrics = new MetricsListener();
+
+        // Act
+        LatencyHistogram histogram = metrics.getAssembleLatency(DTOWithOneProperty.class);
+
+        // Assert
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, metrics.getTransformLatency(DTOWithOneProperty.class, "field").getCount());
+        assertTrue(metrics.getAssembleLatencies().isEmpty());
+    }
+
+    @Test
+    public void assembleShouldReportToRegisteredListener() {
+        // Arrange
+        MetricsListener metrics = new MetricsListener();
+        Assemblae.setAssemblyListener(metrics);
+
+        // Act
+        Assemblae.assemble(new ModelWithProperties(1, 2, 3), DTOWithOneProperty.class);
+        Assemblae.assemble(new ModelWithProperties(1, 2, 3), DTOWithOneProperty.class);
+
+        // Assert
+        assertEquals(2, metrics.getAssembleLatency(DTOWithOneProperty.class).getCount());
+        assertEquals(1, metrics.getPlanCacheHits());
+        assertEquals(1, metrics.getPlanCacheMisses());
+    }
+
+    @Test
+    public void assembleAllShouldReportCollectionAndEachModel() {
+        // Arrange
+        MetricsListener metrics = new MetricsListener();
+        Assemblae.setAssemblyListener(metrics);
+        Collection<Object> models = Arrays.<Object>asList(new ModelWithProperties(1, 2, 3), new ModelWithProperties(4, 5, 6));
+
+        // Act
+        Assemblae.assembleAll(models, DTOWithOneProperty.class);
+
+        // Assert
+        assertEquals(1, metrics.getAssembleAllLatency(DTOWithOneProperty.class).getCount());
+        assertEquals(2, metrics.getAssembleLatency(DTOWithOneProperty.class).getCount());
+    }
+
+    @Test
+    public void assembleShouldReportTransformerCallsPerProperty() {
+        // Arrange
+        MetricsListener metrics = new MetricsListener();
+        Assemblae.setAssemblyListener(metrics);
+
+        // Act
+        Assemblae.assemble(new ModelWithProperties(1, 2, 3), DTOWithTransformerMappedProperty.class);
+
+        // Assert
+        assertEquals(1, metrics.getTransformLatency(DTOWithTransformerMappedProperty.class, "field").getCount());
+    }
+
+    @Test
+    public void assembleShouldNotReportAfterListenerRemoved() {
+        // Arrange
+        MetricsListener metrics = new MetricsListener();
+        Assemblae.setAssemblyListener(metrics);
+        Assemblae.setAssemblyListener(null);
+
+        // Act
+        Assemblae.assemble(new ModelWithProperties(1, 2, 3), DTOWithOneProperty.class);
+
+        // Assert
+        assertEquals(0, metrics.getAssembleLatency(DTOWithOneProperty.class).getCount());
+        assertNull(Assemblae.getAssemblyListener());
+    }
+}
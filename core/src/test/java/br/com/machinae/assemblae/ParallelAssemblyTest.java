@@ -0,0 +1,166 @@
+package br.com.machinae.assemblae;
+
+import br.com.machinae.assemblae.tests.DTOWithOneProperty;
+import br.com.machinae.assemblae.tests.ModelWithProperties;
+import com.google.common.base.Function;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for ParallelAssembly
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+public class ParallelAssemblyTest {
+
+    private static final Function<Object, Integer> IDENTITY = new Function<Object, Integer>() {
+        @Override
+        public Integer apply(Object model) {
+            return (Integer) model;
+        }
+    };
+
+    @Test(expected = NullPointerException.class)
+    public void assembleAllShouldThrowNullPointerExceptionWhenModelListIsNull() {
+        // Act
+        ParallelAssembly.assembleAll(null, IDENTITY, Parallelism.defaults());
+    }
+
+    @Test
+    public void assembleAllShouldStaySequentialBelowThreshold() {
+        // Arrange
+        final Set<Thread> threads = Collections.synchronizedSet(new HashSet<Thread>());
+        Function<Object, Integer> recordThread = new Function<Object, Integer>() {
+            @Override
+            public Integer apply(Object model) {
+                threads.add(Thread.currentThread());
+                return (Integer) model;
+            }
+        };
+
+        // Act
+        Collection<Integer> dtos = ParallelAssembly.assembleAll(models(100), recordThread, Parallelism.defaults().withChunkSize(10));
+
+        // Assert
+        assertEquals(models(100), dtos);
+        assertEquals(Collections.singleton(Thread.currentThread()), threads);
+    }
+
+    @Test
+    public void assembleAllShouldPreserveOrderOnForkJoinPool() {
+        // Arrange
+        List<Integer> models = models(10000);
+        Parallelism parallelism = Parallelism.defaults().withExecutor(new ForkJoinPool(4)).withChunkSize(100).withThreshold(0);
+
+        // Act
+        Collection<Integer> dtos = ParallelAssembly.assembleAll(models, IDENTITY, parallelism);
+
+        // Assert
+        assertEquals(models, dtos);
+    }
+
+    @Test
+    public void assembleAllShouldPreserveOrderOnExecutor() {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Integer> models = models(10000);
+        Parallelism parallelism = Parallelism.defaults().withExecutor(executor).withChunkSize(100).withThreshold(0);
+
+        // Act
+        Collection<Integer> dtos = ParallelAssembly.assembleAll(models, IDENTITY, parallelism);
+        executor.shutdown();
+
+        // Assert
+        assertEquals(models, dtos);
+    }
+
+    @Test
+    public void assembleAllShouldReturnAllDTOsWhenUnordered() {
+        // Arrange
+        List<Integer> models = models(10000);
+        Parallelism parallelism = Parallelism.defaults().withChunkSize(100).withThreshold(0).withOrdered(false);
+
+        // Act
+        Collection<Integer> dtos = ParallelAssembly.assembleAll(models, IDENTITY, parallelism);
+
+        // Assert
+        assertEquals(new HashSet<Integer>(models), new HashSet<Integer>(dtos));
+        assertEquals(models.size(), dtos.size());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void assembleAllShouldRethrowChunkFailure() {
+        // Arrange
+        Function<Object, Integer> failing = new Function<Object, Integer>() {
+            @Override
+            public Integer apply(Object model) {
+                throw new IllegalStateException();
+            }
+        };
+        Parallelism parallelism = Parallelism.defaults().withExecutor(Executors.newCachedThreadPool()).withChunkSize(10).withThreshold(0);
+
+        // Act
+        ParallelAssembly.assembleAll(models(100), failing, parallelism);
+    }
+
+    @Test
+    public void assemblaeAssembleAllShouldAssembleInParallel() {
+        // Arrange
+        Collection<Object> models = new ArrayList<Object>();
+        for (int i = 0; i < 1000; i++)
+            models.add(new ModelWithProperties(i, null, null));
+
+        // Act
+        Collection<DTOWithOneProperty> dtos = Assemblae.assembleAll(models, DTOWithOneProperty.class,
+                Parallelism.defaults().withChunkSize(10).withThreshold(0));
+
+        // Assert
+        int i = 0;
+        for (DTOWithOneProperty dto : dtos)
+            assertEquals(Integer.valueOf(i++), dto.getField());
+        assertEquals(1000, i);
+    }
+
+    @Test
+    public void assemblerWithoutParallelOverloadShouldAssembleInParallelByDefault() {
+        // Arrange
+        Assembler<Integer> assembler = new Assembler<Integer>() {
+            @Override
+            public Integer assemble(Object model, Class<Integer> dtoClass) {
+                return (Integer) model + 1;
+            }
+
+            @Override
+            public Collection<Integer> assembleAll(Collection<Object> models, Class<Integer> dtoClass) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        Collection<Object> models = new ArrayList<Object>(models(100));
+
+        // Act
+        Collection<Integer> dtos = assembler.assembleAll(models, Integer.class, Parallelism.defaults().withChunkSize(10).withThreshold(0));
+
+        // Assert
+        assertEquals(100, dtos.size());
+        assertEquals(Integer.valueOf(1), dtos.iterator().next());
+    }
+
+    private static List<Integer> models(int size) {
+        List<Integer> models = new ArrayList<Integer>(size);
+        for (int i = 0; i < size; i++)
+            models.add(i);
+        return models;
+    }
+}
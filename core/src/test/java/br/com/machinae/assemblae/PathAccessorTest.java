@@ -0,0 +1,148 @@
+package br.com.machinae.assemblae;
+
+import br.com.machinae.assemblae.tests.AddressModel;
+import br.com.machinae.assemblae.tests.CustomerModel;
+import br.com.machinae.assemblae.tests.FlatCustomerDTO;
+import com.google.common.collect.ImmutableMap;
+import org.apache.commons.beanutils.NestedNullException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for PathAccessor
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+public class PathAccessorTest {
+
+    private static CustomerModel customer() {
+        Map<String, String> attributes = new HashMap<String, String>(ImmutableMap.of("color", "blue"));
+        return new CustomerModel(new AddressModel("Recife"), new ArrayList<String>(Arrays.asList("555-0100")), attributes);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void compileShouldThrowsIllegalArgumentExceptionForMalformedPath() {
+        // Act
+        PathAccessor.compile("address..city", false, false);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void compileShouldThrowsIllegalArgumentExceptionForInvalidIndex() {
+        // Act
+        PathAccessor.compile("phones[first]", false, false);
+    }
+
+    @Test
+    public void getShouldReadNestedIndexedAndMappedProperties() throws Exception {
+        // Arrange
+        CustomerModel customer = customer();
+
+        // Act
+        Object city = PathAccessor.compile("address.city", false, false).get(customer);
+        Object phone = PathAccessor.compile("phones[0]", false, false).get(customer);
+        Object color = PathAccessor.compile("attributes(color)", false, false).get(customer);
+
+        // Assert
+        assertEquals("Recife", city);
+        assertEquals("555-0100", phone);
+        assertEquals("blue", color);
+    }
+
+    @Test
+    public void getShouldReadFieldsWithFieldAccess() throws Exception {
+        // Act
+        Object city = PathAccessor.compile("address.city", true, false).get(customer());
+
+        // Assert
+        assertEquals("Recife", city);
+    }
+
+    @Test
+    public void getShouldReturnNullForNullIntermediateWhenNullSafe() throws Exception {
+        // Act
+        Object city = PathAccessor.compile("address.city", false, true).get(new CustomerModel());
+
+        // Assert
+        assertNull(city);
+    }
+
+    @Test(expected = NestedNullException.class)
+    public void getShouldThrowsNestedNullExceptionForNullIntermediate() throws Exception {
+        // Act
+        PathAccessor.compile("address.city", false, false).get(new CustomerModel());
+    }
+
+    @Test
+    public void setShouldWriteLastProperty() throws Exception {
+        // Arrange
+        CustomerModel customer = customer();
+
+        // Act
+        PathAccessor.compile("address.city", false, false).set(customer, "Olinda");
+        PathAccessor.compile("phones[0]", false, false).set(customer, "555-0199");
+        PathAccessor.compile("attributes(color)", false, false).set(customer, "red");
+
+        // Assert
+        assertEquals("Olinda", customer.getAddress().getCity());
+        assertEquals("555-0199", customer.getPhones().get(0));
+        assertEquals("red", customer.getAttributes().get("color"));
+    }
+
+    @Test
+    public void setShouldSkipNullIntermediateWhenNullSafe() throws Exception {
+        // Arrange
+        CustomerModel customer = new CustomerModel();
+
+        // Act
+        PathAccessor.compile("address.city", false, true).set(customer, "Olinda");
+
+        // Assert
+        assertNull(customer.getAddress());
+    }
+
+    @Test
+    public void assembleShouldFlattenModelPaths() {
+        // Act
+        FlatCustomerDTO dto = Assemblae.assemble(customer(), FlatCustomerDTO.class);
+
+        // Assert
+        assertEquals("Recife", dto.getCity());
+        assertEquals("555-0100", dto.getPhone());
+        assertEquals("blue", dto.getColor());
+    }
+
+    @Test
+    public void assembleShouldReadNullSafePathsAsNull() {
+        // Arrange
+        CustomerModel customer = customer();
+        customer.setAddress(null);
+
+        // Act
+        FlatCustomerDTO dto = Assemblae.assemble(customer, FlatCustomerDTO.class);
+
+        // Assert
+        assertNull(dto.getCity());
+        assertEquals("555-0100", dto.getPhone());
+    }
+
+    @Test
+    public void disassembleShouldWriteModelPaths() {
+        // Arrange
+        CustomerModel customer = customer();
+        FlatCustomerDTO dto = Assemblae.assemble(customer, FlatCustomerDTO.class);
+        dto.setCity("Olinda");
+
+        // Act
+        Assemblae.disassemble(dto, customer);
+
+        // Assert
+        assertEquals("Olinda", customer.getAddress().getCity());
+    }
+}
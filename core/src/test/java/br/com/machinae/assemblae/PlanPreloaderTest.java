@@ -0,0 +1,92 @@
+package br.com.machinae.assemblae;
+
+import br.com.machinae.assemblae.tests.DTOWithOneProperty;
+import br.com.machinae.assemblae.tests.FieldDTO;
+import br.com.machinae.assemblae.tests.LazyDTO;
+import br.com.machinae.assemblae.tests.ModelWithProperties;
+import br.com.machinae.assemblae.tests.invalid.DTOWithoutAccessors;
+import br.com.machinae.assemblae.tests.invalid.DTOWithoutDefaultConstructor;
+import com.google.common.util.concurrent.MoreExecutors;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for PlanPreloader
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+public class PlanPreloaderTest {
+
+    @Test(expected = NullPointerException.class)
+    public void preloadShouldThrowsNullPointerExceptionWhenDtoClassesIsNull() {
+        // Act
+        PlanPreloader.preload(Assemblae.getDefaultEngine(), null, MoreExecutors.sameThreadExecutor());
+    }
+
+    @Test
+    public void preloadShouldLoadValidDtoClasses() {
+        // Arrange
+        MetricsListener metrics = new MetricsListener();
+        Assemblae.setAssemblyListener(metrics);
+
+        // Act
+        try {
+            PlanPreloader.preload(Assemblae.getDefaultEngine(), Arrays.asList(DTOWithOneProperty.class, FieldDTO.class, LazyDTO.class),
+                    MoreExecutors.sameThreadExecutor());
+        } finally {
+            Assemblae.setAssemblyListener(null);
+        }
+
+        // Assert
+        assertEquals(3, metrics.getPlanCacheMisses());
+    }
+
+    @Test
+    public void preloadShouldReportEveryInvalidDtoClass() {
+        try {
+            // Act
+            PlanPreloader.preload(Assemblae.getDefaultEngine(),
+                    Arrays.asList(DTOWithoutAccessors.class, DTOWithOneProperty.class, DTOWithoutDefaultConstructor.class),
+                    MoreExecutors.sameThreadExecutor());
+            fail();
+        } catch (AssemblerException e) {
+            // Assert
+            assertTrue(e.getMessage().startsWith("2 DTO classes can not be assembled"));
+            assertTrue(e.getMessage().contains(DTOWithoutAccessors.class.getName()));
+            assertTrue(e.getMessage().contains(DTOWithoutDefaultConstructor.class.getName()));
+            assertEquals(1, e.getSuppressed().length);
+        }
+    }
+
+    @Test
+    public void scanShouldFindDtoClassesInPackageAndSubpackages() {
+        // Act
+        Set<Class<?>> dtoClasses = PlanPreloader.scan(getClass().getClassLoader(), "br.com.machinae.assemblae.tests");
+
+        // Assert
+        assertTrue(dtoClasses.contains(DTOWithOneProperty.class));
+        assertTrue(dtoClasses.contains(DTOWithoutAccessors.class));
+        assertFalse(dtoClasses.contains(ModelWithProperties.class));
+    }
+
+    @Test
+    public void scanShouldReadJars() {
+        // Act
+        Set<Class<?>> dtoClasses = PlanPreloader.scan(getClass().getClassLoader(), "org.junit");
+
+        // Assert
+        assertEquals(Collections.emptySet(), dtoClasses);
+    }
+
+    @Test(expected = AssemblerException.class)
+    public void preloadPackagesShouldThrowsAssemblerExceptionForInvalidDtoClasses() {
+        // Act
+        Assemblae.preloadPackages("br.com.machinae.assemblae.tests.invalid");
+    }
+}
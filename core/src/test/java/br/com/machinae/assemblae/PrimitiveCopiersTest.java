@@ -0,0 +1,122 @@
+package br.com.machinae.assemblae;
+
+import br.com.machinae.assemblae.tests.CentsTransformer;
+import br.com.machinae.assemblae.tests.DummyTransformer;
+import br.com.machinae.assemblae.tests.PrimitiveDTO;
+import br.com.machinae.assemblae.tests.PrimitiveModel;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for PrimitiveCopiers and the primitive transformers.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+public class PrimitiveCopiersTest {
+
+    private final AssemblerImpl<PrimitiveDTO> ae = new AssemblerImpl<PrimitiveDTO>();
+
+    @Test
+    public void specializedShouldReturnPrimitiveMethods() {
+        // Act
+        Method transform = PrimitiveCopiers.specialized(new CentsTransformer(), false);
+        Method reverse = PrimitiveCopiers.specialized(new CentsTransformer(), true);
+
+        // Assert
+        assertEquals("transformAsDouble", transform.getName());
+        assertEquals("reverseAsLong", reverse.getName());
+        assertNull(PrimitiveCopiers.specialized(new DummyTransformer(), false));
+    }
+
+    @Test
+    public void specializedShouldCheckPrimitiveTypes() {
+        // Assert
+        assertNotNull(PrimitiveCopiers.specialized(new CentsTransformer(), false, long.class, double.class));
+        assertNull(PrimitiveCopiers.specialized(new CentsTransformer(), false, int.class, double.class));
+    }
+
+    @Test
+    public void boxedTransformShouldKeepNulls() {
+        // Act
+        Double value = new CentsTransformer().transform(null);
+
+        // Assert
+        assertNull(value);
+        assertEquals(Double.valueOf(1.5), new CentsTransformer().transform(150L));
+    }
+
+    @Test
+    public void planShouldMarkPrimitiveProperties() {
+        // Act
+        AssemblyPlan plan = ae.loadPlan(PrimitiveDTO.class);
+
+        // Assert
+        assertTrue(plan.get(0).isPrimitive());
+        assertTrue(plan.get(1).isPrimitive());
+        assertTrue(plan.get(2).isPrimitive());
+    }
+
+    @Test
+    public void forwardShouldReturnCopierOnlyWhenBothSidesArePrimitive() {
+        // Arrange
+        AssemblyPlan plan = ae.loadPlan(PrimitiveDTO.class);
+
+        // Assert
+        assertNotNull(PrimitiveCopiers.forward(PrimitiveModel.class, plan.get(0)));
+        assertNotNull(PrimitiveCopiers.forward(PrimitiveModel.class, plan.get(1)));
+        assertNull("Boxed model property", PrimitiveCopiers.forward(PrimitiveModel.class, plan.get(2)));
+    }
+
+    @Test
+    public void reflectiveAssembleShouldCopyPrimitiveProperties() {
+        // Act
+        PrimitiveDTO dto = ae.assemble(new PrimitiveModel(3, 1250, 7), PrimitiveDTO.class);
+
+        // Assert
+        assertEquals(3, dto.getCount());
+        assertEquals(12.5, dto.getAmount(), 0.0);
+        assertEquals(7, dto.getBoxed());
+    }
+
+    @Test
+    public void reflectiveDisassembleShouldCopyPrimitiveProperties() {
+        // Arrange
+        PrimitiveDTO dto = new PrimitiveDTO();
+        dto.setCount(4);
+        dto.setAmount(2.25);
+        dto.setBoxed(9);
+        PrimitiveModel model = new PrimitiveModel();
+
+        // Act
+        ae.disassemble(dto, model);
+
+        // Assert
+        assertEquals(4, model.getCount());
+        assertEquals(225L, model.getCents());
+        assertEquals(Integer.valueOf(9), model.getBoxed());
+    }
+
+    @Test
+    public void compiledAssemblerShouldCopyPrimitiveProperties() {
+        // Arrange
+        AssemblyPlan plan = ae.loadPlan(PrimitiveDTO.class);
+        PrimitiveModel model = new PrimitiveModel();
+
+        // Act
+        @SuppressWarnings("unchecked")
+        CompiledAssembler<PrimitiveModel, PrimitiveDTO> assembler =
+                (CompiledAssembler<PrimitiveModel, PrimitiveDTO>) AssemblerGenerator.generate(PrimitiveModel.class, plan);
+        PrimitiveDTO dto = assembler.assemble(new PrimitiveModel(3, 1250, 7), PrimitiveDTO.class);
+        assembler.disassemble(dto, model);
+
+        // Assert
+        assertEquals(12.5, dto.getAmount(), 0.0);
+        assertEquals(3, dto.getCount());
+        assertEquals(1250L, model.getCents());
+        assertEquals(Integer.valueOf(7), model.getBoxed());
+    }
+}
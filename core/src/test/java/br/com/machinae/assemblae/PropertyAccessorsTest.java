@@ -0,0 +1,134 @@
+package br.com.machinae.assemblae;
+
+import br.com.machinae.assemblae.tests.FieldModel;
+import br.com.machinae.assemblae.tests.ModelWithProperties;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for PropertyAccessors
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+public class PropertyAccessorsTest {
+
+    @Test(expected = NullPointerException.class)
+    public void forPropertyShouldThrowsNullPointerExceptionForNullClass() throws Exception {
+        // Act
+        PropertyAccessors.forProperty(null, "field");
+    }
+
+    @Test(expected = NoSuchMethodException.class)
+    public void forPropertyShouldThrowsNoSuchMethodExceptionForUnknownProperty() throws Exception {
+        // Act
+        PropertyAccessors.forProperty(ModelWithProperties.class, "unknown");
+    }
+
+    @Test
+    public void forPropertyShouldReturnTheSameAccessorForTheSameProperty() throws Exception {
+        // Act
+        PropertyAccessor accessor1 = PropertyAccessors.forProperty(ModelWithProperties.class, "field");
+        PropertyAccessor accessor2 = PropertyAccessors.forProperty(ModelWithProperties.class, "field");
+
+        // Assert
+        assertSame(accessor1, accessor2);
+    }
+
+    @Test
+    public void accessorShouldReadAndWriteProperty() throws Exception {
+        // Arrange
+        ModelWithProperties model = new ModelWithProperties(1, 2, 3);
+        PropertyAccessor accessor = PropertyAccessors.forProperty(ModelWithProperties.class, "anotherField");
+
+        // Act
+        accessor.set(model, 5);
+
+        // Assert
+        assertEquals(5, accessor.get(model));
+        assertEquals(Integer.valueOf(5), model.getAnotherField());
+    }
+
+    @Test
+    public void accessorShouldReadPropertyFromNotPublicClass() throws Exception {
+        // Arrange
+        Object model = new Object() {
+            public String getName() {
+                return "name";
+            }
+        };
+
+        // Act
+        Object value = PropertyAccessors.forProperty(model.getClass(), "name").get(model);
+
+        // Assert
+        assertEquals("name", value);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void accessorShouldThrowsIllegalArgumentExceptionForMismatchedValue() throws Exception {
+        // Arrange
+        ModelWithProperties model = new ModelWithProperties();
+
+        // Act
+        PropertyAccessors.forProperty(ModelWithProperties.class, "field").set(model, "1");
+    }
+
+    @Test(expected = InvocationTargetException.class)
+    public void accessorShouldWrapGetterExceptions() throws Exception {
+        // Arrange
+        Object model = new Object() {
+            public String getName() {
+                throw new IllegalStateException();
+            }
+        };
+
+        // Act
+        PropertyAccessors.forProperty(model.getClass(), "name").get(model);
+    }
+
+    @Test
+    public void accessorShouldResolveMappedPropertiesOfMaps() throws Exception {
+        // Arrange
+        Map<String, Object> model = new HashMap<String, Object>();
+        model.put("field", 1);
+
+        // Act
+        Object value = PropertyAccessors.forProperty(model.getClass(), "field").get(model);
+
+        // Assert
+        assertEquals(1, value);
+    }
+
+    @Test
+    public void forFieldShouldReadAndWritePrivateFields() throws Exception {
+        // Arrange
+        FieldModel model = new FieldModel(1, "name", 3, "code");
+
+        // Act
+        PropertyAccessor accessor = PropertyAccessors.forField(FieldModel.class, "name");
+        Object value = accessor.get(model);
+        accessor.set(model, "other");
+
+        // Assert
+        assertEquals("name", value);
+        assertEquals("other", model.name());
+    }
+
+    @Test(expected = NoSuchMethodException.class)
+    public void forFieldShouldNotWriteFinalFields() throws Exception {
+        // Act
+        PropertyAccessors.forField(FieldModel.class, "code").set(new FieldModel(1, "name", 3, "code"), "other");
+    }
+
+    @Test(expected = NoSuchMethodException.class)
+    public void forFieldShouldThrowsNoSuchMethodExceptionForUnknownField() throws Exception {
+        // Act
+        PropertyAccessors.forField(FieldModel.class, "unknown");
+    }
+}
@@ -0,0 +1,82 @@
+package br.com.machinae.assemblae;
+
+import br.com.machinae.assemblae.tests.DTOWithOneProperty;
+import br.com.machinae.assemblae.tests.DTOWithProvidedAssembler;
+import br.com.machinae.assemblae.tests.DTOWithProvidedAssemblerAssembler;
+import br.com.machinae.assemblae.tests.ModelWithProperties;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for ProvidedAssemblers
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+public class ProvidedAssemblersTest {
+
+    @Test
+    public void findShouldReturnServiceLoaderProvidedAssembler() {
+        // Act
+        CompiledAssembler<?, ?> assembler = ProvidedAssemblers.find(ModelWithProperties.class, DTOWithProvidedAssembler.class);
+
+        // Assert
+        assertTrue(assembler instanceof DTOWithProvidedAssemblerAssembler);
+    }
+
+    @Test
+    public void findShouldReturnANewInstanceOnEachCall() {
+        // Act
+        CompiledAssembler<?, ?> assembler1 = ProvidedAssemblers.find(ModelWithProperties.class, DTOWithProvidedAssembler.class);
+        CompiledAssembler<?, ?> assembler2 = ProvidedAssemblers.find(ModelWithProperties.class, DTOWithProvidedAssembler.class);
+
+        // Assert
+        assertNotSame(assembler1, assembler2);
+    }
+
+    @Test
+    public void findShouldReturnNullForOtherModelClass() {
+        // Act
+        CompiledAssembler<?, ?> assembler = ProvidedAssemblers.find(Object.class, DTOWithProvidedAssembler.class);
+
+        // Assert
+        assertNull(assembler);
+    }
+
+    @Test
+    public void findShouldReturnNullForDTOWithoutProvidedAssembler() {
+        // Act
+        CompiledAssembler<?, ?> assembler = ProvidedAssemblers.find(ModelWithProperties.class, DTOWithOneProperty.class);
+
+        // Assert
+        assertNull(assembler);
+    }
+
+    @Test
+    public void assemblerForShouldPreferProvidedAssembler() {
+        // Act
+        Assembler<DTOWithProvidedAssembler> assembler = Assemblae.assemblerFor(ModelWithProperties.class, DTOWithProvidedAssembler.class);
+        DTOWithProvidedAssembler dto = Assemblae.assemble(new ModelWithProperties(1, 2, 3), DTOWithProvidedAssembler.class);
+
+        // Assert
+        assertTrue(assembler instanceof DTOWithProvidedAssemblerAssembler);
+        assertEquals(Integer.valueOf(1), dto.getField());
+    }
+
+    @Test
+    public void providedAssemblerShouldTransformThroughItsEngine() {
+        // Arrange
+        MetricsListener metrics = new MetricsListener();
+        AssemblaeEngine engine = AssemblaeEngine.builder().withListener(metrics).build();
+
+        // Act
+        Assembler<DTOWithProvidedAssembler> assembler = engine.assemblerFor(ModelWithProperties.class, DTOWithProvidedAssembler.class);
+        DTOWithProvidedAssembler dto = engine.assemble(new ModelWithProperties(1, 2, 3), DTOWithProvidedAssembler.class);
+
+        // Assert
+        assertTrue(assembler instanceof DTOWithProvidedAssemblerAssembler);
+        assertEquals(Integer.valueOf(4), dto.getCounted());
+        assertEquals(1, metrics.getTransformLatency(DTOWithProvidedAssembler.class, "counted").getCount());
+    }
+}
@@ -0,0 +1,110 @@
+package br.com.machinae.assemblae;
+
+import br.com.machinae.assemblae.tests.CountingTransformer;
+import br.com.machinae.assemblae.tests.ModelWithProperties;
+import br.com.machinae.assemblae.tests.TrackedDTO;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for TrackingAssembler
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+public class TrackingAssemblerTest {
+
+    @Test
+    public void assemblerForShouldTrackDtoClassesTrackingChanges() {
+        // Act
+        Object assembler = Assemblae.assemblerFor(ModelWithProperties.class, TrackedDTO.class);
+
+        // Assert
+        assertTrue(assembler instanceof TrackingAssembler);
+    }
+
+    @Test
+    public void disassembleShouldNotWriteUnchangedProperties() {
+        // Arrange
+        ModelWithProperties model = new ModelWithProperties(1, 2, 3);
+        TrackedDTO dto = Assemblae.assemble(model, TrackedDTO.class);
+        model.setField(10);
+        model.setMapped(30);
+        int calls = CountingTransformer.CALLS.get();
+
+        // Act
+        Assemblae.disassemble(dto, model);
+
+        // Assert
+        assertEquals(Integer.valueOf(10), model.getField());
+        assertEquals(Integer.valueOf(30), model.getMapped());
+        assertEquals(calls, CountingTransformer.CALLS.get());
+    }
+
+    @Test
+    public void disassembleShouldWriteOnlyChangedProperties() {
+        // Arrange
+        ModelWithProperties model = new ModelWithProperties(1, 2, 3);
+        TrackedDTO dto = Assemblae.assemble(model, TrackedDTO.class);
+        model.setMapped(30);
+        dto.setField(5);
+        int calls = CountingTransformer.CALLS.get();
+
+        // Act
+        Assemblae.disassemble(dto, model);
+
+        // Assert
+        assertEquals(Integer.valueOf(5), model.getField());
+        assertEquals(Integer.valueOf(30), model.getMapped());
+        assertEquals(calls, CountingTransformer.CALLS.get());
+    }
+
+    @Test
+    public void disassembleShouldForgetChangesWrittenBack() {
+        // Arrange
+        ModelWithProperties model = new ModelWithProperties(1, 2, 3);
+        TrackedDTO dto = Assemblae.assemble(model, TrackedDTO.class);
+        dto.setCounted(8);
+        Assemblae.disassemble(dto, model);
+        model.setMapped(30);
+
+        // Act
+        Assemblae.disassemble(dto, model);
+
+        // Assert
+        assertEquals(Integer.valueOf(30), model.getMapped());
+        assertEquals(Collections.emptySet(), Assemblae.getChangedProperties(dto));
+    }
+
+    @Test
+    public void disassembleShouldWriteAllPropertiesOfDtoNotAssembled() {
+        // Arrange
+        ModelWithProperties model = new ModelWithProperties(1, 2, 3);
+        TrackedDTO dto = new TrackedDTO();
+        dto.setCounted(8);
+        dto.setField(5);
+
+        // Act
+        Assemblae.disassemble(dto, model);
+
+        // Assert
+        assertEquals(Integer.valueOf(5), model.getField());
+        assertEquals(Integer.valueOf(7), model.getMapped());
+    }
+
+    @Test
+    public void getChangedPropertiesShouldListPropertiesChangedSinceAssemble() {
+        // Arrange
+        TrackedDTO dto = Assemblae.assemble(new ModelWithProperties(1, 2, 3), TrackedDTO.class);
+
+        // Act
+        dto.setCounted(8);
+
+        // Assert
+        assertEquals(ImmutableSet.of("counted"), Assemblae.getChangedProperties(dto));
+    }
+}
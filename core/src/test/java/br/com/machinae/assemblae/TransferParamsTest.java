@@ -6,6 +6,7 @@ import br.com.machinae.assemblae.annotation.MappedProperty;
 import br.com.machinae.assemblae.tests.DTOWithOneNamedMappedProperty;
 import br.com.machinae.assemblae.tests.DTOWithOneProperty;
 import br.com.machinae.assemblae.tests.DTOWithTransformerMappedProperty;
+import br.com.machinae.assemblae.tests.NodeDTO;
 import org.junit.Test;
 
 import java.lang.annotation.Annotation;
@@ -158,4 +159,18 @@ public class TransferParamsTest {
     }
 
 
+
+    @Test
+    public void buildShouldMarkDTOTypedFieldsAsNested() throws Exception {
+        // Act
+        TransferParams single = TransferParams.build(NodeDTO.class.getDeclaredField("parent"));
+        TransferParams collection = TransferParams.build(NodeDTO.class.getDeclaredField("children"));
+        TransferParams plain = TransferParams.build(NodeDTO.class.getDeclaredField("name"));
+
+        // Assert
+        assertTrue(single.isNested());
+        assertTrue(collection.isNested());
+        assertFalse(plain.isNested());
+        assertTrue(plain.isIdentity());
+    }
 }
@@ -0,0 +1,152 @@
+package br.com.machinae.assemblae;
+
+import br.com.machinae.assemblae.annotation.Scope;
+import br.com.machinae.assemblae.tests.CentsTransformer;
+import br.com.machinae.assemblae.tests.DelayedTransformer;
+import br.com.machinae.assemblae.tests.DummyTransformer;
+import br.com.machinae.assemblae.tests.LookupTransformer;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for TransformerRegistry
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+public class TransformerRegistryTest {
+
+    @Test(expected = NullPointerException.class)
+    public void getShouldThrowsNullPointerExceptionForNullClass() {
+        // Act
+        new TransformerRegistry().get(null);
+    }
+
+    @Test
+    public void getShouldReturnTheSameInstanceForSingletonTransformers() {
+        // Arrange
+        TransformerRegistry registry = new TransformerRegistry();
+
+        // Act
+        Transformer<Object, Object> transformer1 = registry.get(DummyTransformer.class);
+        Transformer<Object, Object> transformer2 = registry.get(DummyTransformer.class);
+
+        // Assert
+        assertTrue(transformer1 instanceof DummyTransformer);
+        assertSame(transformer1, transformer2);
+    }
+
+    @Test
+    public void getShouldReturnRegisteredInstance() {
+        // Arrange
+        TransformerRegistry registry = new TransformerRegistry();
+        DummyTransformer transformer = new DummyTransformer();
+
+        // Act
+        registry.register(DummyTransformer.class, transformer);
+
+        // Assert
+        assertSame(transformer, registry.get(DummyTransformer.class));
+    }
+
+    @Test
+    public void getShouldReturnIdentityForNoTransformation() {
+        // Act
+        Transformer<Object, Object> transformer = new TransformerRegistry().get(NoTransformation.class);
+
+        // Assert
+        assertTrue(TransformerRegistry.isIdentity(transformer));
+    }
+
+    @Test
+    public void getShouldInstantiatePrototypeTransformerForEachCall() {
+        // Arrange
+        TransformerRegistry registry = new TransformerRegistry();
+        CountingTransformer.INSTANCES.set(0);
+
+        // Act
+        registry.register(CountingTransformer.class, TransformerScope.PROTOTYPE);
+        Transformer<Object, Object> transformer = registry.get(CountingTransformer.class);
+        transformer.transform(1);
+        transformer.transform(2);
+
+        // Assert
+        assertEquals(3, CountingTransformer.INSTANCES.get());
+    }
+
+    @Test
+    public void getShouldInstantiateThreadTransformerOncePerThread() throws Exception {
+        // Arrange
+        TransformerRegistry registry = new TransformerRegistry();
+        ThreadTransformer.INSTANCES.set(0);
+        final Transformer<Object, Object> transformer = registry.get(ThreadTransformer.class);
+
+        // Act
+        transformer.transform(1);
+        transformer.transform(2);
+        Thread thread = new Thread() {
+            @Override
+            public void run() {
+                transformer.transform(3);
+            }
+        };
+        thread.start();
+        thread.join();
+
+        // Assert
+        assertEquals("One for validation and one per thread", 3, ThreadTransformer.INSTANCES.get());
+    }
+
+    @Test(expected = AssemblerException.class)
+    public void getShouldThrowsAssemblerExceptionForThreadScopedBatchTransformer() {
+        // Act
+        new TransformerRegistry().get(ThreadLookupTransformer.class);
+    }
+
+    @Test(expected = AssemblerException.class)
+    public void registerShouldThrowsAssemblerExceptionForPrototypeAsyncTransformer() {
+        // Act
+        new TransformerRegistry().register(DelayedTransformer.class, TransformerScope.PROTOTYPE);
+    }
+
+    @Test(expected = AssemblerException.class)
+    public void registerShouldThrowsAssemblerExceptionForThreadScopedPrimitiveTransformer() {
+        // Act
+        new TransformerRegistry().register(CentsTransformer.class, TransformerScope.THREAD);
+    }
+
+    @Test
+    public void transferParamsShouldSkipIdentityTransformer() {
+        // Arrange
+        TransferParams params = new TransferParams("field", "field", new TransformerRegistry().get(NoTransformation.class));
+
+        // Assert
+        assertTrue(params.isIdentity());
+    }
+
+    public static class CountingTransformer extends NoTransformation {
+
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        public CountingTransformer() {
+            INSTANCES.incrementAndGet();
+        }
+    }
+
+    @Scope(TransformerScope.THREAD)
+    public static class ThreadTransformer extends NoTransformation {
+
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        public ThreadTransformer() {
+            INSTANCES.incrementAndGet();
+        }
+    }
+
+    @Scope(TransformerScope.THREAD)
+    public static class ThreadLookupTransformer extends LookupTransformer {
+    }
+}
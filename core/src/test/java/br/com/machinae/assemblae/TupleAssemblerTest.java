@@ -0,0 +1,179 @@
+package br.com.machinae.assemblae;
+
+import br.com.machinae.assemblae.tests.BatchDTO;
+import br.com.machinae.assemblae.tests.FieldDTO;
+import br.com.machinae.assemblae.tests.ImmutableDTO;
+import br.com.machinae.assemblae.tests.LookupTransformer;
+import br.com.machinae.assemblae.tests.NodeDTO;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for TupleAssembler
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+public class TupleAssemblerTest {
+
+    private static final TupleLayout LAYOUT = TupleLayout.of("code", "mapped", "field");
+
+    @Test
+    public void assembleShouldReadMapModelsByKey() {
+        // Arrange
+        Map<String, Object> model = map("mapped", 2, "field", 20);
+
+        // Act
+        BatchDTO dto = Assemblae.assemble(model, BatchDTO.class);
+
+        // Assert
+        assertEquals("two", dto.getName());
+        assertEquals(Integer.valueOf(20), dto.getField());
+    }
+
+    @Test
+    public void assembleShouldReadMapModelsByFieldAccess() {
+        // Arrange
+        Map<String, Object> model = map("id", 1, "name", "first", "count", 3);
+
+        // Act
+        FieldDTO dto = Assemblae.assemble(model, FieldDTO.class);
+
+        // Assert
+        assertEquals(Integer.valueOf(1), dto.id());
+        assertEquals("first", dto.label());
+        assertEquals(3, dto.count());
+    }
+
+    @Test
+    public void assembleShouldConstructImmutableDTOsFromMaps() {
+        // Arrange
+        Map<String, Object> model = map("field", 1, "anotherField", 2, "mapped", 3);
+
+        // Act
+        ImmutableDTO dto = Assemblae.assemble(model, ImmutableDTO.class);
+
+        // Assert
+        assertEquals(Integer.valueOf(1), dto.getField());
+        assertEquals(2, dto.getAnotherField());
+        assertEquals(Integer.valueOf(4), dto.getCounted());
+    }
+
+    @Test
+    public void assembleShouldAssembleNestedMapsOfAGraphOnce() {
+        // Arrange
+        Map<String, Object> parent = map("name", "parent");
+        Map<String, Object> model = map("name", "child", "parent", parent, "owner", parent);
+
+        // Act
+        NodeDTO dto = Assemblae.assemble(model, NodeDTO.class);
+
+        // Assert
+        assertEquals("child", dto.getName());
+        assertEquals("parent", dto.getParent().getName());
+        assertSame(dto.getParent(), dto.getOwner());
+        assertNull(dto.getChildren());
+    }
+
+    @Test
+    public void assembleAllShouldTransformBatchPropertiesOfMapsInOneCall() {
+        // Arrange
+        Collection<Object> models = Arrays.<Object>asList(map("mapped", 1, "field", 10), map("mapped", 3, "field", 30));
+        int lookups = LookupTransformer.LOOKUPS.get();
+
+        // Act
+        Collection<BatchDTO> dtos = Assemblae.assembleAll(models, BatchDTO.class);
+
+        // Assert
+        assertEquals(lookups + 1, LookupTransformer.LOOKUPS.get());
+        Iterator<BatchDTO> iterator = dtos.iterator();
+        assertEquals("one", iterator.next().getName());
+        assertEquals("three", iterator.next().getName());
+    }
+
+    @Test
+    public void disassembleShouldWriteMapKeys() {
+        // Arrange
+        BatchDTO dto = new BatchDTO();
+        dto.setName("two");
+        dto.setField(20);
+        Map<String, Object> model = new HashMap<String, Object>();
+
+        // Act
+        Assemblae.disassemble(dto, model);
+
+        // Assert
+        assertEquals(map("mapped", 2, "field", 20), model);
+    }
+
+    @Test
+    public void assembleShouldReadRowColumnsByName() {
+        // Arrange
+        Object[] row = {"ignored", 3, 30};
+
+        // Act
+        BatchDTO dto = Assemblae.assemble(row, BatchDTO.class, LAYOUT);
+
+        // Assert
+        assertEquals("three", dto.getName());
+        assertEquals(Integer.valueOf(30), dto.getField());
+    }
+
+    @Test
+    public void assembleAllShouldTransformBatchPropertiesOfRowsInOneCall() {
+        // Arrange
+        Collection<Object[]> rows = Arrays.asList(new Object[]{"a", 1, 10}, new Object[]{"b", 2, 20}, new Object[]{"c", 1, 30});
+        int lookups = LookupTransformer.LOOKUPS.get();
+
+        // Act
+        Collection<BatchDTO> dtos = Assemblae.assembleAll(rows, BatchDTO.class, LAYOUT);
+
+        // Assert
+        assertEquals(lookups + 1, LookupTransformer.LOOKUPS.get());
+        Iterator<BatchDTO> iterator = dtos.iterator();
+        assertEquals("one", iterator.next().getName());
+        assertEquals("two", iterator.next().getName());
+        BatchDTO last = iterator.next();
+        assertEquals("one", last.getName());
+        assertEquals(Integer.valueOf(30), last.getField());
+    }
+
+    @Test
+    public void rowAssemblerForShouldResolveColumnsOncePerLayout() {
+        // Arrange
+        AssemblyPlan plan = Assemblae.planFor(BatchDTO.class, null);
+
+        // Act
+        TupleAssembler assembler = plan.rowAssemblerFor(TupleLayout.of("code", "mapped", "field"));
+
+        // Assert
+        assertSame(assembler, plan.rowAssemblerFor(LAYOUT));
+        assertNotSame(assembler, plan.rowAssemblerFor(TupleLayout.of("field", "mapped")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void assembleShouldThrowsIllegalArgumentExceptionForMissingColumn() {
+        // Act
+        Assemblae.assemble(new Object[]{1}, BatchDTO.class, TupleLayout.of("mapped"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void assembleShouldThrowsIllegalArgumentExceptionForShortRow() {
+        // Act
+        Assemblae.assemble(new Object[]{"a", 1}, BatchDTO.class, LAYOUT);
+    }
+
+    private static Map<String, Object> map(Object... entries) {
+        Map<String, Object> map = new HashMap<String, Object>();
+        for (int i = 0; i < entries.length; i += 2)
+            map.put((String) entries[i], entries[i + 1]);
+        return map;
+    }
+}
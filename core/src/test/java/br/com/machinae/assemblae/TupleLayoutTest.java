@@ -0,0 +1,47 @@
+package br.com.machinae.assemblae;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for TupleLayout
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+public class TupleLayoutTest {
+
+    @Test
+    public void indexOfShouldFindColumnsInRowOrder() {
+        // Arrange
+        TupleLayout layout = TupleLayout.of("id", "name");
+
+        // Assert
+        assertEquals(Arrays.asList("id", "name"), layout.getColumns());
+        assertEquals(1, layout.indexOf("name"));
+        assertEquals(-1, layout.indexOf("code"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void ofShouldThrowsIllegalArgumentExceptionForRepeatedColumn() {
+        // Act
+        TupleLayout.of("id", "name", "id");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void ofShouldThrowsIllegalArgumentExceptionForEmptyColumn() {
+        // Act
+        TupleLayout.of("id", "");
+    }
+
+    @Test
+    public void equalLayoutsShouldBeEqual() {
+        // Assert
+        assertEquals(TupleLayout.of("id", "name"), TupleLayout.of(Arrays.asList("id", "name")));
+        assertFalse(TupleLayout.of("id", "name").equals(TupleLayout.of("name", "id")));
+        assertEquals(TupleLayout.of("id", "name").hashCode(), TupleLayout.of("id", "name").hashCode());
+    }
+}
@@ -21,6 +21,26 @@ public class MappedPropertyImpl implements Annotation, MappedProperty {
         return null;
     }
 
+    @Override
+    public boolean cached() {
+        return false;
+    }
+
+    @Override
+    public long cacheSize() {
+        return 1024;
+    }
+
+    @Override
+    public long cacheTtlSeconds() {
+        return 0;
+    }
+
+    @Override
+    public boolean nullSafe() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object obj) {
         return false;
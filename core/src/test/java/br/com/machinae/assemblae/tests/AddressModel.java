@@ -0,0 +1,24 @@
+package br.com.machinae.assemblae.tests;
+
+/**
+ * Model nested in a customer, for testing.
+ */
+public class AddressModel {
+
+    private String city;
+
+    public AddressModel() {
+    }
+
+    public AddressModel(String city) {
+        this.city = city;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.machinae.assemblae.tests;
+
+import br.com.machinae.assemblae.annotation.DataTransferObject;
+
+/**
+ * DTO assembled by its constructor taking every field, for testing.
+ */
+@DataTransferObject
+public class AllArgsDTO {
+
+    private final Integer field;
+
+    private final Integer mapped;
+
+    public AllArgsDTO(Integer field, Integer mapped) {
+        this.field = field;
+        this.mapped = mapped;
+    }
+
+    public Integer getField() {
+        return field;
+    }
+
+    public Integer getMapped() {
+        return mapped;
+    }
+}
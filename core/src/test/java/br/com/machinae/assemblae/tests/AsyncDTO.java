@@ -0,0 +1,43 @@
+package br.com.machinae.assemblae.tests;
+
+import br.com.machinae.assemblae.annotation.DataTransferObject;
+import br.com.machinae.assemblae.annotation.MappedProperty;
+
+/**
+ * DTO with two async transformed properties and a blocking one, for testing.
+ */
+@DataTransferObject
+public class AsyncDTO {
+
+    @MappedProperty(to = "field", transformer = DelayedTransformer.class)
+    private Integer first;
+
+    @MappedProperty(to = "anotherField", transformer = DelayedTransformer.class)
+    private Integer second;
+
+    private Integer mapped;
+
+    public Integer getFirst() {
+        return first;
+    }
+
+    public void setFirst(Integer first) {
+        this.first = first;
+    }
+
+    public Integer getSecond() {
+        return second;
+    }
+
+    public void setSecond(Integer second) {
+        this.second = second;
+    }
+
+    public Integer getMapped() {
+        return mapped;
+    }
+
+    public void setMapped(Integer mapped) {
+        this.mapped = mapped;
+    }
+}
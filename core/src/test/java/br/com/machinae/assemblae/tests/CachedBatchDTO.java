@@ -0,0 +1,22 @@
+package br.com.machinae.assemblae.tests;
+
+import br.com.machinae.assemblae.annotation.DataTransferObject;
+import br.com.machinae.assemblae.annotation.MappedProperty;
+
+/**
+ * DTO with a cached batch transformer property, for testing.
+ */
+@DataTransferObject
+public class CachedBatchDTO {
+
+    @MappedProperty(to = "mapped", transformer = LookupTransformer.class, cached = true)
+    private String name;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.machinae.assemblae.tests;
+
+import br.com.machinae.assemblae.annotation.DataTransferObject;
+import br.com.machinae.assemblae.annotation.MappedProperty;
+
+/**
+ * DTO with a cached transformer property, for testing.
+ */
+@DataTransferObject
+public class CachedDTO {
+
+    @MappedProperty(to = "mapped", transformer = CountingTransformer.class, cached = true, cacheSize = 16)
+    private Integer counted;
+
+    public Integer getCounted() {
+        return counted;
+    }
+
+    public void setCounted(Integer counted) {
+        this.counted = counted;
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.machinae.assemblae.tests;
+
+import br.com.machinae.assemblae.LongToDoubleTransformer;
+
+/**
+ * Primitive transformer of cents to amounts for testing.
+ */
+public class CentsTransformer extends LongToDoubleTransformer {
+
+    @Override
+    public double transformAsDouble(long data) {
+        return data / 100.0;
+    }
+
+    @Override
+    public long reverseAsLong(double data) {
+        return Math.round(data * 100);
+    }
+}
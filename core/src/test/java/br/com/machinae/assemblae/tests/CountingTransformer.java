@@ -0,0 +1,25 @@
+package br.com.machinae.assemblae.tests;
+
+import br.com.machinae.assemblae.Transformer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Transformer counting its calls, adding one to the value, for testing.
+ */
+public class CountingTransformer implements Transformer<Integer, Integer> {
+
+    public static final AtomicInteger CALLS = new AtomicInteger();
+
+    @Override
+    public Integer transform(Integer data) {
+        CALLS.incrementAndGet();
+        return data == null ? null : data + 1;
+    }
+
+    @Override
+    public Integer reverse(Integer data) {
+        CALLS.incrementAndGet();
+        return data == null ? null : data - 1;
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.machinae.assemblae.tests;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Model with nested, indexed and mapped properties, for testing.
+ */
+public class CustomerModel {
+
+    private AddressModel address;
+
+    private List<String> phones;
+
+    private Map<String, String> attributes;
+
+    public CustomerModel() {
+    }
+
+    public CustomerModel(AddressModel address, List<String> phones, Map<String, String> attributes) {
+        this.address = address;
+        this.phones = phones;
+        this.attributes = attributes;
+    }
+
+    public AddressModel getAddress() {
+        return address;
+    }
+
+    public void setAddress(AddressModel address) {
+        this.address = address;
+    }
+
+    public List<String> getPhones() {
+        return phones;
+    }
+
+    public void setPhones(List<String> phones) {
+        this.phones = phones;
+    }
+
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    public void setAttributes(Map<String, String> attributes) {
+        this.attributes = attributes;
+    }
+}
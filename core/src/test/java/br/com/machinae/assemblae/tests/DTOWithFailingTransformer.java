@@ -0,0 +1,22 @@
+package br.com.machinae.assemblae.tests;
+
+import br.com.machinae.assemblae.annotation.DataTransferObject;
+import br.com.machinae.assemblae.annotation.MappedProperty;
+
+/**
+ * DTO with a property whose transformer fails, for testing.
+ */
+@DataTransferObject
+public class DTOWithFailingTransformer {
+
+    @MappedProperty(transformer = FailingTransformer.class)
+    private Integer field;
+
+    public Integer getField() {
+        return field;
+    }
+
+    public void setField(Integer field) {
+        this.field = field;
+    }
+}
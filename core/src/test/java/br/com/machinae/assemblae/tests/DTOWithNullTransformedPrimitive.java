@@ -0,0 +1,22 @@
+package br.com.machinae.assemblae.tests;
+
+import br.com.machinae.assemblae.annotation.DataTransferObject;
+import br.com.machinae.assemblae.annotation.MappedProperty;
+
+/**
+ * DTO with a primitive property whose transformer returns null, for testing.
+ */
+@DataTransferObject
+public class DTOWithNullTransformedPrimitive {
+
+    @MappedProperty(to = "anotherField", transformer = DummyTransformer.class)
+    private int field;
+
+    public int getField() {
+        return field;
+    }
+
+    public void setField(int field) {
+        this.field = field;
+    }
+}
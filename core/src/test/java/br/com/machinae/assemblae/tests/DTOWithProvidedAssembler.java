@@ -0,0 +1,33 @@
+package br.com.machinae.assemblae.tests;
+
+import br.com.machinae.assemblae.annotation.DataTransferObject;
+import br.com.machinae.assemblae.annotation.MappedProperty;
+
+/**
+ * DTO with an assembler provided as if generated at compile time, for testing
+ */
+@DataTransferObject(model = ModelWithProperties.class)
+public class DTOWithProvidedAssembler {
+
+    private Integer field;
+
+    @MappedProperty(to = "mapped", transformer = CountingTransformer.class)
+    private Integer counted;
+
+
+    public Integer getField() {
+        return field;
+    }
+
+    public void setField(Integer field) {
+        this.field = field;
+    }
+
+    public Integer getCounted() {
+        return counted;
+    }
+
+    public void setCounted(Integer counted) {
+        this.counted = counted;
+    }
+}
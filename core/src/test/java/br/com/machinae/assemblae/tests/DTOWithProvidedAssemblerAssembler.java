@@ -0,0 +1,32 @@
+package br.com.machinae.assemblae.tests;
+
+import br.com.machinae.assemblae.CompiledAssembler;
+import br.com.machinae.assemblae.Transformer;
+
+/**
+ * Assembler as generated by assemblae-processor for DTOWithProvidedAssembler, for testing
+ */
+public final class DTOWithProvidedAssemblerAssembler extends CompiledAssembler<ModelWithProperties, DTOWithProvidedAssembler> {
+
+    private Transformer<Object, Object> t0;
+
+    public DTOWithProvidedAssemblerAssembler() {
+        super(ModelWithProperties.class, DTOWithProvidedAssembler.class);
+    }
+
+    @Override
+    protected void init() {
+        this.t0 = transformer("counted");
+    }
+
+    @Override
+    protected DTOWithProvidedAssembler newInstance() {
+        return new DTOWithProvidedAssembler();
+    }
+
+    @Override
+    protected void copy(ModelWithProperties model, DTOWithProvidedAssembler dto) {
+        dto.setField(model.getField());
+        dto.setCounted((Integer) assignable(t0.transform(model.getMapped()), Integer.class, false, dto, "counted"));
+    }
+}
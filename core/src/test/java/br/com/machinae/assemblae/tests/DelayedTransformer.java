@@ -0,0 +1,70 @@
+package br.com.machinae.assemblae.tests;
+
+import br.com.machinae.assemblae.AsyncTransformer;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Async transformer multiplying the value by ten on its own threads, recording how many transformations run at
+ * once, for testing. When a barrier is set, each transformation waits for as many others as the barrier parties,
+ * and fails when they do not run concurrently. Negative values fail.
+ */
+public class DelayedTransformer implements AsyncTransformer<Integer, Integer> {
+
+    public static final AtomicInteger ACTIVE = new AtomicInteger();
+
+    public static final AtomicInteger MAX_ACTIVE = new AtomicInteger();
+
+    public static final AtomicReference<CyclicBarrier> BARRIER = new AtomicReference<CyclicBarrier>();
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setDaemon(true).build());
+
+    @Override
+    public CompletableFuture<Integer> transformAsync(final Integer data) {
+        return CompletableFuture.supplyAsync(new Supplier<Integer>() {
+            @Override
+            public Integer get() {
+                int active = ACTIVE.incrementAndGet();
+                int max = MAX_ACTIVE.get();
+                while (active > max && !MAX_ACTIVE.compareAndSet(max, active))
+                    max = MAX_ACTIVE.get();
+                try {
+                    CyclicBarrier barrier = BARRIER.get();
+                    if (barrier != null)
+                        barrier.await(5, TimeUnit.SECONDS);
+                    return transform(data);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                } catch (BrokenBarrierException e) {
+                    throw new IllegalStateException("Transformations did not run concurrently", e);
+                } catch (TimeoutException e) {
+                    throw new IllegalStateException("Transformations did not run concurrently", e);
+                } finally {
+                    ACTIVE.decrementAndGet();
+                }
+            }
+        }, EXECUTOR);
+    }
+
+    @Override
+    public Integer transform(Integer data) {
+        if (data != null && data < 0)
+            throw new IllegalArgumentException("Negative value");
+        return data == null ? null : data * 10;
+    }
+
+    @Override
+    public Integer reverse(Integer data) {
+        return data == null ? null : data / 10;
+    }
+}
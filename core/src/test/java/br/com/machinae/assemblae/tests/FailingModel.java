@@ -0,0 +1,15 @@
+package br.com.machinae.assemblae.tests;
+
+/**
+ * Model whose field getter fails, for testing.
+ */
+public class FailingModel {
+
+    public Integer getField() {
+        throw new IllegalStateException("Field can not be read");
+    }
+
+    public Integer getAnotherField() {
+        return null;
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.machinae.assemblae.tests;
+
+import br.com.machinae.assemblae.Transformer;
+
+/**
+ * Transformer failing on every call, for testing.
+ */
+public class FailingTransformer implements Transformer<Object, Object> {
+
+    @Override
+    public Object transform(Object data) {
+        throw new UnsupportedOperationException("Transformation failure");
+    }
+
+    @Override
+    public Object reverse(Object data) {
+        throw new UnsupportedOperationException("Transformation failure");
+    }
+}
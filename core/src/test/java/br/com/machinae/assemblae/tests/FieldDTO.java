@@ -0,0 +1,40 @@
+package br.com.machinae.assemblae.tests;
+
+import br.com.machinae.assemblae.AccessType;
+import br.com.machinae.assemblae.annotation.DataTransferObject;
+import br.com.machinae.assemblae.annotation.Ignore;
+import br.com.machinae.assemblae.annotation.MappedProperty;
+
+/**
+ * DTO accessed by fields, without accessors, for testing.
+ */
+@DataTransferObject(access = AccessType.FIELD)
+public class FieldDTO {
+
+    private Integer id;
+
+    @MappedProperty(to = "name")
+    private String label;
+
+    private int count;
+
+    @Ignore
+    private String code;
+
+    public Integer id() {
+        return id;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public FieldDTO label(String label) {
+        this.label = label;
+        return this;
+    }
+}
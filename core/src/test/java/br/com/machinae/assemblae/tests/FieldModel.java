@@ -0,0 +1,34 @@
+package br.com.machinae.assemblae.tests;
+
+/**
+ * Model with fields only, without accessors, for testing.
+ */
+public class FieldModel {
+
+    private Integer id;
+
+    private String name;
+
+    private int count;
+
+    private final String code;
+
+    public FieldModel(Integer id, String name, int count, String code) {
+        this.id = id;
+        this.name = name;
+        this.count = count;
+        this.code = code;
+    }
+
+    public Integer id() {
+        return id;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int count() {
+        return count;
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.machinae.assemblae.tests;
+
+import br.com.machinae.assemblae.annotation.DataTransferObject;
+import br.com.machinae.assemblae.annotation.MappedProperty;
+
+/**
+ * DTO flattening nested, indexed and mapped model properties, for testing.
+ */
+@DataTransferObject
+public class FlatCustomerDTO {
+
+    @MappedProperty(to = "address.city", nullSafe = true)
+    private String city;
+
+    @MappedProperty(to = "phones[0]")
+    private String phone;
+
+    @MappedProperty(to = "attributes(color)")
+    private String color;
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public void setPhone(String phone) {
+        this.phone = phone;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public void setColor(String color) {
+        this.color = color;
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.machinae.assemblae.tests;
+
+import br.com.machinae.assemblae.annotation.DataTransferObject;
+import br.com.machinae.assemblae.annotation.MappedProperty;
+
+/**
+ * DTO assembled by its constructor, with an async transformed property, for testing.
+ */
+@DataTransferObject
+public class ImmutableAsyncDTO {
+
+    @MappedProperty(to = "field", transformer = DelayedTransformer.class)
+    private final Integer first;
+
+    private final Integer mapped;
+
+    public ImmutableAsyncDTO(Integer first, Integer mapped) {
+        this.first = first;
+        this.mapped = mapped;
+    }
+
+    public Integer getFirst() {
+        return first;
+    }
+
+    public Integer getMapped() {
+        return mapped;
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.machinae.assemblae.tests;
+
+import br.com.machinae.assemblae.annotation.DataTransferObject;
+import br.com.machinae.assemblae.annotation.MappedProperty;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * DTO assembled by its annotated constructor, with a transformed property set afterwards, for testing.
+ */
+@DataTransferObject
+public class ImmutableDTO {
+
+    private final Integer field;
+
+    private final int anotherField;
+
+    @MappedProperty(to = "mapped", transformer = CountingTransformer.class)
+    private Integer counted;
+
+    @ConstructorProperties({"anotherField", "field"})
+    public ImmutableDTO(int anotherField, Integer field) {
+        this.anotherField = anotherField;
+        this.field = field;
+    }
+
+    public Integer getField() {
+        return field;
+    }
+
+    public int getAnotherField() {
+        return anotherField;
+    }
+
+    public Integer getCounted() {
+        return counted;
+    }
+
+    public void setCounted(Integer counted) {
+        this.counted = counted;
+    }
+}
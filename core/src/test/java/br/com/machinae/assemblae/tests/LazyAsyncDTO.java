@@ -0,0 +1,32 @@
+package br.com.machinae.assemblae.tests;
+
+import br.com.machinae.assemblae.annotation.DataTransferObject;
+import br.com.machinae.assemblae.annotation.MappedProperty;
+
+/**
+ * Lazy DTO with an async transformed property, for testing.
+ */
+@DataTransferObject(lazy = true)
+public class LazyAsyncDTO {
+
+    @MappedProperty(to = "field", transformer = DelayedTransformer.class)
+    private Integer first;
+
+    private Integer mapped;
+
+    public Integer getFirst() {
+        return first;
+    }
+
+    public void setFirst(Integer first) {
+        this.first = first;
+    }
+
+    public Integer getMapped() {
+        return mapped;
+    }
+
+    public void setMapped(Integer mapped) {
+        this.mapped = mapped;
+    }
+}
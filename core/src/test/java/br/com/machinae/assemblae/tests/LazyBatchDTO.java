@@ -0,0 +1,32 @@
+package br.com.machinae.assemblae.tests;
+
+import br.com.machinae.assemblae.annotation.DataTransferObject;
+import br.com.machinae.assemblae.annotation.MappedProperty;
+
+/**
+ * Lazy DTO with a batch transformed property, for testing.
+ */
+@DataTransferObject(lazy = true)
+public class LazyBatchDTO {
+
+    @MappedProperty(to = "mapped", transformer = LookupTransformer.class)
+    private String name;
+
+    private Integer field;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Integer getField() {
+        return field;
+    }
+
+    public void setField(Integer field) {
+        this.field = field;
+    }
+}
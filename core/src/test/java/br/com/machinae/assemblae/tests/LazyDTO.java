@@ -0,0 +1,42 @@
+package br.com.machinae.assemblae.tests;
+
+import br.com.machinae.assemblae.annotation.DataTransferObject;
+import br.com.machinae.assemblae.annotation.MappedProperty;
+
+/**
+ * Lazy DTO with a transformed property and an eager one for testing.
+ */
+@DataTransferObject(lazy = true)
+public class LazyDTO {
+
+    @MappedProperty(to = "mapped", transformer = CountingTransformer.class)
+    private Integer counted;
+
+    private Integer field;
+
+    private Integer anotherField;
+
+    public Integer getCounted() {
+        return counted;
+    }
+
+    public void setCounted(Integer counted) {
+        this.counted = counted;
+    }
+
+    public Integer getField() {
+        return field;
+    }
+
+    public void setField(Integer field) {
+        this.field = field;
+    }
+
+    public final Integer getAnotherField() {
+        return anotherField;
+    }
+
+    public void setAnotherField(Integer anotherField) {
+        this.anotherField = anotherField;
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.machinae.assemblae.tests;
+
+import br.com.machinae.assemblae.BatchTransformer;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Batch transformer resolving names from an in-memory repository by id, counting its lookups, for testing.
+ */
+public class LookupTransformer implements BatchTransformer<Integer, String> {
+
+    public static final Map<Integer, String> REPOSITORY = new HashMap<Integer, String>();
+
+    public static final AtomicInteger LOOKUPS = new AtomicInteger();
+
+    static {
+        REPOSITORY.put(1, "one");
+        REPOSITORY.put(2, "two");
+        REPOSITORY.put(3, "three");
+    }
+
+    @Override
+    public Map<Integer, String> transformAll(Collection<Integer> data) {
+        LOOKUPS.incrementAndGet();
+        Map<Integer, String> names = new HashMap<Integer, String>();
+        for (Integer id : data)
+            if (REPOSITORY.containsKey(id))
+                names.put(id, REPOSITORY.get(id));
+        return names;
+    }
+
+    @Override
+    public String transform(Integer data) {
+        LOOKUPS.incrementAndGet();
+        return data == null ? null : REPOSITORY.get(data);
+    }
+
+    @Override
+    public Integer reverse(String data) {
+        for (Map.Entry<Integer, String> entry : REPOSITORY.entrySet())
+            if (entry.getValue().equals(data))
+                return entry.getKey();
+        return null;
+    }
+}
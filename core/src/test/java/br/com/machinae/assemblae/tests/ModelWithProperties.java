@@ -0,0 +1,46 @@
+package br.com.machinae.assemblae.tests;
+
+/**
+ * Model with properties matching the testing DTOs.
+ */
+public class ModelWithProperties {
+
+    private Integer field;
+
+    private Integer anotherField;
+
+    private Integer mapped;
+
+    public ModelWithProperties() {
+    }
+
+    public ModelWithProperties(Integer field, Integer anotherField, Integer mapped) {
+        this.field = field;
+        this.anotherField = anotherField;
+        this.mapped = mapped;
+    }
+
+    public Integer getField() {
+        return field;
+    }
+
+    public void setField(Integer field) {
+        this.field = field;
+    }
+
+    public Integer getAnotherField() {
+        return anotherField;
+    }
+
+    public void setAnotherField(Integer anotherField) {
+        this.anotherField = anotherField;
+    }
+
+    public Integer getMapped() {
+        return mapped;
+    }
+
+    public void setMapped(Integer mapped) {
+        this.mapped = mapped;
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.machinae.assemblae.tests;
+
+import br.com.machinae.assemblae.annotation.DataTransferObject;
+
+import java.util.List;
+
+/**
+ * DTO with nested DTO properties for testing.
+ */
+@DataTransferObject
+public class NodeDTO {
+
+    private String name;
+
+    private NodeDTO parent;
+
+    private NodeDTO owner;
+
+    private List<NodeDTO> children;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public NodeDTO getParent() {
+        return parent;
+    }
+
+    public void setParent(NodeDTO parent) {
+        this.parent = parent;
+    }
+
+    public NodeDTO getOwner() {
+        return owner;
+    }
+
+    public void setOwner(NodeDTO owner) {
+        this.owner = owner;
+    }
+
+    public List<NodeDTO> getChildren() {
+        return children;
+    }
+
+    public void setChildren(List<NodeDTO> children) {
+        this.children = children;
+    }
+}
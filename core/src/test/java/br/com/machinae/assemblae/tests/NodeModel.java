@@ -0,0 +1,63 @@
+package br.com.machinae.assemblae.tests;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Model of an object graph, with shared and cyclic references, for testing.
+ */
+public class NodeModel {
+
+    private String name;
+
+    private NodeModel parent;
+
+    private NodeModel owner;
+
+    private List<NodeModel> children = new ArrayList<NodeModel>();
+
+    public NodeModel() {
+    }
+
+    public NodeModel(String name) {
+        this.name = name;
+    }
+
+    public NodeModel addChild(NodeModel child) {
+        children.add(child);
+        child.setParent(this);
+        return child;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public NodeModel getParent() {
+        return parent;
+    }
+
+    public void setParent(NodeModel parent) {
+        this.parent = parent;
+    }
+
+    public NodeModel getOwner() {
+        return owner;
+    }
+
+    public void setOwner(NodeModel owner) {
+        this.owner = owner;
+    }
+
+    public List<NodeModel> getChildren() {
+        return children;
+    }
+
+    public void setChildren(List<NodeModel> children) {
+        this.children = children;
+    }
+}
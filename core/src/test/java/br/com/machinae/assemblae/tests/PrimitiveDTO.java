@@ -0,0 +1,42 @@
+package br.com.machinae.assemblae.tests;
+
+import br.com.machinae.assemblae.annotation.DataTransferObject;
+import br.com.machinae.assemblae.annotation.MappedProperty;
+
+/**
+ * DTO with primitive properties, copied as is and through a primitive transformer, for testing.
+ */
+@DataTransferObject
+public class PrimitiveDTO {
+
+    private int count;
+
+    @MappedProperty(to = "cents", transformer = CentsTransformer.class)
+    private double amount;
+
+    private int boxed;
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public double getAmount() {
+        return amount;
+    }
+
+    public void setAmount(double amount) {
+        this.amount = amount;
+    }
+
+    public int getBoxed() {
+        return boxed;
+    }
+
+    public void setBoxed(int boxed) {
+        this.boxed = boxed;
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.machinae.assemblae.tests;
+
+/**
+ * Model with primitive properties for testing.
+ */
+public class PrimitiveModel {
+
+    private int count;
+
+    private long cents;
+
+    private Integer boxed;
+
+    public PrimitiveModel() {
+    }
+
+    public PrimitiveModel(int count, long cents, Integer boxed) {
+        this.count = count;
+        this.cents = cents;
+        this.boxed = boxed;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public long getCents() {
+        return cents;
+    }
+
+    public void setCents(long cents) {
+        this.cents = cents;
+    }
+
+    public Integer getBoxed() {
+        return boxed;
+    }
+
+    public void setBoxed(Integer boxed) {
+        this.boxed = boxed;
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.machinae.assemblae.tests;
+
+import br.com.machinae.assemblae.annotation.DataTransferObject;
+import br.com.machinae.assemblae.annotation.MappedProperty;
+
+/**
+ * DTO tracking its changes, with a transformed property, for testing.
+ */
+@DataTransferObject(trackChanges = true)
+public class TrackedDTO {
+
+    @MappedProperty(to = "mapped", transformer = CountingTransformer.class)
+    private Integer counted;
+
+    private Integer field;
+
+    public Integer getCounted() {
+        return counted;
+    }
+
+    public void setCounted(Integer counted) {
+        this.counted = counted;
+    }
+
+    public Integer getField() {
+        return field;
+    }
+
+    public void setField(Integer field) {
+        this.field = field;
+    }
+}
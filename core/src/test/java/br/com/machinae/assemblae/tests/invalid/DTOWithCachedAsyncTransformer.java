@@ -0,0 +1,23 @@
+package br.com.machinae.assemblae.tests.invalid;
+
+import br.com.machinae.assemblae.annotation.DataTransferObject;
+import br.com.machinae.assemblae.annotation.MappedProperty;
+import br.com.machinae.assemblae.tests.DelayedTransformer;
+
+/**
+ * DTO caching the results of an async transformer, which can not be cached, for testing.
+ */
+@DataTransferObject
+public class DTOWithCachedAsyncTransformer {
+
+    @MappedProperty(to = "field", transformer = DelayedTransformer.class, cached = true)
+    private Integer field;
+
+    public Integer getField() {
+        return field;
+    }
+
+    public void setField(Integer field) {
+        this.field = field;
+    }
+}
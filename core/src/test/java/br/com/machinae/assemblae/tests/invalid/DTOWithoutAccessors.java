@@ -0,0 +1,12 @@
+package br.com.machinae.assemblae.tests.invalid;
+
+import br.com.machinae.assemblae.annotation.DataTransferObject;
+
+/**
+ * DTO with a property without getter and setter, for testing.
+ */
+@DataTransferObject
+public class DTOWithoutAccessors {
+
+    private String property;
+}
@@ -0,0 +1,24 @@
+package br.com.machinae.assemblae.tests.invalid;
+
+import br.com.machinae.assemblae.annotation.DataTransferObject;
+
+/**
+ * DTO that can not be instantiated, its only constructor does not take its properties, for testing.
+ */
+@DataTransferObject
+public class DTOWithoutDefaultConstructor {
+
+    private String property;
+
+    public DTOWithoutDefaultConstructor(String property, int length) {
+        this.property = property.substring(0, length);
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public void setProperty(String property) {
+        this.property = property;
+    }
+}
@@ -0,0 +1,514 @@
+package br.com.machinae.assemblae.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static java.lang.String.format;
+
+/**
+ * Annotation processor generating, for each {@code @DataTransferObject} declaring its model class, a
+ * {@code CompiledAssembler} source with plain getter/setter calls, registered as a {@link java.util.ServiceLoader}
+ * provider so Assemblae uses it instead of runtime generation or reflection. Transformers are taken from the plan
+ * the assembler is bound to, so they come from the registry of the assembling engine.
+ *
+ * Mapping errors (unknown model properties, DTO properties without setter, incompatible types without a
+ * transformer) are reported as compilation errors. DTOs using nested, indexed or mapped model properties, and
+ * DTOs built by their constructor, records included, are left to the runtime assemblers.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+@SupportedAnnotationTypes(AssemblaeProcessor.DATA_TRANSFER_OBJECT)
+public class AssemblaeProcessor extends AbstractProcessor {
+
+    static final String DATA_TRANSFER_OBJECT = "br.com.machinae.assemblae.annotation.DataTransferObject";
+
+    static final String MAPPED_PROPERTY = "br.com.machinae.assemblae.annotation.MappedProperty";
+
+    static final String IGNORE = "br.com.machinae.assemblae.annotation.Ignore";
+
+    static final String NO_TRANSFORMATION = "br.com.machinae.assemblae.NoTransformation";
+
+    static final String BATCH_TRANSFORMER = "br.com.machinae.assemblae.BatchTransformer";
+
+    /**
+     * Primitive transformers: class, model type, dto type, transform method and reverse method.
+     */
+    private static final String[][] PRIMITIVE_TRANSFORMERS = {
+            {"br.com.machinae.assemblae.IntTransformer", "int", "int", "transformAsInt", "reverseAsInt"},
+            {"br.com.machinae.assemblae.LongTransformer", "long", "long", "transformAsLong", "reverseAsLong"},
+            {"br.com.machinae.assemblae.DoubleTransformer", "double", "double", "transformAsDouble", "reverseAsDouble"},
+            {"br.com.machinae.assemblae.LongToDoubleTransformer", "long", "double", "transformAsDouble", "reverseAsLong"}
+    };
+
+    static final String SERVICE_FILE = "META-INF/services/br.com.machinae.assemblae.CompiledAssembler";
+
+    private final Set<String> generated = new TreeSet<String>();
+
+    private int errors;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+
+        TypeElement annotation = processingEnv.getElementUtils().getTypeElement(DATA_TRANSFER_OBJECT);
+        if (annotation == null)
+            return false;
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(annotation))
+            if (element.getKind() == ElementKind.CLASS)
+                process((TypeElement) element);
+
+        return false;
+    }
+
+    private void process(TypeElement dto) {
+        AnnotationMirror dtoAnnotation = annotation(dto, DATA_TRANSFER_OBJECT);
+        TypeMirror modelType = classValue(dtoAnnotation, "model");
+        if (modelType == null || modelType.getKind() != TypeKind.DECLARED || isVoid(modelType))
+            return;
+
+        // lazy DTOs are runtime proxies and field access is reflective, a compiled assembler would not be used
+        if ("true".equals(stringValue(dtoAnnotation, "lazy")) || "FIELD".equals(stringValue(dtoAnnotation, "access")))
+            return;
+
+        TypeElement model = (TypeElement) types().asElement(modelType);
+        if (!isInstantiable(dto) || !isAccessible(model, dto))
+            return;
+
+        int errorsBefore = errors;
+
+        List<String> statements = new ArrayList<String>();
+        List<String> reverseStatements = new ArrayList<String>();
+        List<String> transformers = new ArrayList<String>();
+
+        for (VariableElement field : ElementFilter.fieldsIn(dto.getEnclosedElements())) {
+            if (field.getModifiers().contains(Modifier.STATIC) || annotation(field, IGNORE) != null)
+                continue;
+
+            AnnotationMirror mapped = annotation(field, MAPPED_PROPERTY);
+            String dtoProperty = field.getSimpleName().toString();
+            String modelProperty = dtoProperty;
+            TypeMirror transformer = null;
+
+            if (mapped != null) {
+                String to = stringValue(mapped, "to");
+                if (to != null && !to.isEmpty())
+                    modelProperty = to;
+                transformer = classValue(mapped, "transformer");
+                if (transformer != null && qualifiedName(transformer).equals(NO_TRANSFORMATION))
+                    transformer = null;
+                if (transformer != null && "true".equals(stringValue(mapped, "cached"))) {
+                    messager().printMessage(Diagnostic.Kind.NOTE, format("Property '%s' has a cached transformer, %s will be assembled at runtime",
+                            dtoProperty, dto.getQualifiedName()), field);
+                    return;
+                }
+                if (transformer != null && isBatchTransformer(transformer)) {
+                    messager().printMessage(Diagnostic.Kind.NOTE, format("Property '%s' has a batch transformer, %s will be assembled at runtime",
+                            dtoProperty, dto.getQualifiedName()), field);
+                    return;
+                }
+            }
+
+            if (modelProperty.indexOf('.') >= 0 || modelProperty.indexOf('[') >= 0 || modelProperty.indexOf('(') >= 0) {
+                messager().printMessage(Diagnostic.Kind.NOTE, format("Property '%s' maps nested model property '%s', %s will be assembled at runtime",
+                        dtoProperty, modelProperty, dto.getQualifiedName()), field);
+                return;
+            }
+
+            if (transformer == null && isNestedDTO(field.asType())) {
+                messager().printMessage(Diagnostic.Kind.NOTE, format("Property '%s' is a nested DTO, %s will be assembled at runtime",
+                        dtoProperty, dto.getQualifiedName()), field);
+                return;
+            }
+
+            ExecutableElement getter = getter(model, modelProperty);
+            if (getter == null) {
+                error(field, "Unknown property '%s' on model %s", modelProperty, model.getQualifiedName());
+                continue;
+            }
+
+            ExecutableElement setter = setter(dto, dtoProperty);
+            if (setter == null) {
+                error(field, "Property '%s' has no public setter on %s", dtoProperty, dto.getQualifiedName());
+                continue;
+            }
+
+            TypeMirror valueType = ((ExecutableType) types().asMemberOf((DeclaredType) modelType, getter)).getReturnType();
+            TypeMirror targetType = ((ExecutableType) types().asMemberOf((DeclaredType) dto.asType(), setter)).getParameterTypes().get(0);
+            String read = format("model.%s()", getter.getSimpleName());
+
+            // the reverse copy is generated only when every property can be written back to the model
+            ExecutableElement reverseGetter = getter(dto, dtoProperty);
+            ExecutableElement reverseSetter = setter(model, modelProperty);
+            if (reverseGetter == null || reverseSetter == null)
+                reverseStatements = null;
+
+            if (transformer == null) {
+                if (!isAssignable(valueType, targetType)) {
+                    error(field, "Model property '%s' of type %s can not be assigned to %s without a transformer",
+                            modelProperty, valueType, targetType);
+                    continue;
+                }
+                statements.addAll(copy(valueType, read, targetType, assigned(valueType, targetType, "dto", dtoProperty),
+                        "dto", setter));
+
+                if (reverseStatements != null) {
+                    TypeMirror reverseType = ((ExecutableType) types().asMemberOf((DeclaredType) modelType, reverseSetter)).getParameterTypes().get(0);
+                    TypeMirror dtoValueType = ((ExecutableType) types().asMemberOf((DeclaredType) dto.asType(), reverseGetter)).getReturnType();
+                    if (isAssignable(dtoValueType, reverseType))
+                        reverseStatements.addAll(copy(dtoValueType, format("dto.%s()", reverseGetter.getSimpleName()), reverseType,
+                                assigned(dtoValueType, reverseType, "model", modelProperty), "model", reverseSetter));
+                    else
+                        reverseStatements = null;
+                }
+            } else {
+                String name = "t" + transformers.size();
+                transformers.add(format("this.%s = transformer(\"%s\");", name, dtoProperty));
+                String[] primitive = primitiveTransformer(transformer);
+                String transform = checked(format("%s.transform(value)", name), targetType, "dto", dtoProperty);
+                if (primitive != null && valueType.toString().equals(primitive[1]) && targetType.toString().equals(primitive[2]))
+                    transform = format("(Object) %s instanceof %s ? ((%s) (Object) %s).%s(value) : %s", name, primitive[0], primitive[0], name, primitive[3], transform);
+                statements.addAll(copy(valueType, read, targetType, transform, "dto", setter));
+
+                if (reverseStatements != null) {
+                    TypeMirror reverseType = ((ExecutableType) types().asMemberOf((DeclaredType) modelType, reverseSetter)).getParameterTypes().get(0);
+                    TypeMirror dtoValueType = ((ExecutableType) types().asMemberOf((DeclaredType) dto.asType(), reverseGetter)).getReturnType();
+                    String reverse = checked(format("%s.reverse(value)", name), reverseType, "model", modelProperty);
+                    if (primitive != null && dtoValueType.toString().equals(primitive[2]) && reverseType.toString().equals(primitive[1]))
+                        reverse = format("(Object) %s instanceof %s ? ((%s) (Object) %s).%s(value) : %s", name, primitive[0], primitive[0], name, primitive[4], reverse);
+                    reverseStatements.addAll(copy(dtoValueType, format("dto.%s()", reverseGetter.getSimpleName()), reverseType,
+                            reverse, "model", reverseSetter));
+                }
+            }
+        }
+
+        if (errors == errorsBefore)
+            write(dto, model, statements, reverseStatements, transformers);
+    }
+
+    private void write(TypeElement dto, TypeElement model, List<String> statements, List<String> reverseStatements,
+                       List<String> transformers) {
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(dto);
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String simpleName = binaryName(dto).substring(packageName.isEmpty() ? 0 : packageName.length() + 1).replace('$', '_') + "Assembler";
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        String dtoName = dto.getQualifiedName().toString();
+        String modelName = model.getQualifiedName().toString();
+
+        try {
+            JavaFileObject source = processingEnv.getFiler().createSourceFile(qualifiedName, dto);
+            Writer writer = source.openWriter();
+            try {
+                if (!packageName.isEmpty())
+                    writer.write(format("package %s;%n%n", packageName));
+                writer.write(format("import br.com.machinae.assemblae.CompiledAssembler;%n"));
+                writer.write(format("import br.com.machinae.assemblae.Transformer;%n%n"));
+                writer.write(format("/**%n * Assembler of %s from %s, generated by %s.%n */%n", dtoName, modelName, getClass().getName()));
+                writer.write(format("public final class %s extends CompiledAssembler<%s, %s> {%n%n", simpleName, modelName, dtoName));
+                for (int i = 0; i < transformers.size(); i++)
+                    writer.write(format("    private Transformer<Object, Object> t%d;%n%n", i));
+                writer.write(format("    public %s() {%n        super(%s.class, %s.class);%n    }%n%n", simpleName, modelName, dtoName));
+                if (!transformers.isEmpty()) {
+                    writer.write(format("    @Override%n    protected void init() {%n"));
+                    for (String transformer : transformers)
+                        writer.write(format("        %s%n", transformer));
+                    writer.write(format("    }%n%n"));
+                }
+                writer.write(format("    @Override%n    protected %s newInstance() {%n        return new %s();%n    }%n%n", dtoName, dtoName));
+                writer.write(format("    @Override%n    @SuppressWarnings(\"unchecked\")%n    protected void copy(%s model, %s dto) {%n", modelName, dtoName));
+                for (String statement : statements)
+                    writer.write(format("        %s%n", statement));
+                writer.write(format("    }%n"));
+                if (reverseStatements != null) {
+                    writer.write(format("%n    @Override%n    @SuppressWarnings(\"unchecked\")%n    protected void copyBack(%s dto, %s model) {%n", dtoName, modelName));
+                    for (String statement : reverseStatements)
+                        writer.write(format("        %s%n", statement));
+                    writer.write(format("    }%n"));
+                }
+                writer.write(format("}%n"));
+            } finally {
+                writer.close();
+            }
+            generated.add(qualifiedName);
+        } catch (IOException e) {
+            error(dto, "Assembler generation error: %s", e.getMessage());
+        }
+    }
+
+    private void writeServiceFile() {
+        if (generated.isEmpty())
+            return;
+
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            Writer writer = file.openWriter();
+            try {
+                for (String name : generated)
+                    writer.write(format("%s%n", name));
+            } finally {
+                writer.close();
+            }
+        } catch (IOException e) {
+            messager().printMessage(Diagnostic.Kind.ERROR, "Assemblers service file error: " + e.getMessage());
+        }
+    }
+
+    private boolean isInstantiable(TypeElement dto) {
+        if (dto.getModifiers().contains(Modifier.ABSTRACT) || !dto.getModifiers().contains(Modifier.PUBLIC)
+                || dto.getNestingKind().isNested() && !dto.getModifiers().contains(Modifier.STATIC)) {
+            error(dto, "DTO %s must be a public, concrete and static class to be assembled", dto.getQualifiedName());
+            return false;
+        }
+
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(dto.getEnclosedElements()))
+            if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC))
+                return true;
+
+        // constructor DTOs, all-args or @ConstructorProperties ones, are instantiated by the runtime assemblers
+        messager().printMessage(Diagnostic.Kind.NOTE, format("DTO %s has no public no-arg constructor, it will be assembled at runtime",
+                dto.getQualifiedName()), dto);
+        return false;
+    }
+
+    /**
+     * Statements copying a property, in their own block: the value is read, converted and written, getter and
+     * setter failures are thrown as copy errors, and transformer failures as they are, like the runtime assemblers do.
+     *
+     * @param valueType type read
+     * @param read expression reading the value
+     * @param targetType type written
+     * @param conversion expression converting {@code value} to targetType
+     * @param target variable of the object written
+     * @param setter setter of target
+     * @return statements
+     */
+    private static List<String> copy(TypeMirror valueType, String read, TypeMirror targetType, String conversion,
+                                     String target, ExecutableElement setter) {
+        List<String> statements = new ArrayList<String>();
+        statements.add("{");
+        statements.add(format("    %s value;", valueType));
+        statements.add("    try {");
+        statements.add(format("        value = %s;", read));
+        statements.add("    } catch (Exception e) {");
+        statements.add("        throw copyError(e);");
+        statements.add("    }");
+        statements.add(format("    %s result = %s;", targetType, conversion));
+        statements.add("    try {");
+        statements.add(format("        %s.%s(result);", target, setter.getSimpleName()));
+        statements.add("    } catch (Exception e) {");
+        statements.add("        throw copyError(e);");
+        statements.add("    }");
+        statements.add("}");
+        return statements;
+    }
+
+    /**
+     * The runtime rule for values set without a transformer: the boxed value type must be assignable to the
+     * boxed target type, so boxing and unboxing are allowed, but not primitive widening.
+     *
+     * @return true when values of valueType can be set to targetType
+     */
+    private boolean isAssignable(TypeMirror valueType, TypeMirror targetType) {
+        return types().isAssignable(boxedType(valueType), boxedType(targetType));
+    }
+
+    private TypeMirror boxedType(TypeMirror type) {
+        return type.getKind().isPrimitive() ? types().boxedClass(types().getPrimitiveType(type.getKind())).asType() : type;
+    }
+
+    /**
+     * @return expression assigning {@code value} of valueType to targetType, checking unboxed values as the
+     * runtime assemblers do
+     */
+    private String assigned(TypeMirror valueType, TypeMirror targetType, String target, String property) {
+        if (targetType.getKind().isPrimitive() && !valueType.getKind().isPrimitive())
+            return checked("value", targetType, target, property);
+        return "value";
+    }
+
+    /**
+     * @return expression casting the object returned by expression to type, once checked as the runtime
+     * assemblers check it
+     */
+    private String checked(String expression, TypeMirror type, String target, String property) {
+        String boxed = boxed(type);
+        String erased = type.getKind().isPrimitive() ? boxed : types().erasure(type).toString();
+        return format("(%s) assignable(%s, %s.class, %s, %s, \"%s\")", boxed, expression, erased, type.getKind().isPrimitive(),
+                target, property);
+    }
+
+    /**
+     * @return true for DTO types and collections of them, which are assembled as object graphs at runtime
+     */
+    private boolean isNestedDTO(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED)
+            return false;
+
+        if (annotation(types().asElement(type), DATA_TRANSFER_OBJECT) != null)
+            return true;
+
+        TypeMirror collection = types().erasure(elements().getTypeElement("java.util.Collection").asType());
+        List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+        return types().isAssignable(types().erasure(type), collection) && arguments.size() == 1
+                && arguments.get(0).getKind() == TypeKind.DECLARED
+                && annotation(types().asElement(arguments.get(0)), DATA_TRANSFER_OBJECT) != null;
+    }
+
+    /**
+     * @return the primitive transformer row of transformer, null when it is not a primitive transformer. Generated
+     * code still checks the type of the instance taken from the registry.
+     */
+    private String[] primitiveTransformer(TypeMirror transformer) {
+        for (String[] primitive : PRIMITIVE_TRANSFORMERS) {
+            TypeElement type = elements().getTypeElement(primitive[0]);
+            if (type != null && types().isSubtype(transformer, type.asType()))
+                return primitive;
+        }
+        return null;
+    }
+
+    /**
+     * @return true for batch transformers, whose batches are gathered by the runtime assemblers only
+     */
+    private boolean isBatchTransformer(TypeMirror transformer) {
+        TypeElement batch = elements().getTypeElement(BATCH_TRANSFORMER);
+        return batch != null && types().isSubtype(types().erasure(transformer), types().erasure(batch.asType()));
+    }
+
+    private boolean isAccessible(TypeElement model, TypeElement dto) {
+        if (model.getModifiers().contains(Modifier.PUBLIC)
+                || elements().getPackageOf(model).equals(elements().getPackageOf(dto)) && !model.getModifiers().contains(Modifier.PRIVATE))
+            return true;
+
+        error(dto, "Model %s is not accessible from DTO %s", model.getQualifiedName(), dto.getQualifiedName());
+        return false;
+    }
+
+    private ExecutableElement getter(TypeElement type, String property) {
+        String suffix = capitalize(property);
+        for (ExecutableElement method : ElementFilter.methodsIn(elements().getAllMembers(type))) {
+            if (!isPublicInstance(method) || !method.getParameters().isEmpty())
+                continue;
+
+            String name = method.getSimpleName().toString();
+            if (name.equals("get" + suffix) && method.getReturnType().getKind() != TypeKind.VOID
+                    || name.equals("is" + suffix) && method.getReturnType().getKind() == TypeKind.BOOLEAN)
+                return method;
+        }
+        return null;
+    }
+
+    private ExecutableElement setter(TypeElement type, String property) {
+        String name = "set" + capitalize(property);
+        for (ExecutableElement method : ElementFilter.methodsIn(elements().getAllMembers(type)))
+            if (isPublicInstance(method) && method.getParameters().size() == 1 && method.getSimpleName().contentEquals(name))
+                return method;
+        return null;
+    }
+
+    private static boolean isPublicInstance(ExecutableElement method) {
+        return method.getModifiers().contains(Modifier.PUBLIC) && !method.getModifiers().contains(Modifier.STATIC);
+    }
+
+    private String boxed(TypeMirror type) {
+        if (type.getKind().isPrimitive())
+            return types().boxedClass(types().getPrimitiveType(type.getKind())).getQualifiedName().toString();
+        return type.toString();
+    }
+
+    private String binaryName(TypeElement type) {
+        return elements().getBinaryName(type).toString();
+    }
+
+    private static String capitalize(String property) {
+        return Character.toUpperCase(property.charAt(0)) + property.substring(1);
+    }
+
+    private boolean isVoid(TypeMirror type) {
+        return qualifiedName(type).equals(Void.class.getName());
+    }
+
+    private String qualifiedName(TypeMirror type) {
+        return ((TypeElement) types().asElement(type)).getQualifiedName().toString();
+    }
+
+    private static AnnotationMirror annotation(Element element, String annotationName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors())
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName))
+                return mirror;
+        return null;
+    }
+
+    private static TypeMirror classValue(AnnotationMirror mirror, String name) {
+        AnnotationValue value = value(mirror, name);
+        return value != null && value.getValue() instanceof DeclaredType ? (TypeMirror) value.getValue() : null;
+    }
+
+    private static String stringValue(AnnotationMirror mirror, String name) {
+        AnnotationValue value = value(mirror, name);
+        return value != null ? value.getValue().toString() : null;
+    }
+
+    private static AnnotationValue value(AnnotationMirror mirror, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet())
+            if (entry.getKey().getSimpleName().contentEquals(name))
+                return entry.getValue();
+        return null;
+    }
+
+    private void error(Element element, String message, Object... args) {
+        errors++;
+        messager().printMessage(Diagnostic.Kind.ERROR, format(message, args), element);
+    }
+
+    private Messager messager() {
+        return processingEnv.getMessager();
+    }
+
+    private Types types() {
+        return processingEnv.getTypeUtils();
+    }
+
+    private Elements elements() {
+        return processingEnv.getElementUtils();
+    }
+}
@@ -0,0 +1,361 @@
+package br.com.machinae.assemblae.processor;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for AssemblaeProcessor, compiling sample sources with the processor enabled.
+ *
+ * @author Welington Veiga
+ * @version 1.0.0
+ */
+public class AssemblaeProcessorTest {
+
+    private static final String MODEL = "package sample;\n"
+            + "public class Model {\n"
+            + "    public Integer getId() { return 1; }\n"
+            + "    public String getName() { return \"name\"; }\n"
+            + "}\n";
+
+    private File sources;
+
+    private File classes;
+
+    private DiagnosticCollector<JavaFileObject> diagnostics;
+
+    @Before
+    public void setUp() throws IOException {
+        sources = Files.createTempDirectory("sources").toFile();
+        classes = Files.createTempDirectory("classes").toFile();
+        diagnostics = new DiagnosticCollector<JavaFileObject>();
+    }
+
+    @Test
+    public void processShouldGenerateAssemblerAndServiceFile() throws Exception {
+        // Arrange
+        String dto = "package sample;\n"
+                + "import br.com.machinae.assemblae.annotation.*;\n"
+                + "@DataTransferObject(model = Model.class)\n"
+                + "public class ModelDTO {\n"
+                + "    private Integer id;\n"
+                + "    @MappedProperty(to = \"name\") private String label;\n"
+                + "    @Ignore private String ignored;\n"
+                + "    public void setId(Integer id) { this.id = id; }\n"
+                + "    public void setLabel(String label) { this.label = label; }\n"
+                + "}\n";
+
+        // Act
+        boolean success = compile(MODEL, dto);
+
+        // Assert
+        assertTrue(diagnostics.getDiagnostics().toString(), success);
+        assertTrue(new File(classes, "sample/ModelDTOAssembler.class").exists());
+
+        List<String> services = Files.readAllLines(new File(classes, AssemblaeProcessor.SERVICE_FILE).toPath());
+        assertEquals(Arrays.asList("sample.ModelDTOAssembler"), services);
+    }
+
+    @Test
+    public void processShouldGenerateReverseCopyForWritableModel() throws Exception {
+        // Arrange
+        String model = "package sample;\n"
+                + "public class WritableModel {\n"
+                + "    private Integer id;\n"
+                + "    public Integer getId() { return id; }\n"
+                + "    public void setId(Integer id) { this.id = id; }\n"
+                + "}\n";
+        String dto = "package sample;\n"
+                + "import br.com.machinae.assemblae.annotation.*;\n"
+                + "@DataTransferObject(model = WritableModel.class)\n"
+                + "public class WritableDTO {\n"
+                + "    private Integer id;\n"
+                + "    public Integer getId() { return id; }\n"
+                + "    public void setId(Integer id) { this.id = id; }\n"
+                + "}\n";
+
+        // Act
+        boolean success = compile(model, dto);
+
+        // Assert
+        assertTrue(diagnostics.getDiagnostics().toString(), success);
+        String source = new String(Files.readAllBytes(new File(classes, "sample/WritableDTOAssembler.java").toPath()), "UTF-8");
+        assertTrue(source, source.contains("protected void copyBack(sample.WritableDTO dto, sample.WritableModel model)"));
+        assertTrue(source, source.contains("value = dto.getId();"));
+        assertTrue(source, source.contains("model.setId(result);"));
+    }
+
+    @Test
+    public void processShouldNotGenerateReverseCopyForReadOnlyModel() throws Exception {
+        // Arrange
+        String dto = "package sample;\n"
+                + "import br.com.machinae.assemblae.annotation.*;\n"
+                + "@DataTransferObject(model = Model.class)\n"
+                + "public class ModelDTO {\n"
+                + "    private Integer id;\n"
+                + "    public Integer getId() { return id; }\n"
+                + "    public void setId(Integer id) { this.id = id; }\n"
+                + "}\n";
+
+        // Act
+        boolean success = compile(MODEL, dto);
+
+        // Assert
+        assertTrue(diagnostics.getDiagnostics().toString(), success);
+        String source = new String(Files.readAllBytes(new File(classes, "sample/ModelDTOAssembler.java").toPath()), "UTF-8");
+        assertFalse(source, source.contains("copyBack"));
+    }
+
+    @Test
+    public void processShouldCallPrimitiveTransformersWithoutBoxing() throws Exception {
+        // Arrange
+        String transformer = "package sample;\n"
+                + "public class Cents extends br.com.machinae.assemblae.LongToDoubleTransformer {\n"
+                + "    public double transformAsDouble(long data) { return data / 100.0; }\n"
+                + "    public long reverseAsLong(double data) { return Math.round(data * 100); }\n"
+                + "}\n";
+        String model = "package sample;\n"
+                + "public class Price {\n"
+                + "    public long getCents() { return 0; }\n"
+                + "    public void setCents(long cents) { }\n"
+                + "}\n";
+        String dto = "package sample;\n"
+                + "import br.com.machinae.assemblae.annotation.*;\n"
+                + "@DataTransferObject(model = Price.class)\n"
+                + "public class PriceDTO {\n"
+                + "    @MappedProperty(to = \"cents\", transformer = Cents.class) private double amount;\n"
+                + "    public double getAmount() { return amount; }\n"
+                + "    public void setAmount(double amount) { this.amount = amount; }\n"
+                + "}\n";
+
+        // Act
+        boolean success = compile(transformer, model, dto);
+
+        // Assert
+        assertTrue(diagnostics.getDiagnostics().toString(), success);
+        String source = new String(Files.readAllBytes(new File(classes, "sample/PriceDTOAssembler.java").toPath()), "UTF-8");
+        assertTrue(source, source.contains("value = model.getCents();"));
+        assertTrue(source, source.contains(".transformAsDouble(value)"));
+        assertTrue(source, source.contains("value = dto.getAmount();"));
+        assertTrue(source, source.contains(".reverseAsLong(value)"));
+        assertTrue(source, source.contains("this.t0 = transformer(\"amount\");"));
+        assertFalse(source, source.contains("getTransformerRegistry"));
+    }
+
+    @Test
+    public void processShouldLeaveNestedDTOsToRuntime() throws Exception {
+        // Arrange
+        String model = "package sample;\n"
+                + "public class Tree {\n"
+                + "    public java.util.List<Tree> getChildren() { return null; }\n"
+                + "}\n";
+        String dto = "package sample;\n"
+                + "import br.com.machinae.assemblae.annotation.*;\n"
+                + "@DataTransferObject(model = Tree.class)\n"
+                + "public class TreeDTO {\n"
+                + "    private java.util.List<TreeDTO> children;\n"
+                + "    public void setChildren(java.util.List<TreeDTO> children) { this.children = children; }\n"
+                + "}\n";
+
+        // Act
+        boolean success = compile(model, dto);
+
+        // Assert
+        assertTrue(diagnostics.getDiagnostics().toString(), success);
+        assertFalse(new File(classes, "sample/TreeDTOAssembler.class").exists());
+    }
+
+    @Test
+    public void processShouldLeaveCachedTransformersToRuntime() throws Exception {
+        // Arrange
+        String transformer = "package sample;\n"
+                + "public class Upper implements br.com.machinae.assemblae.Transformer<String, String> {\n"
+                + "    public String transform(String data) { return data.toUpperCase(); }\n"
+                + "    public String reverse(String data) { return data.toLowerCase(); }\n"
+                + "}\n";
+        String model = "package sample;\n"
+                + "public class Tag {\n"
+                + "    public String getName() { return null; }\n"
+                + "}\n";
+        String dto = "package sample;\n"
+                + "import br.com.machinae.assemblae.annotation.*;\n"
+                + "@DataTransferObject(model = Tag.class)\n"
+                + "public class TagDTO {\n"
+                + "    @MappedProperty(to = \"name\", transformer = Upper.class, cached = true) private String label;\n"
+                + "    public void setLabel(String label) { this.label = label; }\n"
+                + "}\n";
+
+        // Act
+        boolean success = compile(transformer, model, dto);
+
+        // Assert
+        assertTrue(diagnostics.getDiagnostics().toString(), success);
+        assertFalse(new File(classes, "sample/TagDTOAssembler.class").exists());
+    }
+
+    @Test
+    public void processShouldLeaveConstructorDTOsToRuntime() throws Exception {
+        // Arrange
+        String dto = "package sample;\n"
+                + "import br.com.machinae.assemblae.annotation.*;\n"
+                + "@DataTransferObject(model = Model.class)\n"
+                + "public class ImmutableDTO {\n"
+                + "    private final Integer id;\n"
+                + "    @java.beans.ConstructorProperties({\"id\"}) public ImmutableDTO(Integer id) { this.id = id; }\n"
+                + "    public Integer getId() { return id; }\n"
+                + "}\n";
+
+        // Act
+        boolean success = compile(MODEL, dto);
+
+        // Assert
+        assertTrue(diagnostics.getDiagnostics().toString(), success);
+        assertFalse(new File(classes, "sample/ImmutableDTOAssembler.class").exists());
+    }
+
+    @Test
+    public void processShouldFailForUnknownModelProperty() throws Exception {
+        // Arrange
+        String dto = "package sample;\n"
+                + "import br.com.machinae.assemblae.annotation.*;\n"
+                + "@DataTransferObject(model = Model.class)\n"
+                + "public class ModelDTO {\n"
+                + "    @MappedProperty(to = \"unknown\") private String label;\n"
+                + "    public void setLabel(String label) { }\n"
+                + "}\n";
+
+        // Act
+        boolean success = compile(MODEL, dto);
+
+        // Assert
+        assertFalse(success);
+        assertTrue(hasError("Unknown property 'unknown' on model sample.Model"));
+    }
+
+    @Test
+    public void processShouldFailForIncompatibleTypesWithoutTransformer() throws Exception {
+        // Arrange
+        String dto = "package sample;\n"
+                + "import br.com.machinae.assemblae.annotation.*;\n"
+                + "@DataTransferObject(model = Model.class)\n"
+                + "public class ModelDTO {\n"
+                + "    private String id;\n"
+                + "    public void setId(String id) { }\n"
+                + "}\n";
+
+        // Act
+        boolean success = compile(MODEL, dto);
+
+        // Assert
+        assertFalse(success);
+        assertTrue(hasError("can not be assigned"));
+    }
+
+    @Test
+    public void processShouldFailForPrimitiveWideningWithoutTransformer() throws Exception {
+        // Arrange
+        String model = "package sample;\n"
+                + "public class Counter {\n"
+                + "    public int getCount() { return 1; }\n"
+                + "}\n";
+        String dto = "package sample;\n"
+                + "import br.com.machinae.assemblae.annotation.*;\n"
+                + "@DataTransferObject(model = Counter.class)\n"
+                + "public class CounterDTO {\n"
+                + "    private long count;\n"
+                + "    public void setCount(long count) { }\n"
+                + "}\n";
+
+        // Act
+        boolean success = compile(model, dto);
+
+        // Assert
+        assertFalse(success);
+        assertTrue(hasError("can not be assigned"));
+    }
+
+    @Test
+    public void processShouldCheckUnboxedValues() throws Exception {
+        // Arrange
+        String dto = "package sample;\n"
+                + "import br.com.machinae.assemblae.annotation.*;\n"
+                + "@DataTransferObject(model = Model.class)\n"
+                + "public class ModelDTO {\n"
+                + "    private int id;\n"
+                + "    public void setId(int id) { }\n"
+                + "}\n";
+
+        // Act
+        boolean success = compile(MODEL, dto);
+
+        // Assert
+        assertTrue(diagnostics.getDiagnostics().toString(), success);
+        String source = new String(Files.readAllBytes(new File(classes, "sample/ModelDTOAssembler.java").toPath()), "UTF-8");
+        assertTrue(source, source.contains("int result = (java.lang.Integer) assignable(value, java.lang.Integer.class, true, dto, \"id\");"));
+    }
+
+    @Test
+    public void processShouldIgnoreDTOWithoutModel() throws Exception {
+        // Arrange
+        String dto = "package sample;\n"
+                + "import br.com.machinae.assemblae.annotation.*;\n"
+                + "@DataTransferObject\n"
+                + "public class ModelDTO {\n"
+                + "    private String unknown;\n"
+                + "}\n";
+
+        // Act
+        boolean success = compile(MODEL, dto);
+
+        // Assert
+        assertTrue(diagnostics.getDiagnostics().toString(), success);
+        assertFalse(new File(classes, AssemblaeProcessor.SERVICE_FILE).exists());
+    }
+
+    private boolean compile(String... sourceCodes) throws IOException {
+        List<File> files = new ArrayList<File>();
+        for (String sourceCode : sourceCodes) {
+            String declaration = sourceCode.substring(sourceCode.indexOf("public class ") + 13);
+            String name = declaration.substring(0, declaration.indexOf(' '));
+            File file = new File(sources, "sample/" + name + ".java");
+            file.getParentFile().mkdirs();
+            FileWriter writer = new FileWriter(file);
+            writer.write(sourceCode);
+            writer.close();
+            files.add(file);
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null);
+        List<String> options = Arrays.asList("-classpath", System.getProperty("java.class.path"),
+                "-processor", AssemblaeProcessor.class.getName(), "-d", classes.getPath());
+
+        try {
+            return compiler.getTask(null, fileManager, diagnostics, options, null, fileManager.getJavaFileObjectsFromFiles(files)).call();
+        } finally {
+            fileManager.close();
+        }
+    }
+
+    private boolean hasError(String message) {
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics())
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR && diagnostic.getMessage(null).contains(message))
+                return true;
+        return false;
+    }
+}
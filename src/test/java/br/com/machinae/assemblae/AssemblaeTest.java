@@ -1,5 +0,0 @@
-package br.com.machinae.assemblae;
-
-public class AssemblaeTest {
-
-}